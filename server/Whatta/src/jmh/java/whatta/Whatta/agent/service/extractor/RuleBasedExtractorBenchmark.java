@@ -0,0 +1,54 @@
+package whatta.Whatta.agent.service.extractor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import whatta.Whatta.agent.spec.ScheduleExtractionSpec;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//룰 기반 추출 한 건당 비용 (입력은 실제 요청에 가까운 짧은 문장 + 여러 줄 목록)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RuleBasedExtractorBenchmark {
+
+    private static final List<String> INPUTS = List.of(
+            "내일 7시 캡디 회의",
+            "내일 오후6시에 왓타회의 추가",
+            "금요일까지 보고서 제출",
+            "3월 5일 오후 3시 30분 팀 회의",
+            "2026-03-20 15:30 발표 준비",
+            "일주일뒤에 7시에 캡디 과제 제출",
+            "다음주 월요일 회의",
+            "매주 월수 9시 수업",
+            "25일 23시까지 알고리즘 풀기 추가",
+            "오늘 오후 3시, 내일 오전 10시 회의",
+            "- 내일 7시 회의\n- 금요일 과제 제출\n- 3/15 병원 예약",
+            "팀 회고 정리해서 공유하기"
+    );
+
+    private final RuleBasedExtractor ruleBasedExtractor = new RuleBasedExtractor(
+            Clock.fixed(Instant.parse("2026-03-14T15:00:00Z"), ScheduleExtractionSpec.KST_ZONE_ID));
+
+    @Benchmark
+    public void extract(Blackhole blackhole) {
+        for (String input : INPUTS) {
+            blackhole.consume(ruleBasedExtractor.extract(input, input));
+        }
+    }
+
+    @Benchmark
+    public void tokenize(Blackhole blackhole) {
+        for (String input : INPUTS) {
+            blackhole.consume(RuleBasedTokenizer.tokenize(input));
+        }
+    }
+}
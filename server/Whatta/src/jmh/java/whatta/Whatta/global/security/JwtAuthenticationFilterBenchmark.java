@@ -0,0 +1,117 @@
+package whatta.Whatta.global.security;
+
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+//인증된 요청 한 건이 JwtAuthenticationFilter를 지나는 비용
+//- filterWithVerifiedCache: 같은 access token 반복 요청 (서명 검증 생략)
+//- filterWithoutCache: 공유 파서로 매번 서명 검증
+//- parseWithParserPerRequest: 이전 방식 (요청마다 파서 생성 + secret 문자열 디코딩)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("whatta-benchmark-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+    private String token;
+
+    private final FilterChain chain = (req, res) -> {
+    };
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider cachedProvider = new JwtTokenProvider(SECRET, 10_000);
+        cachedFilter = new JwtAuthenticationFilter(cachedProvider);
+        uncachedFilter = new JwtAuthenticationFilter(new JwtTokenProvider(SECRET, 0));
+        token = cachedProvider.createAccessToken("benchmark-user");
+        request = proxy(HttpServletRequest.class, Map.of("Authorization", "Bearer " + token));
+        response = proxy(HttpServletResponse.class, Map.of());
+    }
+
+    @Benchmark
+    public void filterWithVerifiedCache(Blackhole blackhole) throws ServletException, IOException {
+        cachedFilter.doFilter(request, response, chain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void filterWithoutCache(Blackhole blackhole) throws ServletException, IOException {
+        uncachedFilter.doFilter(request, response, chain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public String parseWithParserPerRequest() {
+        return Jwts.parserBuilder()
+                .setSigningKey(SECRET)
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    //서블릿 컨테이너 없이 필터가 쓰는 메서드(헤더/속성)만 흉내 냄
+    private static <T> T proxy(Class<T> type, Map<String, String> headers) {
+        Map<String, Object> attributes = new HashMap<>();
+        Object instance = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) ->
+                switch (method.getName()) {
+                    case "getHeader" -> headers.get((String) args[0]);
+                    case "getAttribute" -> attributes.get((String) args[0]);
+                    case "setAttribute" -> {
+                        attributes.put((String) args[0], args[1]);
+                        yield null;
+                    }
+                    case "removeAttribute" -> {
+                        attributes.remove((String) args[0]);
+                        yield null;
+                    }
+                    case "getDispatcherType" -> DispatcherType.REQUEST;
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "equals" -> self == args[0];
+                    default -> defaultValue(method.getReturnType());
+                });
+        return type.cast(instance);
+    }
+
+    private static Object defaultValue(Class<?> returnType) {
+        if (returnType == boolean.class) {
+            return false;
+        }
+        if (returnType == int.class) {
+            return 0;
+        }
+        if (returnType == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
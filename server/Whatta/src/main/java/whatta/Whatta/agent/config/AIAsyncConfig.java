@@ -1,8 +1,11 @@
 package whatta.Whatta.agent.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.concurrent.Executor;
 
@@ -19,4 +22,10 @@ public class AIAsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    //OpenAI 응답 대기는 netty 이벤트 루프에서 처리하고, 이후 정규화/저장/GCS 같은 blocking 후처리만 aiExecutor로 넘김
+    @Bean(name = "aiScheduler")
+    public Scheduler aiScheduler(@Qualifier("aiExecutor") Executor aiExecutor) {
+        return Schedulers.fromExecutor(aiExecutor);
+    }
 }
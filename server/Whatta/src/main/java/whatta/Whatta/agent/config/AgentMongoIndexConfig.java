@@ -0,0 +1,31 @@
+package whatta.Whatta.agent.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import whatta.Whatta.agent.entity.AiExtractionJob;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AgentMongoIndexConfig {
+
+    private final MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    public void ensureAgentIndexes() {
+        //expiresAt 시각이 지나면 mongo가 작업 문서를 자동 삭제
+        mongoTemplate.indexOps(AiExtractionJob.class).createIndex(
+                new Index()
+                        .on("expiresAt", Sort.Direction.ASC)
+                        .expire(0)
+                        .named("ttl_ai_extraction_job_expires_at")
+        );
+
+        log.info("AiExtractionJob 인덱스 보장: ttl_ai_extraction_job_expires_at");
+    }
+}
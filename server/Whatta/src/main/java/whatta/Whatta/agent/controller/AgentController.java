@@ -5,16 +5,21 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import whatta.Whatta.agent.payload.request.ScheduleExtractionRequest;
 import whatta.Whatta.agent.service.AgentService;
+import whatta.Whatta.agent.service.AiExtractionJobService;
 import whatta.Whatta.global.payload.Response;
 
 import java.util.concurrent.CompletableFuture;
@@ -29,6 +34,7 @@ import java.util.concurrent.CompletableFuture;
 public class AgentController {
 
     private final AgentService agentService;
+    private final AiExtractionJobService aiExtractionJobService;
 
     @PostMapping
     @Operation(summary = "AI 일정/할일 추출", description = "텍스트 또는 이미지를 기반으로 일정/할 일 생성 정보를 추출합니다."
@@ -44,4 +50,34 @@ public class AgentController {
                         response
                 ));
     }
+
+    @PostMapping("/jobs")
+    @Operation(summary = "AI 이미지 일정/할일 추출 작업 등록", description = "이미지 추출을 작업으로 등록하고 jobId를 바로 반환합니다."
+            + "<br> 결과는 작업 조회 또는 SSE 구독으로 받습니다. (결과는 24시간 보관)"
+            + "<br><br> - image.objectKey : GCS 업로드 후 받은 objectKey (필수)"
+            + "<br> - 사용량 초과/요청 과다는 작업을 만들지 않고 바로 오류를 반환")
+    public ResponseEntity<?> submitExtractionJob (@AuthenticationPrincipal String userId,
+                                                  @RequestBody @Validated ScheduleExtractionRequest request) {
+        return Response.ok("success schedule extraction job request",
+                aiExtractionJobService.submit(userId, request));
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "AI 추출 작업 조회", description = "작업 상태(RUNNING | SUCCEEDED | FAILED)와 결과를 조회합니다.")
+    public ResponseEntity<?> getExtractionJob (@AuthenticationPrincipal String userId,
+                                               @PathVariable String jobId) {
+        return Response.ok("success get schedule extraction job",
+                aiExtractionJobService.getJob(userId, jobId));
+    }
+
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "AI 추출 작업 결과 구독", description = "작업 결과를 SSE로 전달합니다."
+            + "<br><br> <b>이벤트</b>"
+            + "<br> - status : 구독 시점의 작업 상태 (이미 끝난 작업이면 생략)"
+            + "<br> - result : 작업 완료(성공/실패) 결과, 전달 후 연결 종료"
+            + "<br> 연결이 끊기거나 시간이 초과되면 다시 구독하거나 작업 조회 API를 사용")
+    public SseEmitter subscribeExtractionJob (@AuthenticationPrincipal String userId,
+                                              @PathVariable String jobId) {
+        return aiExtractionJobService.subscribe(userId, jobId);
+    }
 }
@@ -0,0 +1,36 @@
+package whatta.Whatta.agent.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import whatta.Whatta.agent.enums.AiJobStatus;
+
+import java.time.LocalDateTime;
+
+@Document("ai_extraction_jobs")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder(toBuilder = true)
+public class AiExtractionJob {
+
+    @Id
+    private String id;
+
+    private String userId;
+    private AiJobStatus status;
+
+    private String payload; //성공 시 직렬화된 ScheduleExtractionResponse json
+    private String errorCode;
+    private String errorMessage;
+
+    private LocalDateTime completedAt;
+    private LocalDateTime expiresAt; //TTL 인덱스 대상
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,44 @@
+package whatta.Whatta.agent.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import whatta.Whatta.agent.enums.AiWorkType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+//사용자별 하루 OpenAI 사용량 (LlmUsageRecorder가 모아서 $inc로 반영)
+@Document("llm_daily_usages")
+@CompoundIndex(
+        name = "idx_llm_daily_usage_user_date",
+        def = "{'userId': 1, 'usageDate': -1}"
+)
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder(toBuilder = true)
+public class LlmDailyUsage {
+
+    @Id
+    private String id; //{userId}:{usageDate}:{model}:{requestType}
+
+    private String userId;
+    private LocalDate usageDate;
+    private String model;
+    private AiWorkType requestType;
+
+    private long calls;
+    private long failures;
+    private long inputTokens;
+    private long outputTokens;
+    private long cachedInputTokens;
+    private long reasoningTokens;
+    private long totalLatencyMs;
+
+    private LocalDateTime updatedAt;
+}
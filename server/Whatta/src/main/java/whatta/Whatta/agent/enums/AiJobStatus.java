@@ -0,0 +1,11 @@
+package whatta.Whatta.agent.enums;
+
+public enum AiJobStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this != RUNNING;
+    }
+}
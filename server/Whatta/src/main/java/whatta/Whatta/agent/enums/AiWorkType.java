@@ -0,0 +1,14 @@
+package whatta.Whatta.agent.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+//공정 큐에서 요청 한 건이 차지하는 몫 (이미지 요청은 signed URL, vision 호출, 후처리로 텍스트보다 오래 걸림)
+@Getter
+@RequiredArgsConstructor
+public enum AiWorkType {
+    TEXT(1),
+    IMAGE(3);
+
+    private final int cost;
+}
@@ -0,0 +1,29 @@
+package whatta.Whatta.agent.enums;
+
+import whatta.Whatta.global.exception.ErrorCode;
+import whatta.Whatta.global.exception.RestApiException;
+
+//OpenAI 호출 한 건의 결과 (메트릭 태그 값은 소문자)
+public enum LlmCallOutcome {
+    SUCCESS,
+    TIMEOUT,
+    REJECTED, //동시 호출 한도 초과
+    CANCELLED, //rule 경로가 먼저 확정되어 추측 실행을 취소
+    ERROR;
+
+    public static LlmCallOutcome from(Throwable throwable) {
+        if (throwable instanceof RestApiException restApiException) {
+            if (restApiException.getErrorCode() == ErrorCode.OPENAI_API_TIMEOUT) {
+                return TIMEOUT;
+            }
+            if (restApiException.getErrorCode() == ErrorCode.AI_REQUEST_REJECTED) {
+                return REJECTED;
+            }
+        }
+        return ERROR;
+    }
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,8 @@
+package whatta.Whatta.agent.enums;
+
+//룰 기반 추출이 llm 없이 끝낼 가능성 (추출 전에 입력만 보고 판단)
+public enum RuleConfidence {
+    HIGH, //단일 줄의 짧은 날짜/시간 표현 -> 대부분 rule로 확정
+    MEDIUM, //여러 줄 목록, 반복 표현 -> 줄별/반복 해석 결과에 따라 갈림
+    LOW //모호한 표현, 긴 문장, 날짜 신호 없음 -> 대부분 llm
+}
@@ -1,6 +1,7 @@
 package whatta.Whatta.agent.payload.dto;
 
 import lombok.Builder;
+import whatta.Whatta.event.payload.response.RepeatResponse;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -17,6 +18,7 @@ public record RuleBasedExtractionResult(
         LocalDate deadlineCandidate,
         boolean explicitTaskSignal,
         boolean hasRepeatExpression,
+        RepeatResponse repeatCandidate, //정형화된 반복 표현을 해석한 결과 (해석 못 하면 null)
         String titleHint,
         Map<String, List<String>> warnings,
         boolean ambiguousDate,
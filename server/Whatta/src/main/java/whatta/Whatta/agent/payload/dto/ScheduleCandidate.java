@@ -1,6 +1,7 @@
 package whatta.Whatta.agent.payload.dto;
 
 import lombok.Builder;
+import whatta.Whatta.event.payload.response.RepeatResponse;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -15,6 +16,7 @@ public record ScheduleCandidate(
         LocalTime startTime,
         LocalTime endTime,
         LocalDateTime dueDateTime,
+        RepeatResponse repeat,
         boolean scheduled
 ) {
     public enum CandidateType {
@@ -15,7 +15,9 @@ public record OpenAIRequest(
         Text text,
         @JsonProperty("previous_response_id")
         String previousResponseId,
-        Boolean store
+        Boolean store,
+        @JsonProperty("prompt_cache_key")
+        String promptCacheKey
 ) {
     public record InputMessage(
             String role,
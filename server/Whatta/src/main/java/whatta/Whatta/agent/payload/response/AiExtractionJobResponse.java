@@ -0,0 +1,18 @@
+package whatta.Whatta.agent.payload.response;
+
+import lombok.Builder;
+import whatta.Whatta.agent.enums.AiJobStatus;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record AiExtractionJobResponse(
+        String jobId,
+        AiJobStatus status,
+        ScheduleExtractionResponse result, //SUCCEEDED일 때만
+        String errorCode, //FAILED일 때만
+        String message,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt
+) {
+}
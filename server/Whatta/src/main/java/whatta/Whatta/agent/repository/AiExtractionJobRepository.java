@@ -0,0 +1,7 @@
+package whatta.Whatta.agent.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import whatta.Whatta.agent.entity.AiExtractionJob;
+
+public interface AiExtractionJobRepository extends MongoRepository<AiExtractionJob, String> {
+}
@@ -1,26 +1,38 @@
 package whatta.Whatta.agent.service;
 
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import whatta.Whatta.agent.payload.dto.NormalizedSchedule;
 import whatta.Whatta.agent.payload.request.ScheduleExtractionRequest;
+import whatta.Whatta.agent.payload.response.OpenAIScheduleResponse;
 import whatta.Whatta.agent.payload.response.ScheduleExtractionResponse;
 import whatta.Whatta.agent.service.extractor.LLMExtractor;
 import whatta.Whatta.agent.service.normalizer.AgentPostNormalizer;
 import whatta.Whatta.agent.service.normalizer.AgentPreNormalizer;
+import whatta.Whatta.agent.spec.ScheduleExtractionSpec;
 import whatta.Whatta.agent.util.ScheduleExtractionResultMessage;
 import whatta.Whatta.global.exception.ErrorCode;
 import whatta.Whatta.global.exception.RestApiException;
+import whatta.Whatta.image.enums.StorageCleanupReason;
 import whatta.Whatta.image.service.ImageStorageService;
 
 import java.time.Duration;
-import java.util.concurrent.CompletableFuture;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
+//OpenAI 응답을 기다리는 동안에는 스레드를 점유하지 않고, 앞뒤의 blocking 작업(signed URL, 후처리)만 aiScheduler에서 실행
+//업로드 객체 삭제는 정리 큐에 넣기만 함 (실패한 요청은 재시도할 수 있도록 유예 후 삭제)
 @Component
-@AllArgsConstructor
+@RequiredArgsConstructor
 @Slf4j
 public class AIAsyncProcessor {
 
@@ -30,43 +42,109 @@ public class AIAsyncProcessor {
     private final LLMExtractor llmExtractor;
     private final AgentPostNormalizer agentPostNormalizer;
     private final ImageStorageService imageStorageService;
+    private final VisionImagePreprocessor visionImagePreprocessor;
+    private final Scheduler aiScheduler;
+    private final LlmExtractionCache llmExtractionCache;
+    private final ExtractionPathStats extractionPathStats;
 
-    @Async("aiExecutor")
     public CompletableFuture<ScheduleExtractionResponse> processImage(String traceId, String userId, ScheduleExtractionRequest request) {
         long startedAt = System.nanoTime();
+        ScheduleExtractionRequest.ScheduleExtractionForImage image = request.image();
+        String promptText = request.hasText() ? agentPreNormalizer.normalize(request.text()) : null;
+        String uploadedObjectKey = image != null && image.hasObjectKey() ? image.sanitizedObjectKey() : null;
+
+        return Mono.fromCallable(() -> resolveImageUrl(userId, image))
+                .subscribeOn(aiScheduler)
+                .flatMap(imageUrl -> llmExtractor.extractWithImage(userId, promptText, imageUrl, DEFAULT_IMAGE_DETAIL))
+                .publishOn(aiScheduler)
+                .map(result -> agentPostNormalizer.normalizeLlmResponse(result.response()))
+                .doOnNext(items -> imageStorageService.scheduleDelete(userId, uploadedObjectKey, StorageCleanupReason.PROCESSED))
+                .map(this::toResponse)
+                .onErrorMap(RejectedExecutionException.class, e -> new RestApiException(ErrorCode.AI_REQUEST_REJECTED))
+                .doOnError(e -> {
+                    logError(traceId, "IMAGE", startedAt, e);
+                    imageStorageService.scheduleDelete(userId, uploadedObjectKey, StorageCleanupReason.FAILED);
+                })
+                .toFuture();
+    }
+
+    public CompletableFuture<ScheduleExtractionResponse> processTextOnly(String traceId, String userId, String normalizedInput,
+                                                                         Map<String, List<String>> inheritedWarnings) {
+        return startTextOnly(traceId, userId, normalizedInput).toResponse(inheritedWarnings);
+    }
+
+    //llm 요청만 먼저 보내 두고, 경고(rule 추출 결과)는 응답을 정규화할 때 받음
+    //rule 경로가 먼저 확정되면 cancel()로 진행 중인 http 요청을 끊음
+    public PendingTextExtraction startTextOnly(String traceId, String userId, String normalizedInput) {
+        long startedAt = System.nanoTime();
+        LocalDate referenceDate = LocalDate.now(ScheduleExtractionSpec.KST_ZONE_ID);
 
-        try {
-            List<NormalizedSchedule> items = executeImage(userId, request);
-            return CompletableFuture.completedFuture(
-                    ScheduleExtractionResponse.builder()
-                            .message(ScheduleExtractionResultMessage.from(items))
-                            .schedules(items)
-                            .build()
-            );
-        } catch (Exception e) {
-            log.error("[AI_IMAGE_ASYNC][ERROR] traceId={} requestType={} total_latency_ms={} message={}",
-                    traceId,
-                    request.hasImage() ? "IMAGE" : "TEXT_ONLY",
-                    elapsedMillis(startedAt),
-                    e.getMessage(),
-                    e);
-            return CompletableFuture.failedFuture(e);
+        //같은 표현이 이전에 llm을 거쳤다면 기준일만 옮겨서 재사용 (경고/기본값 보정은 현재 요청 기준으로 다시 적용)
+        Optional<OpenAIScheduleResponse> cached = llmExtractionCache.find(normalizedInput, referenceDate);
+        if (cached.isPresent()) {
+            return new PendingTextExtraction(traceId, startedAt, CompletableFuture.completedFuture(cached.get()),
+                    Disposables.disposed(), true);
         }
+
+        CompletableFuture<OpenAIScheduleResponse> llmResponse = new CompletableFuture<>();
+        Disposable subscription = llmExtractor.extractTextOnly(userId, normalizedInput)
+                .publishOn(aiScheduler)
+                .doOnNext(result -> llmExtractionCache.save(normalizedInput, referenceDate, result.response()))
+                .map(OpenAIClient.OpenAIExecutionResult::response)
+                .onErrorMap(RejectedExecutionException.class, e -> new RestApiException(ErrorCode.AI_REQUEST_REJECTED))
+                .subscribe(llmResponse::complete, llmResponse::completeExceptionally, () -> llmResponse.complete(null));
+        return new PendingTextExtraction(traceId, startedAt, llmResponse, subscription, false);
     }
 
-    private List<NormalizedSchedule> executeImage(String userId, ScheduleExtractionRequest request) {
-        ScheduleExtractionRequest.ScheduleExtractionForImage image = request.image();
-        String promptText = request.hasText() ? agentPreNormalizer.normalize(request.text()) : null;
-        String uploadedObjectKey = image != null && image.hasObjectKey() ? image.sanitizedObjectKey() : null;
+    public final class PendingTextExtraction {
 
-        String imageUrl = resolveImageUrl(userId, image);
-        OpenAIClient.OpenAIExecutionResult result = llmExtractor.extractWithImage(promptText, imageUrl, DEFAULT_IMAGE_DETAIL);
-        List<NormalizedSchedule> normalizedSchedules = agentPostNormalizer.normalizeLlmResponse(result.response());
+        private final String traceId;
+        private final long startedAt;
+        private final CompletableFuture<OpenAIScheduleResponse> llmResponse;
+        private final Disposable subscription;
+        private final boolean cacheHit;
 
-        if (uploadedObjectKey != null && !uploadedObjectKey.isBlank()) {
-            imageStorageService.deleteObjectQuietly(userId, uploadedObjectKey);
+        private PendingTextExtraction(String traceId, long startedAt, CompletableFuture<OpenAIScheduleResponse> llmResponse,
+                                      Disposable subscription, boolean cacheHit) {
+            this.traceId = traceId;
+            this.startedAt = startedAt;
+            this.llmResponse = llmResponse;
+            this.subscription = subscription;
+            this.cacheHit = cacheHit;
         }
-        return normalizedSchedules;
+
+        public CompletableFuture<ScheduleExtractionResponse> toResponse(Map<String, List<String>> inheritedWarnings) {
+            if (cacheHit) {
+                log.info("[LLM_CACHE][HIT] traceId={} requestType=TEXT_ONLY", traceId);
+                extractionPathStats.recordLlmCache();
+            } else {
+                extractionPathStats.recordLlm();
+            }
+            return llmResponse
+                    .thenApply(response -> AIAsyncProcessor.this.toResponse(
+                            agentPostNormalizer.normalizeLlmResponse(response, inheritedWarnings)))
+                    .whenComplete((response, e) -> {
+                        if (e != null) {
+                            logError(traceId, "TEXT_ONLY", startedAt, e);
+                        }
+                    });
+        }
+
+        public void cancel() {
+            if (cacheHit) {
+                return;
+            }
+            subscription.dispose();
+            llmResponse.cancel(false);
+            log.info("[AI_SPECULATION][CANCELLED] traceId={} elapsed_ms={}", traceId, elapsedMillis(startedAt));
+        }
+    }
+
+    private ScheduleExtractionResponse toResponse(List<NormalizedSchedule> items) {
+        return ScheduleExtractionResponse.builder()
+                .message(ScheduleExtractionResultMessage.from(items))
+                .schedules(items)
+                .build();
     }
 
     private String resolveImageUrl(String userId, ScheduleExtractionRequest.ScheduleExtractionForImage image) {
@@ -77,7 +155,18 @@ public class AIAsyncProcessor {
         if (objectKey.isBlank()) {
             throw new RestApiException(ErrorCode.INVALID_REQUEST_TEXT);
         }
-        return imageStorageService.createDownloadSignedUrl(userId, objectKey);
+        //줄인 이미지를 직접 넘기고, 가공할 수 없으면 원본 signed URL
+        return visionImagePreprocessor.toDataUrl(userId, objectKey)
+                .orElseGet(() -> imageStorageService.createDownloadSignedUrl(userId, objectKey));
+    }
+
+    private void logError(String traceId, String requestType, long startedAt, Throwable e) {
+        log.error("[AI_ASYNC][ERROR] traceId={} requestType={} total_latency_ms={} message={}",
+                traceId,
+                requestType,
+                elapsedMillis(startedAt),
+                e.getMessage(),
+                e);
     }
 
     private long elapsedMillis(long startedAt) {
@@ -3,24 +3,33 @@ package whatta.Whatta.agent.service;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import whatta.Whatta.agent.enums.AiWorkType;
+import whatta.Whatta.agent.enums.RuleConfidence;
 import whatta.Whatta.agent.payload.dto.NormalizedSchedule;
 import whatta.Whatta.agent.payload.dto.RuleBasedExtractionResult;
 import whatta.Whatta.agent.payload.dto.ScheduleCandidate;
 import whatta.Whatta.agent.payload.request.ScheduleExtractionRequest;
 import whatta.Whatta.agent.payload.response.ScheduleExtractionResponse;
 import whatta.Whatta.agent.service.extractor.RuleBasedExtractor;
-import whatta.Whatta.agent.service.extractor.LLMExtractor;
 import whatta.Whatta.agent.service.normalizer.AgentPostNormalizer;
 import whatta.Whatta.agent.service.normalizer.AgentPreNormalizer;
+import whatta.Whatta.agent.spec.ScheduleExtractionSpec;
 import whatta.Whatta.agent.util.ScheduleExtractionResultMessage;
 import whatta.Whatta.global.exception.ErrorCode;
 import whatta.Whatta.global.exception.RestApiException;
+import whatta.Whatta.image.enums.ImageResultType;
+import whatta.Whatta.image.enums.StorageCleanupReason;
+import whatta.Whatta.image.service.ImageResultCacheService;
+import whatta.Whatta.image.service.ImageStorageService;
 import whatta.Whatta.user.plan.enums.FeatureType;
 import whatta.Whatta.user.plan.service.FeatureUsageService;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.List;
-import java.util.concurrent.RejectedExecutionException;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -28,37 +37,92 @@ import java.util.UUID;
 @AllArgsConstructor
 public class AgentService {
 
+    private static final int MAX_RULE_BASED_LIST_ITEMS = 10;
+
     private final AIAsyncProcessor aiAsyncProcessor;
     private final AgentPreNormalizer agentPreNormalizer;
     private final RuleBasedExtractor ruleBasedExtractor;
     private final ScheduleCandidateResolver scheduleCandidateResolver;
-    private final LLMExtractor llmExtractor;
     private final AgentPostNormalizer agentPostNormalizer;
+    private final ScheduleValidationService scheduleValidationService;
+    private final ExtractionPathStats extractionPathStats;
+    private final ExtractionSpeculationPolicy extractionSpeculationPolicy;
+    private final AiAdmissionQueue aiAdmissionQueue;
     private final FeatureUsageService featureUsageService;
+    private final ImageResultCacheService imageResultCacheService;
+    private final ImageStorageService imageStorageService;
 
     public CompletableFuture<ScheduleExtractionResponse> createSchedules(String userId, ScheduleExtractionRequest request) {
         String traceId = UUID.randomUUID().toString().substring(0, 8);
-        Integer freeCount = featureUsageService.increaseUsageIfAvailableOrThrow(userId, FeatureType.AI_AGENT);
-
         boolean imageRequest = validateAndResolveRequest(request);
 
+        //같은 이미지 재업로드면 vision 호출 없이 이전 결과 반환
+        String imageCacheKey = imageRequest ? resolveImageCacheKey(userId, request) : null;
+        Optional<ScheduleExtractionResponse> cached =
+                imageResultCacheService.find(ImageResultType.AGENT_IMAGE, imageCacheKey, ScheduleExtractionResponse.class);
+        if (cached.isPresent()) {
+            log.info("[AI_IMAGE_CACHE][HIT] traceId={} requestType=IMAGE", traceId);
+            Integer freeCount = featureUsageService.useForCachedResult(userId, FeatureType.AI_AGENT);
+            imageStorageService.scheduleDelete(userId, request.image().sanitizedObjectKey(), StorageCleanupReason.CACHE_HIT);
+            return CompletableFuture.completedFuture(withFreeCount(cached.get(), freeCount));
+        }
+
         CompletableFuture<ScheduleExtractionResponse> responseFuture;
+        Integer freeCount;
 
         if (imageRequest) {
+            //자리를 먼저 확보한 뒤 차감해서 대기열에서 거절된 요청은 횟수를 쓰지 않음
+            AiAdmissionQueue.Ticket ticket = aiAdmissionQueue.admit(userId, AiWorkType.IMAGE);
             try {
-                responseFuture = aiAsyncProcessor.processImage(traceId, userId, request);
-            } catch (RejectedExecutionException e) {
-                log.warn("[AI_IMAGE_ASYNC][REJECTED] traceId={} requestType=IMAGE message={}",
-                        traceId,
-                        e.getMessage(),
-                        e);
-                throw new RestApiException(ErrorCode.AI_REQUEST_REJECTED);
+                freeCount = featureUsageService.increaseUsageIfAvailableOrThrow(userId, FeatureType.AI_AGENT);
+            } catch (RuntimeException e) {
+                ticket.release();
+                throw e;
             }
+            responseFuture = ticket.run(() -> aiAsyncProcessor.processImage(traceId, userId, request))
+                    .thenApply(response -> {
+                        imageResultCacheService.save(ImageResultType.AGENT_IMAGE, imageCacheKey, response);
+                        return response;
+                    });
         } else {
-            responseFuture = CompletableFuture.completedFuture(processTextOnly(traceId, userId, request));
+            //텍스트는 rule 경로로 끝나는 경우가 많아 먼저 차감하고, llm 단계에서 거절되면 되돌림
+            freeCount = featureUsageService.increaseUsageIfAvailableOrThrow(userId, FeatureType.AI_AGENT);
+            try {
+                responseFuture = processTextOnly(traceId, userId, request);
+            } catch (RestApiException e) {
+                refundIfRejected(userId, e);
+                throw e;
+            }
+        }
+
+        return responseFuture
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        refundIfRejected(userId, throwable);
+                    }
+                })
+                .thenApply(response -> withFreeCount(response, freeCount));
+    }
+
+    //대기 만료/동시 처리 한도 초과처럼 서버 사정으로 처리하지 못한 요청만 되돌림
+    private void refundIfRejected(String userId, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        if (cause instanceof RestApiException restApiException
+                && restApiException.getErrorCode() == ErrorCode.AI_REQUEST_REJECTED) {
+            featureUsageService.refundUsage(userId, FeatureType.AI_AGENT);
         }
+    }
 
-        return responseFuture.thenApply(response -> withFreeCount(response, freeCount));
+    private String resolveImageCacheKey(String userId, ScheduleExtractionRequest request) {
+        String imageHash = imageStorageService.findContentHash(userId, request.image().sanitizedObjectKey());
+        String promptText = request.hasText() ? agentPreNormalizer.normalize(request.text()) : null;
+        return imageResultCacheService.agentImageContentKey(
+                userId,
+                imageHash,
+                promptText,
+                LocalDate.now(ScheduleExtractionSpec.KST_ZONE_ID)
+        );
     }
 
     private boolean validateAndResolveRequest(ScheduleExtractionRequest request) {
@@ -76,33 +140,90 @@ public class AgentService {
         return true;
     }
 
-    private ScheduleExtractionResponse processTextOnly(String traceId, String userId, ScheduleExtractionRequest request) {
+    private CompletableFuture<ScheduleExtractionResponse> processTextOnly(String traceId, String userId, ScheduleExtractionRequest request) {
         String normalizedInput = agentPreNormalizer.normalize(request.text());
-        RuleBasedExtractionResult extractionResult = ruleBasedExtractor.extract(request.text(), normalizedInput);
-
-        if (shouldUseRuleBasedExtraction(extractionResult)) { //llm으로 넘길지
-            ScheduleCandidate candidate = scheduleCandidateResolver.resolve(extractionResult);
-            if (candidate != null) {
-                List<NormalizedSchedule> normalizedSchedules = List.of(
-                        agentPostNormalizer.normalizeRuleBasedCandidate(candidate, extractionResult.warnings())
-                );
-                return ScheduleExtractionResponse.builder()
-                        .message(ScheduleExtractionResultMessage.from(normalizedSchedules))
-                        .schedules(normalizedSchedules)
-                        .build();
+
+        //rule 확정 여부가 갈리는 구간이면 llm 요청부터 보내 두고 rule을 판정 (rule이 확정하면 llm 요청 취소)
+        //추측 실행은 바로 자리가 있을 때만 (기다려야 하면 rule 판정 후 필요할 때만 대기열에 들어감)
+        RuleConfidence confidence = ruleBasedExtractor.estimateConfidence(normalizedInput);
+        boolean speculative = extractionSpeculationPolicy.shouldSpeculate(confidence);
+        AiAdmissionQueue.Ticket speculativeTicket = speculative
+                ? aiAdmissionQueue.tryAdmitNow(userId, AiWorkType.TEXT).orElse(null)
+                : null;
+        AIAsyncProcessor.PendingTextExtraction pendingLlm =
+                speculativeTicket != null ? aiAsyncProcessor.startTextOnly(traceId, userId, normalizedInput) : null;
+
+        boolean strict = pendingLlm != null;
+        RuleBasedExtractionResult extractionResult;
+        List<NormalizedSchedule> ruleBasedSchedules;
+        try {
+            extractionResult = ruleBasedExtractor.extract(request.text(), normalizedInput);
+            ruleBasedSchedules = extractionResult.hasMultipleItems()
+                    ? resolveRuleBasedListItems(normalizedInput, strict)
+                    : resolveRuleBasedSchedule(extractionResult, strict);
+        } catch (RuntimeException e) {
+            if (pendingLlm != null) { //자리를 계속 잡고 있지 않도록
+                pendingLlm.cancel();
+                speculativeTicket.release();
+            }
+            throw e;
+        }
+        if (ruleBasedSchedules != null) {
+            if (pendingLlm != null) {
+                pendingLlm.cancel();
+                speculativeTicket.release();
+                extractionPathStats.recordSpeculation(true);
             }
+            extractionPathStats.recordRuleBased();
+            return CompletableFuture.completedFuture(ScheduleExtractionResponse.builder()
+                    .message(ScheduleExtractionResultMessage.from(ruleBasedSchedules))
+                    .schedules(ruleBasedSchedules)
+                    .build());
         }
 
-        OpenAIClient.OpenAIExecutionResult rawResponse = llmExtractor.extractTextOnly(normalizedInput);
-        List<NormalizedSchedule> normalizedSchedules = agentPostNormalizer.normalizeLlmResponse(
-                rawResponse.response(),
-                extractionResult.warnings()
-        );
+        if (pendingLlm != null) {
+            log.info("[AI_SPECULATION][LLM_WON] traceId={} confidence={}", traceId, confidence);
+            extractionPathStats.recordSpeculation(false);
+            return speculativeTicket.run(() -> pendingLlm.toResponse(extractionResult.warnings()));
+        }
 
-        return ScheduleExtractionResponse.builder()
-                .message(ScheduleExtractionResultMessage.from(normalizedSchedules))
-                .schedules(normalizedSchedules)
-                .build();
+        //llm 응답을 기다리는 동안 요청 스레드를 잡고 있지 않음
+        return aiAdmissionQueue.admit(userId, AiWorkType.TEXT)
+                .run(() -> aiAsyncProcessor.processTextOnly(traceId, userId, normalizedInput, extractionResult.warnings()));
+    }
+
+    //strict면 llm 결과를 버리는 대신이므로 반복 여부와 관계없이 후보를 항상 검증
+    private List<NormalizedSchedule> resolveRuleBasedSchedule(RuleBasedExtractionResult extractionResult, boolean strict) {
+        if (!shouldUseRuleBasedExtraction(extractionResult)) { //llm으로 넘길지
+            return null;
+        }
+        ScheduleCandidate candidate = scheduleCandidateResolver.resolve(extractionResult);
+        if (candidate == null) {
+            return null;
+        }
+        if ((strict || candidate.repeat() != null) && !scheduleValidationService.isValidRuleBasedCandidate(candidate)) {
+            return null;
+        }
+        return List.of(agentPostNormalizer.normalizeRuleBasedCandidate(candidate, extractionResult.warnings()));
+    }
+
+    //여러 줄 목록은 줄마다 rule로 확정하고, 하나라도 확정하지 못하면 전체를 llm으로 넘김
+    private List<NormalizedSchedule> resolveRuleBasedListItems(String normalizedInput, boolean strict) {
+        List<String> items = ruleBasedExtractor.splitListItems(normalizedInput);
+        if (items.size() < 2 || items.size() > MAX_RULE_BASED_LIST_ITEMS) {
+            return null;
+        }
+
+        List<NormalizedSchedule> normalizedSchedules = new ArrayList<>(items.size());
+        for (String item : items) {
+            RuleBasedExtractionResult itemResult = ruleBasedExtractor.extract(item, item);
+            List<NormalizedSchedule> resolved = itemResult.hasMultipleItems() ? null : resolveRuleBasedSchedule(itemResult, strict);
+            if (resolved == null) {
+                return null;
+            }
+            normalizedSchedules.addAll(resolved);
+        }
+        return normalizedSchedules;
     }
 
     private ScheduleExtractionResponse withFreeCount(ScheduleExtractionResponse response, Integer freeCount) {
@@ -120,7 +241,7 @@ public class AgentService {
         if (extractionResult.hasMultipleItems() || extractionResult.ambiguousDate() || extractionResult.ambiguousTime()) {
             return false;
         }
-        if (extractionResult.hasRepeatExpression()) {
+        if (extractionResult.hasRepeatExpression() && extractionResult.repeatCandidate() == null) {
             return false;
         }
         if (extractionResult.titleHint() == null || extractionResult.titleHint().isBlank()) {
@@ -131,7 +252,7 @@ public class AgentService {
         }
 
         boolean hasSimpleTaskSignal = extractionResult.deadlineCandidate() != null || extractionResult.explicitTaskSignal();
-        boolean hasSimpleEventSignal = extractionResult.hasSingleDate();
+        boolean hasSimpleEventSignal = extractionResult.hasSingleDate() || extractionResult.repeatCandidate() != null;
         boolean hasRecoverableInputWarning = extractionResult.warnings() != null && !extractionResult.warnings().isEmpty();
         return hasSimpleTaskSignal || hasSimpleEventSignal || hasRecoverableInputWarning;
     }
@@ -0,0 +1,265 @@
+package whatta.Whatta.agent.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import whatta.Whatta.agent.enums.AiWorkType;
+import whatta.Whatta.global.exception.ErrorCode;
+import whatta.Whatta.global.exception.RetryableRestApiException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+//AIAsyncProcessor 앞에서 동시에 처리할 AI 요청 수를 제한
+//- 사용자별 진행 중(대기 포함) 요청 수 제한: 한 사용자가 이미지 요청을 연달아 보내도 큐를 독점하지 못함
+//- 대기열은 사용자별 가상 시간(start-time fair queuing) 순서로 꺼냄: 요청이 많은 사용자일수록 뒤로 밀림
+//- 거절할 때는 평균 처리 시간으로 대기 시간을 추정해서 Retry-After로 알려줌
+@Slf4j
+@Component
+public class AiAdmissionQueue {
+
+    @Value("${ai.admission.max-concurrent:8}")
+    private int maxConcurrent;
+
+    @Value("${ai.admission.per-user-max-in-flight:2}")
+    private int perUserMaxInFlight;
+
+    @Value("${ai.admission.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${ai.admission.max-wait-ms:20000}")
+    private long maxWaitMs;
+
+    //처리 시간 기록이 쌓이기 전 대기 시간 추정에 쓰는 값
+    @Value("${ai.admission.initial-service-ms:3000}")
+    private long initialServiceMs;
+
+    private final PriorityQueue<Ticket> waiting = new PriorityQueue<>(
+            Comparator.comparingDouble((Ticket ticket) -> ticket.startTag).thenComparingLong(ticket -> ticket.sequence));
+    private final Map<String, UserState> users = new HashMap<>();
+    private double virtualTime;
+    private long sequence;
+    private int running;
+    private double averageServiceMs = -1;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder rejectedUserLimit = new LongAdder();
+    private final LongAdder rejectedQueueFull = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder waitMillis = new LongAdder();
+    private int maxQueueDepth;
+
+    //자리가 나면 실행되는 티켓을 발급 (대기열에 넣을 수 없으면 즉시 거절)
+    public Ticket admit(String userId, AiWorkType workType) {
+        Ticket ticket;
+        List<Ticket> granted;
+        synchronized (this) {
+            UserState user = users.computeIfAbsent(userId, id -> new UserState());
+            if (user.inFlight >= perUserMaxInFlight) {
+                rejectedUserLimit.increment();
+                throw rejected(userId, "USER_LIMIT", user.inFlight);
+            }
+            if (waiting.size() >= queueCapacity) {
+                rejectedQueueFull.increment();
+                throw rejected(userId, "QUEUE_FULL", waiting.size());
+            }
+
+            ticket = newTicketLocked(userId, user, workType);
+            waiting.add(ticket);
+            maxQueueDepth = Math.max(maxQueueDepth, waiting.size());
+            granted = dispatchLocked();
+        }
+        complete(granted);
+
+        if (!ticket.granted.isDone()) {
+            queued.increment();
+            CompletableFuture.delayedExecutor(maxWaitMs, TimeUnit.MILLISECONDS).execute(() -> expire(ticket));
+        }
+        admitted.increment();
+        return ticket;
+    }
+
+    //지금 바로 자리가 있을 때만 발급 (추측 실행처럼 대기할 가치가 없는 작업용)
+    public Optional<Ticket> tryAdmitNow(String userId, AiWorkType workType) {
+        synchronized (this) {
+            UserState user = users.get(userId);
+            if ((user != null && user.inFlight >= perUserMaxInFlight) || running >= maxConcurrent || !waiting.isEmpty()) {
+                return Optional.empty();
+            }
+            Ticket ticket = newTicketLocked(userId, users.computeIfAbsent(userId, id -> new UserState()), workType);
+            grantLocked(ticket);
+            ticket.granted.complete(null);
+            admitted.increment();
+            return Optional.of(ticket);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ai.admission.stats-log-interval-ms:600000}")
+    public void logStats() {
+        long admittedCount = admitted.sumThenReset();
+        long queuedCount = queued.sumThenReset();
+        long rejectedUserLimitCount = rejectedUserLimit.sumThenReset();
+        long rejectedQueueFullCount = rejectedQueueFull.sumThenReset();
+        long expiredCount = expired.sumThenReset();
+        long waitMillisTotal = waitMillis.sumThenReset();
+        if (admittedCount + rejectedUserLimitCount + rejectedQueueFullCount == 0) {
+            return;
+        }
+
+        int runningNow;
+        int waitingNow;
+        int maxDepth;
+        synchronized (this) {
+            runningNow = running;
+            waitingNow = waiting.size();
+            maxDepth = maxQueueDepth;
+            maxQueueDepth = waitingNow;
+        }
+        log.info("[AI_ADMISSION][STATS] admitted={} queued={} rejectedUserLimit={} rejectedQueueFull={} expired={} "
+                        + "avgQueueWaitMs={} maxQueueDepth={} running={} waiting={}",
+                admittedCount, queuedCount, rejectedUserLimitCount, rejectedQueueFullCount, expiredCount,
+                queuedCount == 0 ? 0 : waitMillisTotal / queuedCount, maxDepth, runningNow, waitingNow);
+    }
+
+    private Ticket newTicketLocked(String userId, UserState user, AiWorkType workType) {
+        //사용자의 직전 요청이 끝나는 가상 시각 이후에 시작 -> 요청이 몰린 사용자는 뒤로 밀림
+        double startTag = Math.max(virtualTime, user.lastFinishTag);
+        user.lastFinishTag = startTag + workType.getCost();
+        user.inFlight++;
+        return new Ticket(userId, startTag, sequence++);
+    }
+
+    private List<Ticket> dispatchLocked() {
+        List<Ticket> granted = new ArrayList<>();
+        while (running < maxConcurrent && !waiting.isEmpty()) {
+            Ticket ticket = waiting.poll();
+            grantLocked(ticket);
+            granted.add(ticket);
+        }
+        return granted;
+    }
+
+    private void grantLocked(Ticket ticket) {
+        running++;
+        virtualTime = Math.max(virtualTime, ticket.startTag);
+        ticket.state = TicketState.RUNNING;
+        ticket.grantedAt = System.nanoTime();
+    }
+
+    //완료 콜백에서 바로 다음 AI 호출이 시작되므로 락 밖에서 완료시킴
+    private void complete(List<Ticket> granted) {
+        for (Ticket ticket : granted) {
+            waitMillis.add(TimeUnit.NANOSECONDS.toMillis(ticket.grantedAt - ticket.createdAt));
+            ticket.granted.complete(null);
+        }
+    }
+
+    private void expire(Ticket ticket) {
+        synchronized (this) {
+            if (ticket.state != TicketState.WAITING) {
+                return;
+            }
+            waiting.remove(ticket);
+            finishLocked(ticket);
+        }
+        expired.increment();
+        log.warn("[AI_ADMISSION][EXPIRED] userId={} waitedMs={}", ticket.userId, maxWaitMs);
+        ticket.granted.completeExceptionally(
+                new RetryableRestApiException(ErrorCode.AI_REQUEST_REJECTED, retryAfterSeconds(waitingSize())));
+    }
+
+    private void release(Ticket ticket) {
+        List<Ticket> granted;
+        synchronized (this) {
+            if (ticket.state == TicketState.RELEASED) {
+                return;
+            }
+            if (ticket.state == TicketState.RUNNING) {
+                running--;
+                recordServiceTimeLocked(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ticket.grantedAt));
+            } else {
+                waiting.remove(ticket);
+            }
+            finishLocked(ticket);
+            granted = dispatchLocked();
+        }
+        complete(granted);
+    }
+
+    private void finishLocked(Ticket ticket) {
+        ticket.state = TicketState.RELEASED;
+        UserState user = users.get(ticket.userId);
+        if (user != null && --user.inFlight <= 0) {
+            users.remove(ticket.userId);
+        }
+    }
+
+    private void recordServiceTimeLocked(long serviceMs) {
+        averageServiceMs = averageServiceMs < 0 ? serviceMs : averageServiceMs * 0.9 + serviceMs * 0.1;
+    }
+
+    private synchronized int waitingSize() {
+        return waiting.size();
+    }
+
+    private RetryableRestApiException rejected(String userId, String reason, int depth) {
+        long retryAfterSeconds = retryAfterSeconds(waiting.size());
+        log.warn("[AI_ADMISSION][REJECTED] userId={} reason={} depth={} running={} retryAfterSeconds={}",
+                userId, reason, depth, running, retryAfterSeconds);
+        return new RetryableRestApiException(ErrorCode.AI_REQUEST_REJECTED, retryAfterSeconds);
+    }
+
+    //앞선 대기 요청이 동시 처리 슬롯에서 빠지는 데 걸리는 시간 (최소 1초)
+    long retryAfterSeconds(int waitingAhead) {
+        double serviceMs = averageServiceMs < 0 ? initialServiceMs : averageServiceMs;
+        long rounds = waitingAhead / Math.max(maxConcurrent, 1) + 1;
+        return Math.max(1, (long) Math.ceil(rounds * serviceMs / 1000.0));
+    }
+
+    private enum TicketState {
+        WAITING, RUNNING, RELEASED
+    }
+
+    private static final class UserState {
+        private int inFlight;
+        private double lastFinishTag;
+    }
+
+    public final class Ticket {
+
+        private final String userId;
+        private final double startTag;
+        private final long sequence;
+        private final long createdAt = System.nanoTime();
+        private final CompletableFuture<Void> granted = new CompletableFuture<>();
+        private TicketState state = TicketState.WAITING;
+        private long grantedAt;
+
+        private Ticket(String userId, double startTag, long sequence) {
+            this.userId = userId;
+            this.startTag = startTag;
+            this.sequence = sequence;
+        }
+
+        //자리를 받으면 작업을 시작하고, 작업이 끝나거나(실패 포함) 대기 중 만료되면 자리를 반납
+        public <T> CompletableFuture<T> run(Supplier<CompletableFuture<T>> work) {
+            return granted.thenCompose(ignored -> work.get())
+                    .whenComplete((result, throwable) -> release());
+        }
+
+        public void release() {
+            AiAdmissionQueue.this.release(this);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package whatta.Whatta.agent.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import whatta.Whatta.agent.entity.AiExtractionJob;
+import whatta.Whatta.agent.enums.AiJobStatus;
+import whatta.Whatta.agent.payload.request.ScheduleExtractionRequest;
+import whatta.Whatta.agent.payload.response.AiExtractionJobResponse;
+import whatta.Whatta.agent.payload.response.ScheduleExtractionResponse;
+import whatta.Whatta.agent.repository.AiExtractionJobRepository;
+import whatta.Whatta.global.exception.ErrorCode;
+import whatta.Whatta.global.exception.RestApiException;
+import whatta.Whatta.user.plan.enums.FeatureType;
+import whatta.Whatta.user.plan.service.FeatureUsageService;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+//이미지 추출을 작업으로 등록하고 바로 jobId를 돌려줌 (vision 호출 동안 http 연결을 붙잡지 않음)
+//- 작업 상태/결과는 mongo에 저장해서 재접속하거나 다른 인스턴스로 붙어도 조회 가능
+//- SSE 구독자는 같은 인스턴스에서 끝나면 바로, 다른 인스턴스에서 끝나면 주기적 조회로 결과를 받음
+//- 처리하던 인스턴스가 재시작되어 RUNNING으로 남은 작업은 일정 시간이 지나면 중단(FAILED)으로 정리
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AiExtractionJobService {
+
+    private final AgentService agentService;
+    private final AiExtractionJobRepository aiExtractionJobRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final FeatureUsageService featureUsageService;
+
+    @Value("${ai.job.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${ai.job.sse-timeout-seconds:60}")
+    private long sseTimeoutSeconds;
+
+    //대기열 대기 + vision 호출 시간보다 충분히 길게
+    @Value("${ai.job.stale-after-seconds:300}")
+    private long staleAfterSeconds;
+
+    private final Map<String, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    public AiExtractionJobResponse submit(String userId, ScheduleExtractionRequest request) {
+        if (request == null || !request.hasImage()) {
+            throw new RestApiException(ErrorCode.INVALID_REQUEST_TEXT);
+        }
+
+        //완료 콜백이 저장보다 먼저 실행되지 않도록 작업 문서부터 만듦
+        //id를 미리 정해서 저장하면 auditing이 새 문서로 보지 않아 @CreatedDate가 채워지지 않음 -> 직접 설정
+        LocalDateTime now = LocalDateTime.now();
+        AiExtractionJob job = aiExtractionJobRepository.save(AiExtractionJob.builder()
+                .id(UUID.randomUUID().toString())
+                .userId(userId)
+                .status(AiJobStatus.RUNNING)
+                .createdAt(now)
+                .expiresAt(now.plusHours(ttlHours))
+                .build());
+
+        //사용량 초과/대기열 거절은 작업을 만들지 않고 바로 응답
+        CompletableFuture<ScheduleExtractionResponse> future;
+        try {
+            future = agentService.createSchedules(userId, request);
+        } catch (RuntimeException e) {
+            aiExtractionJobRepository.deleteById(job.getId());
+            throw e;
+        }
+        log.info("[AI_JOB][SUBMITTED] jobId={} userId={}", job.getId(), userId);
+
+        future.whenComplete((response, throwable) -> finish(job.getId(), response, throwable));
+        return future.isDone() ? getJob(userId, job.getId()) : toResponse(job);
+    }
+
+    public AiExtractionJobResponse getJob(String userId, String jobId) {
+        return toResponse(findJob(userId, jobId));
+    }
+
+    //현재 상태를 "status"로 먼저 보내고, 끝나면 "result"를 보내고 닫음
+    public SseEmitter subscribe(String userId, String jobId) {
+        AiExtractionJob job = findJob(userId, jobId);
+        SseEmitter emitter = new SseEmitter(TimeUnit.SECONDS.toMillis(sseTimeoutSeconds));
+        if (job.getStatus().isFinished()) {
+            sendResult(emitter, toResponse(job));
+            return emitter;
+        }
+
+        List<SseEmitter> emitters = subscribers.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>());
+        emitters.add(emitter);
+        Runnable unsubscribe = () -> emitters.remove(emitter);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(throwable -> unsubscribe.run());
+        send(emitter, "status", toResponse(job));
+
+        //조회와 등록 사이에 끝난 작업은 여기서 전달
+        aiExtractionJobRepository.findById(jobId)
+                .filter(latest -> latest.getStatus().isFinished())
+                .ifPresent(this::publish);
+        return emitter;
+    }
+
+    //다른 인스턴스에서 끝났거나 중단된 작업을 구독 중인 클라이언트에 전달
+    @Scheduled(fixedDelayString = "${ai.job.sse-poll-interval-ms:2000}")
+    public void pollSubscribedJobs() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        for (AiExtractionJob job : aiExtractionJobRepository.findAllById(new ArrayList<>(subscribers.keySet()))) {
+            AiExtractionJob latest = interruptIfStale(job);
+            if (latest.getStatus().isFinished()) {
+                publish(latest);
+            }
+        }
+    }
+
+    private AiExtractionJob findJob(String userId, String jobId) {
+        return aiExtractionJobRepository.findById(jobId)
+                .filter(job -> job.getUserId().equals(userId))
+                .map(this::interruptIfStale)
+                .orElseThrow(() -> new RestApiException(ErrorCode.AI_JOB_NOT_FOUND));
+    }
+
+    private void finish(String jobId, ScheduleExtractionResponse response, Throwable throwable) {
+        Update update = new Update()
+                .set("completedAt", LocalDateTime.now())
+                .set("expiresAt", LocalDateTime.now().plusHours(ttlHours));
+        String payload = throwable == null ? writePayload(jobId, response) : null;
+        if (payload != null) {
+            update.set("status", AiJobStatus.SUCCEEDED).set("payload", payload);
+        } else {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause() : throwable;
+            ErrorCode errorCode = cause instanceof RestApiException restApiException
+                    ? restApiException.getErrorCode() : ErrorCode.OPENAI_API_FAILED;
+            update.set("status", AiJobStatus.FAILED)
+                    .set("errorCode", errorCode.getCode())
+                    .set("errorMessage", errorCode.getMessage());
+        }
+
+        AiExtractionJob finished = completeIfRunning(jobId, update);
+        if (finished == null) { //이미 중단 처리됐거나 TTL로 삭제됨
+            log.warn("[AI_JOB][FINISH_SKIPPED] jobId={}", jobId);
+            return;
+        }
+        log.info("[AI_JOB][FINISHED] jobId={} status={}", jobId, finished.getStatus());
+        publish(finished);
+    }
+
+    private AiExtractionJob interruptIfStale(AiExtractionJob job) {
+        if (!isStale(job, LocalDateTime.now(), staleAfterSeconds, ttlHours)) {
+            return job;
+        }
+
+        AiExtractionJob interrupted = completeIfRunning(job.getId(), new Update()
+                .set("status", AiJobStatus.FAILED)
+                .set("errorCode", ErrorCode.AI_JOB_INTERRUPTED.getCode())
+                .set("errorMessage", ErrorCode.AI_JOB_INTERRUPTED.getMessage())
+                .set("completedAt", LocalDateTime.now()));
+        if (interrupted == null) { //그 사이 끝났으면 최신 상태
+            return aiExtractionJobRepository.findById(job.getId()).orElse(job);
+        }
+
+        //서버 사정으로 결과를 못 준 작업이므로 같은 날이면 사용 횟수를 되돌림
+        log.warn("[AI_JOB][INTERRUPTED] jobId={} userId={}", job.getId(), job.getUserId());
+        if (startedAt(job, ttlHours).toLocalDate().equals(LocalDate.now())) {
+            featureUsageService.refundUsage(job.getUserId(), FeatureType.AI_AGENT);
+        }
+        return interrupted;
+    }
+
+    //RUNNING인 채로 staleAfterSeconds가 지난 작업
+    static boolean isStale(AiExtractionJob job, LocalDateTime now, long staleAfterSeconds, long ttlHours) {
+        if (job.getStatus().isFinished()) {
+            return false;
+        }
+        LocalDateTime startedAt = startedAt(job, ttlHours);
+        return startedAt != null && !startedAt.isAfter(now.minusSeconds(staleAfterSeconds));
+    }
+
+    //createdAt 없이 저장된 이전 문서는 등록 시 설정한 expiresAt(등록 시각 + ttl)으로 계산
+    private static LocalDateTime startedAt(AiExtractionJob job, long ttlHours) {
+        if (job.getCreatedAt() != null) {
+            return job.getCreatedAt();
+        }
+        return job.getExpiresAt() == null ? null : job.getExpiresAt().minusHours(ttlHours);
+    }
+
+    //RUNNING -> 완료 전환은 한 번만 (완료 콜백과 중단 처리가 겹쳐도 먼저 바꾼 쪽만 반영)
+    private AiExtractionJob completeIfRunning(String jobId, Update update) {
+        Query query = Query.query(Criteria.where("_id").is(jobId).and("status").is(AiJobStatus.RUNNING));
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), AiExtractionJob.class);
+    }
+
+    private void publish(AiExtractionJob job) {
+        List<SseEmitter> emitters = subscribers.remove(job.getId());
+        if (emitters == null) {
+            return;
+        }
+        AiExtractionJobResponse response = toResponse(job);
+        emitters.forEach(emitter -> sendResult(emitter, response));
+    }
+
+    private void sendResult(SseEmitter emitter, AiExtractionJobResponse response) {
+        if (send(emitter, "result", response)) {
+            emitter.complete();
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String name, AiExtractionJobResponse response) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(response, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            //연결이 끊겨도 결과는 저장되어 있으므로 다시 조회하면 됨
+            log.warn("[AI_JOB][SEND_FAILED] jobId={} event={} message={}", response.jobId(), name, e.getMessage());
+            return false;
+        }
+    }
+
+    private AiExtractionJobResponse toResponse(AiExtractionJob job) {
+        return AiExtractionJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .result(job.getStatus() == AiJobStatus.SUCCEEDED ? readPayload(job) : null)
+                .errorCode(job.getErrorCode())
+                .message(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+    private String writePayload(String jobId, ScheduleExtractionResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (Exception e) {
+            log.warn("[AI_JOB][WRITE][ERROR] jobId={} message={}", jobId, e.getMessage());
+            return null;
+        }
+    }
+
+    private ScheduleExtractionResponse readPayload(AiExtractionJob job) {
+        try {
+            return objectMapper.readValue(job.getPayload(), ScheduleExtractionResponse.class);
+        } catch (Exception e) {
+            log.warn("[AI_JOB][READ][ERROR] jobId={} message={}", job.getId(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package whatta.Whatta.agent.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+//텍스트 요청 중 llm 호출 없이 처리된 비율(rule 경로 + llm 캐시)을 주기적으로 기록
+@Slf4j
+@Component
+public class ExtractionPathStats {
+
+    private final LongAdder ruleBased = new LongAdder();
+    private final LongAdder llmCache = new LongAdder();
+    private final LongAdder llm = new LongAdder();
+    private final LongAdder speculated = new LongAdder();
+    private final LongAdder speculationCancelled = new LongAdder();
+
+    public void recordRuleBased() {
+        ruleBased.increment();
+    }
+
+    public void recordLlmCache() {
+        llmCache.increment();
+    }
+
+    public void recordLlm() {
+        llm.increment();
+    }
+
+    //rule 판정과 동시에 llm 요청을 시작한 경우 (ruleWon이면 llm 요청을 취소함)
+    public void recordSpeculation(boolean ruleWon) {
+        speculated.increment();
+        if (ruleWon) {
+            speculationCancelled.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${agent.path-stats.log-interval-ms:600000}")
+    public void logStats() {
+        long ruleBasedCount = ruleBased.sumThenReset();
+        long llmCacheCount = llmCache.sumThenReset();
+        long llmCount = llm.sumThenReset();
+        long speculatedCount = speculated.sumThenReset();
+        long speculationCancelledCount = speculationCancelled.sumThenReset();
+        long total = ruleBasedCount + llmCacheCount + llmCount;
+        if (total == 0) {
+            return;
+        }
+        log.info("[AI_PATH][STATS] total={} ruleBased={} llmCache={} llm={} withoutLlmRate={} speculated={} speculationCancelled={}",
+                total, ruleBasedCount, llmCacheCount, llmCount,
+                String.format("%.3f", (double) (ruleBasedCount + llmCacheCount) / total),
+                speculatedCount, speculationCancelledCount);
+    }
+}
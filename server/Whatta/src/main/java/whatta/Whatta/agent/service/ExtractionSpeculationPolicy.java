@@ -0,0 +1,40 @@
+package whatta.Whatta.agent.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import whatta.Whatta.agent.enums.RuleConfidence;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+//어떤 확신 구간의 입력에서 rule 판정과 llm 요청을 동시에 시작할지 결정
+//rule이 이기면 llm 요청은 취소되지만 이미 보낸 요청의 토큰은 과금될 수 있으므로 구간을 설정으로 좁힘
+@Component
+public class ExtractionSpeculationPolicy {
+
+    private final Set<RuleConfidence> bands;
+
+    //예: "MEDIUM", "MEDIUM,LOW", ""(끔)
+    public ExtractionSpeculationPolicy(@Value("${agent.speculation.bands:MEDIUM}") String bands) {
+        this.bands = parseBands(bands);
+    }
+
+    public boolean shouldSpeculate(RuleConfidence confidence) {
+        return confidence != null && bands.contains(confidence);
+    }
+
+    private static Set<RuleConfidence> parseBands(String bands) {
+        Set<RuleConfidence> parsed = EnumSet.noneOf(RuleConfidence.class);
+        if (bands == null || bands.isBlank()) {
+            return parsed;
+        }
+        Arrays.stream(bands.split(","))
+                .map(String::trim)
+                .filter(band -> !band.isEmpty())
+                .map(band -> RuleConfidence.valueOf(band.toUpperCase(Locale.ROOT)))
+                .forEach(parsed::add);
+        return parsed;
+    }
+}
@@ -0,0 +1,215 @@
+package whatta.Whatta.agent.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import whatta.Whatta.agent.payload.response.OpenAIScheduleResponse;
+import whatta.Whatta.global.util.ContentHashUtil;
+import whatta.Whatta.global.util.LocalDateTimeUtil;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+//전처리된 입력이 같으면 llm 결과를 재사용
+//날짜는 기준일로부터의 일수(offset)로 저장해 두고, 꺼낼 때 새 기준일에 다시 붙임
+@Slf4j
+@Component
+public class LlmExtractionCache {
+
+    private static final String CACHE_VERSION = "v1";
+
+    //"지금", "30분 뒤"처럼 현재 시각 기준 표현은 캐시하지 않음
+    private static final Pattern NOW_RELATIVE = Pattern.compile("지금|방금|이따|\\d+\\s*(분|시간)\\s*(뒤|후|있다)");
+    //월/일, 이번 달, 내년 등 달력 위치에 따라 결과가 달라지는 표현은 기준일이 같을 때만 재사용
+    private static final Pattern CALENDAR_ANCHORED = Pattern.compile(
+            "\\d+\\s*월|\\d+\\s*일(?!\\s*(뒤|후|있다|전))|\\d{1,4}\\s*[./-]\\s*\\d{1,2}|(이번|다음|다다음|저번|지난)\\s*달|말일|월말|월초|연말|연초|올해|내년|작년");
+    //요일/주 단위 표현은 기준일의 요일이 같으면 offset이 동일
+    private static final Pattern WEEKDAY_ANCHORED = Pattern.compile(
+            "요일|주말|평일|(이번|다음|다다음|저번|지난)\\s*주");
+    private static final Pattern REQUEST_SUFFIX = Pattern.compile(
+            "\\s*(추가|등록)\\s*(좀\\s*)?해\\s*(줘|주세요|줄래)\\s*[.!?~]*$|\\s*[.!?~]+$");
+
+    @Value("${agent.llm-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${agent.llm-cache.max-entries:2000}")
+    private int maxEntries;
+
+    @Value("${agent.llm-cache.ttl-minutes:720}")
+    private long ttlMinutes;
+
+    @Value("${openai.model}")
+    private String model;
+
+    private final Map<String, CachedResult> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+
+    public Optional<OpenAIScheduleResponse> find(String normalizedInput, LocalDate referenceDate) {
+        String key = buildKey(normalizedInput, referenceDate);
+        if (key == null) {
+            bypasses.increment();
+            return Optional.empty();
+        }
+
+        CachedResult cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+            if (cached != null && cached.expiresAt().isBefore(LocalDateTime.now())) {
+                entries.remove(key);
+                cached = null;
+            }
+        }
+        if (cached == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(reanchor(cached.items(), referenceDate));
+    }
+
+    public void save(String normalizedInput, LocalDate referenceDate, OpenAIScheduleResponse response) {
+        String key = buildKey(normalizedInput, referenceDate);
+        if (key == null || response == null || response.items() == null) {
+            return;
+        }
+
+        List<RelativeItem> items = toRelative(response, referenceDate);
+        if (items == null) {
+            return;
+        }
+        CachedResult cached = new CachedResult(items, LocalDateTime.now().plus(Duration.ofMinutes(ttlMinutes)));
+        synchronized (entries) {
+            entries.put(key, cached);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${agent.llm-cache.stats-log-interval-ms:600000}")
+    public void logStats() {
+        long hitCount = hits.sumThenReset();
+        long missCount = misses.sumThenReset();
+        long bypassCount = bypasses.sumThenReset();
+        if (hitCount + missCount + bypassCount == 0) {
+            return;
+        }
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        log.info("[LLM_CACHE][STATS] hits={} misses={} bypasses={} hitRate={} size={}",
+                hitCount, missCount, bypassCount,
+                String.format("%.3f", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount)),
+                size);
+    }
+
+    String buildKey(String normalizedInput, LocalDate referenceDate) {
+        if (!enabled || normalizedInput == null || normalizedInput.isBlank() || referenceDate == null) {
+            return null;
+        }
+        String canonical = canonicalize(normalizedInput);
+        if (canonical.isEmpty() || NOW_RELATIVE.matcher(canonical).find()) {
+            return null;
+        }
+
+        String anchor;
+        if (CALENDAR_ANCHORED.matcher(canonical).find()) {
+            anchor = referenceDate.toString();
+        } else if (WEEKDAY_ANCHORED.matcher(canonical).find()) {
+            anchor = referenceDate.getDayOfWeek().name();
+        } else {
+            anchor = "DAY"; //오늘/내일/모레처럼 일수만 달라지는 표현이거나 날짜 표현 없음
+        }
+        return ContentHashUtil.sha256Hex(String.join("|", CACHE_VERSION, model, anchor, canonical));
+    }
+
+    //공백과 "추가해줘" 같은 요청 어미 차이는 결과에 영향을 주지 않으므로 키에서 제외
+    private static String canonicalize(String normalizedInput) {
+        String collapsed = normalizedInput.trim().replaceAll("\\s+", " ");
+        return REQUEST_SUFFIX.matcher(collapsed).replaceFirst("").trim();
+    }
+
+    private static List<RelativeItem> toRelative(OpenAIScheduleResponse response, LocalDate referenceDate) {
+        List<RelativeItem> items = new ArrayList<>(response.items().size());
+        try {
+            for (OpenAIScheduleResponse.ScheduleItem item : response.items()) {
+                if (item == null) {
+                    continue;
+                }
+                LocalDateTime due = LocalDateTimeUtil.stringToLocalDateTime(item.due_date_time());
+                items.add(new RelativeItem(
+                        item.is_schedule(),
+                        item.title(),
+                        offset(referenceDate, LocalDateTimeUtil.stringToLocalDate(item.start_date())),
+                        offset(referenceDate, LocalDateTimeUtil.stringToLocalDate(item.end_date())),
+                        item.start_time(),
+                        item.end_time(),
+                        due == null ? null : offset(referenceDate, due.toLocalDate()),
+                        due == null ? null : LocalDateTimeUtil.localTimeToString(due.toLocalTime()),
+                        item.repeat_rule()
+                ));
+            }
+        } catch (DateTimeParseException e) {
+            return null; //형식이 어긋난 응답은 재사용하지 않음
+        }
+        return List.copyOf(items);
+    }
+
+    private static OpenAIScheduleResponse reanchor(List<RelativeItem> items, LocalDate referenceDate) {
+        List<OpenAIScheduleResponse.ScheduleItem> reanchored = new ArrayList<>(items.size());
+        for (RelativeItem item : items) {
+            reanchored.add(new OpenAIScheduleResponse.ScheduleItem(
+                    item.isSchedule(),
+                    item.title(),
+                    date(referenceDate, item.startDateOffset()),
+                    date(referenceDate, item.endDateOffset()),
+                    item.startTime(),
+                    item.endTime(),
+                    item.dueDateOffset() == null ? null : date(referenceDate, item.dueDateOffset()) + " " + item.dueTime(),
+                    item.repeatRule()
+            ));
+        }
+        return new OpenAIScheduleResponse(reanchored);
+    }
+
+    private static Long offset(LocalDate referenceDate, LocalDate date) {
+        return date == null ? null : ChronoUnit.DAYS.between(referenceDate, date);
+    }
+
+    private static String date(LocalDate referenceDate, Long offset) {
+        return offset == null ? null : referenceDate.plusDays(offset).toString();
+    }
+
+    private record CachedResult(List<RelativeItem> items, LocalDateTime expiresAt) {
+    }
+
+    private record RelativeItem(
+            Boolean isSchedule,
+            String title,
+            Long startDateOffset,
+            Long endDateOffset,
+            String startTime,
+            String endTime,
+            Long dueDateOffset,
+            String dueTime,
+            String repeatRule
+    ) {
+    }
+}
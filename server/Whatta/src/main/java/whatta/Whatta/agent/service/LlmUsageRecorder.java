@@ -0,0 +1,190 @@
+package whatta.Whatta.agent.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import whatta.Whatta.agent.entity.LlmDailyUsage;
+import whatta.Whatta.agent.enums.AiWorkType;
+import whatta.Whatta.agent.enums.LlmCallOutcome;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+//OpenAI 호출 한 건의 지연 시간/토큰 수를 기록
+//- 메트릭(모델, 요청 종류, 결과별): llm.call.duration 타이머, llm.tokens 카운터 -> /actuator/prometheus
+//- 사용자별 하루 사용량: 메모리에서 합산해 두고 주기적으로 mongo에 $inc (요청 스레드에서 db를 쓰지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmUsageRecorder {
+
+    private final MeterRegistry meterRegistry;
+    private final MongoTemplate mongoTemplate;
+
+    private final Map<RollupKey, RollupCounts> pending = new ConcurrentHashMap<>();
+
+    public void recordSuccess(String userId, AiWorkType requestType, String model, long latencyMs, OpenAIClient.Usage usage) {
+        timer(requestType, model, LlmCallOutcome.SUCCESS).record(latencyMs, TimeUnit.MILLISECONDS);
+        countTokens(requestType, model, "input", usage.inputTokens());
+        countTokens(requestType, model, "output", usage.outputTokens());
+        countTokens(requestType, model, "cached_input", usage.cachedInputTokens());
+        countTokens(requestType, model, "reasoning", usage.reasoningTokens());
+
+        accumulate(userId, requestType, model, counts -> {
+            counts.calls++;
+            counts.latencyMs += latencyMs;
+            counts.inputTokens += Math.max(usage.inputTokens(), 0);
+            counts.outputTokens += Math.max(usage.outputTokens(), 0);
+            counts.cachedInputTokens += Math.max(usage.cachedInputTokens(), 0);
+            counts.reasoningTokens += Math.max(usage.reasoningTokens(), 0);
+        });
+    }
+
+    public void recordFailure(String userId, AiWorkType requestType, String model, long latencyMs, LlmCallOutcome outcome) {
+        timer(requestType, model, outcome).record(latencyMs, TimeUnit.MILLISECONDS);
+        //취소된 추측 실행은 사용자가 쓴 호출로 보지 않음
+        if (outcome == LlmCallOutcome.CANCELLED) {
+            return;
+        }
+        accumulate(userId, requestType, model, counts -> {
+            counts.calls++;
+            counts.failures++;
+            counts.latencyMs += latencyMs;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${openai.usage-rollup.flush-interval-ms:30000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<RollupKey, RollupCounts>> drained = new ArrayList<>();
+        for (RollupKey key : pending.keySet()) {
+            RollupCounts counts = pending.remove(key);
+            if (counts != null) {
+                drained.add(Map.entry(key, counts));
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LlmDailyUsage.class);
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<RollupKey, RollupCounts> entry : drained) {
+            RollupKey key = entry.getKey();
+            RollupCounts counts = entry.getValue();
+            bulkOps.upsert(
+                    Query.query(Criteria.where("_id").is(key.id())),
+                    new Update()
+                            .setOnInsert("userId", key.userId())
+                            .setOnInsert("usageDate", key.usageDate())
+                            .setOnInsert("model", key.model())
+                            .setOnInsert("requestType", key.requestType())
+                            .inc("calls", counts.calls)
+                            .inc("failures", counts.failures)
+                            .inc("inputTokens", counts.inputTokens)
+                            .inc("outputTokens", counts.outputTokens)
+                            .inc("cachedInputTokens", counts.cachedInputTokens)
+                            .inc("reasoningTokens", counts.reasoningTokens)
+                            .inc("totalLatencyMs", counts.latencyMs)
+                            .set("updatedAt", now)
+            );
+        }
+
+        try {
+            bulkOps.execute();
+        } catch (RuntimeException e) {
+            //다음 주기에 다시 반영되도록 되돌려 둠
+            log.warn("[LLM_USAGE][FLUSH_FAILED] entries={} message={}", drained.size(), e.getMessage());
+            drained.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), RollupCounts::merge));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    //compute 안에서만 값을 바꾸므로 flush의 remove와 겹쳐도 합산 값이 사라지지 않음
+    private void accumulate(String userId, AiWorkType requestType, String model, Consumer<RollupCounts> update) {
+        if (userId == null) {
+            return;
+        }
+        RollupKey key = new RollupKey(userId, LocalDate.now(), model, requestType);
+        pending.compute(key, (k, counts) -> {
+            RollupCounts target = counts == null ? new RollupCounts() : counts;
+            update.accept(target);
+            return target;
+        });
+    }
+
+    private Timer timer(AiWorkType requestType, String model, LlmCallOutcome outcome) {
+        return Timer.builder("llm.call.duration")
+                .description("OpenAI 호출 지연 시간")
+                .tag("model", model)
+                .tag("request_type", requestType.name().toLowerCase())
+                .tag("outcome", outcome.tag())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void countTokens(AiWorkType requestType, String model, String tokenType, int tokens) {
+        if (tokens <= 0) {
+            return;
+        }
+        Counter.builder("llm.tokens")
+                .description("OpenAI 토큰 사용량")
+                .tag("model", model)
+                .tag("request_type", requestType.name().toLowerCase())
+                .tag("token_type", tokenType)
+                .register(meterRegistry)
+                .increment(tokens);
+    }
+
+    private record RollupKey(String userId, LocalDate usageDate, String model, AiWorkType requestType) {
+
+        private String id() {
+            return userId + ":" + usageDate + ":" + model + ":" + requestType.name();
+        }
+    }
+
+    private static final class RollupCounts {
+
+        private long calls;
+        private long failures;
+        private long inputTokens;
+        private long outputTokens;
+        private long cachedInputTokens;
+        private long reasoningTokens;
+        private long latencyMs;
+
+        private static RollupCounts merge(RollupCounts a, RollupCounts b) {
+            a.calls += b.calls;
+            a.failures += b.failures;
+            a.inputTokens += b.inputTokens;
+            a.outputTokens += b.outputTokens;
+            a.cachedInputTokens += b.cachedInputTokens;
+            a.reasoningTokens += b.reasoningTokens;
+            a.latencyMs += b.latencyMs;
+            return a;
+        }
+    }
+}
@@ -3,22 +3,33 @@ package whatta.Whatta.agent.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import whatta.Whatta.agent.enums.AiWorkType;
+import whatta.Whatta.agent.enums.LlmCallOutcome;
 import whatta.Whatta.agent.payload.request.OpenAIRequest;
 import whatta.Whatta.agent.payload.response.OpenAIScheduleResponse;
 import whatta.Whatta.agent.spec.ScheduleExtractionSpec;
 import whatta.Whatta.global.exception.ErrorCode;
 import whatta.Whatta.global.exception.RestApiException;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Component
@@ -27,6 +38,7 @@ public class OpenAIClient {
     private static final int MAX_LOG_VALUE_LENGTH = 200;
     private final WebClient openAiWebClient;
     private final ObjectMapper objectMapper;
+    private final LlmUsageRecorder llmUsageRecorder;
     private static final int MAX_OUTPUT_TOKENS = 1500;
 
     @Value("${openai.model}")
@@ -35,11 +47,32 @@ public class OpenAIClient {
     @Value("${openai.timeout.seconds}")
     private long timeoutSeconds;
 
-    public OpenAIExecutionResult callTextOnly(String input) {
-        return callOpenApi(input);
+    //동시에 대기 중인 OpenAI 호출 수 (스레드를 잡고 있지 않으므로 풀 크기가 아닌 이 값으로 동시성 제한)
+    @Value("${openai.max-in-flight:32}")
+    private int maxInFlight;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    //(모델, 스펙 버전)별로 한 번만 만든 요청 앞부분
+    private final Map<String, RequestTemplate> requestTemplates = new ConcurrentHashMap<>();
+    private OpenAIResponseReader responseReader;
+
+    @PostConstruct
+    void init() {
+        responseReader = new OpenAIResponseReader(objectMapper);
+        requestTemplate(model);
     }
 
-    public OpenAIExecutionResult callTextWithImage(String inputText, String imageUrl, String detail) {
+    public Mono<OpenAIExecutionResult> callTextOnly(String userId, String input) {
+        return callOpenApi(userId, AiWorkType.TEXT, List.of(
+                referenceTimeMessage(),
+                new OpenAIRequest.InputMessage("user", "message", List.of(
+                        new OpenAIRequest.InputTextContent("input_text", input)
+                ))
+        ));
+    }
+
+    public Mono<OpenAIExecutionResult> callTextWithImage(String userId, String inputText, String imageUrl, String detail) {
         List<OpenAIRequest.InputContent> content = inputText == null || inputText.isBlank()
                 ? List.of(
                 new OpenAIRequest.InputImageContent("input_image", imageUrl, detail)
@@ -49,86 +82,122 @@ public class OpenAIClient {
                 new OpenAIRequest.InputImageContent("input_image", imageUrl, detail)
         );
         List<OpenAIRequest.InputMessage> input = List.of(
+                referenceTimeMessage(),
                 new OpenAIRequest.InputMessage("user", "message", content)
         );
-        return callOpenApi(input);
+        return callOpenApi(userId, AiWorkType.IMAGE, input);
     }
 
-    private OpenAIExecutionResult callOpenApi(Object input) {
-        OpenAIRequest req = OpenAIRequest.builder()
-                .model(model)
-                .input(input)
-                .maxOutputTokens(MAX_OUTPUT_TOKENS)
-                .reasoning(new OpenAIRequest.Reasoning(OpenAIRequest.Reasoning.Effort.low))
-                .instructions(ScheduleExtractionSpec.instructions())
-                .text(new OpenAIRequest.Text(
-                        new OpenAIRequest.Format(
-                                "json_schema",
-                                ScheduleExtractionSpec.NAME,
-                                ScheduleExtractionSpec.schemaNode(objectMapper),
-                                true
-                        )
-                ))
-                .store(false)
-                .build();
-
-        long startedAt = System.nanoTime();
-        String rawResponse = requestResponse(req);
-        long latencyMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
-        JsonNode root = parseResponse(rawResponse);
-        Usage usage = extractUsage(root);
-        printUsageToStdOut(root, req, latencyMs, usage);
-        OpenAIScheduleResponse extracted = extractOutput(root);
-        if (extracted == null) {
+    //현재 시각은 지시문이 아닌 입력 맨 앞에 둬서 지시문+스키마 prefix가 요청마다 같게 유지
+    private OpenAIRequest.InputMessage referenceTimeMessage() {
+        return new OpenAIRequest.InputMessage("developer", "message", List.of(
+                new OpenAIRequest.InputTextContent("input_text", ScheduleExtractionSpec.referenceTime())
+        ));
+    }
+
+    private Mono<OpenAIExecutionResult> callOpenApi(String userId, AiWorkType requestType, Object input) {
+        RequestTemplate template = requestTemplate(model);
+        byte[] body = template.render(objectMapper, input);
+
+        Mono<OpenAIExecutionResult> call = withInFlightLimit(Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return requestResponse(body)
+                    .map(rawResponse -> toExecutionResult(template, rawResponse,
+                            Duration.ofNanos(System.nanoTime() - startedAt).toMillis()));
+        }));
+        return recordUsage(call, userId, requestType, template.model());
+    }
+
+    //한도 초과 거절/취소까지 포함해 호출 한 건당 한 번 기록
+    private Mono<OpenAIExecutionResult> recordUsage(Mono<OpenAIExecutionResult> call, String userId,
+                                                    AiWorkType requestType, String requestModel) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return call
+                    .doOnNext(result -> llmUsageRecorder.recordSuccess(
+                            userId, requestType, requestModel, result.latencyMs(), result.usage()))
+                    .doOnError(e -> llmUsageRecorder.recordFailure(
+                            userId, requestType, requestModel, elapsedMillis(startedAt), LlmCallOutcome.from(e)))
+                    .doOnCancel(() -> llmUsageRecorder.recordFailure(
+                            userId, requestType, requestModel, elapsedMillis(startedAt), LlmCallOutcome.CANCELLED));
+        });
+    }
+
+    private long elapsedMillis(long startedAt) {
+        return Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+    }
+
+    private RequestTemplate requestTemplate(String requestModel) {
+        return requestTemplates.computeIfAbsent(requestModel + ":" + ScheduleExtractionSpec.VERSION,
+                key -> RequestTemplate.compile(objectMapper, requestModel));
+    }
+
+    private OpenAIExecutionResult toExecutionResult(RequestTemplate template, byte[] rawResponse, long latencyMs) {
+        OpenAIResponseReader.ParsedResponse parsed = responseReader.read(rawResponse);
+        Usage usage = parsed.usage();
+        logUsage(parsed, template, latencyMs, usage);
+        if (parsed.output() == null) {
             log.error("[OPENAI][PARSE_ERROR] text output missing. responseId={}, status={}",
-                    root.path("id").asText("-"),
-                    root.path("status").asText("-"));
+                    orDash(parsed.id()),
+                    orDash(parsed.status()));
             throw new IllegalStateException("OpenAI response does not contain text output");
         }
         return new OpenAIExecutionResult(
-                extracted,
+                parsed.output(),
                 usage,
-                root.path("id").asText("-"),
-                root.path("status").asText("-"),
-                root.path("model").asText(model),
+                orDash(parsed.id()),
+                orDash(parsed.status()),
+                parsed.model() != null ? parsed.model() : template.model(),
                 latencyMs
         );
     }
 
-    private String requestResponse(OpenAIRequest req) {
-        try {
-            return openAiWebClient.post()
-                    .uri("/responses")
-                    .bodyValue(req)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(timeoutSeconds))
-                    .block();
-        } catch (WebClientResponseException e) {
-            String responseBody = e.getResponseBodyAsString();
+    //구독 시점에 자리를 잡고, 완료/실패/취소 시 반납
+    private <T> Mono<T> withInFlightLimit(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                log.warn("[OPENAI][REJECTED] inFlight={} maxInFlight={}", inFlight.get(), maxInFlight);
+                return Mono.error(new RestApiException(ErrorCode.AI_REQUEST_REJECTED));
+            }
+            return call.doFinally(signal -> inFlight.decrementAndGet());
+        });
+    }
+
+    private Mono<byte[]> requestResponse(byte[] body) {
+        return openAiWebClient.post()
+                .uri("/responses")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .defaultIfEmpty(new byte[0])
+                .timeout(Duration.ofSeconds(timeoutSeconds))
+                .onErrorMap(e -> !(e instanceof RestApiException), this::toApiException);
+    }
+
+    private RestApiException toApiException(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            String responseBody = responseException.getResponseBodyAsString();
             log.error("[OPENAI][ERROR] type=http status={} requestId={} errorType={} errorCode={} errorMessage={}",
-                    e.getStatusCode().value(),
-                    sanitizeLogValue(e.getHeaders().getFirst("x-request-id")),
+                    responseException.getStatusCode().value(),
+                    sanitizeLogValue(responseException.getHeaders().getFirst("x-request-id")),
                     extractErrorField(responseBody, "type"),
                     extractErrorField(responseBody, "code"),
                     extractErrorField(responseBody, "message"),
                     e);
-            throw new RestApiException(ErrorCode.OPENAI_API_FAILED);
-        } catch (WebClientRequestException e) {
-            if (isTimeout(e)) {
-                log.error("[OPENAI][ERROR] type=timeout message={}", rootMessage(e), e);
-                throw new RestApiException(ErrorCode.OPENAI_API_TIMEOUT);
-            }
+            return new RestApiException(ErrorCode.OPENAI_API_FAILED);
+        }
+        if (isTimeout(e)) {
+            log.error("[OPENAI][ERROR] type=timeout message={}", rootMessage(e), e);
+            return new RestApiException(ErrorCode.OPENAI_API_TIMEOUT);
+        }
+        if (e instanceof WebClientRequestException) {
             log.error("[OPENAI][ERROR] type=network message={}", rootMessage(e), e);
-            throw new RestApiException(ErrorCode.OPENAI_API_FAILED);
-        } catch (Exception e) {
-            if (isTimeout(e)) {
-                log.error("[OPENAI][ERROR] type=timeout message={}", rootMessage(e), e);
-                throw new RestApiException(ErrorCode.OPENAI_API_TIMEOUT);
-            }
-            log.error("[OPENAI][ERROR] type=unexpected message={}", rootMessage(e), e);
-            throw new RestApiException(ErrorCode.OPENAI_API_FAILED);
+            return new RestApiException(ErrorCode.OPENAI_API_FAILED);
         }
+        log.error("[OPENAI][ERROR] type=unexpected message={}", rootMessage(e), e);
+        return new RestApiException(ErrorCode.OPENAI_API_FAILED);
     }
 
     private boolean isTimeout(Throwable throwable) {
@@ -152,103 +221,23 @@ public class OpenAIClient {
         return root == null ? "" : sanitizeLogValue(root.getMessage());
     }
 
-    private void printUsageToStdOut(JsonNode root, OpenAIRequest req, long latencyMs, Usage usage) {
-        String requestModel = req != null && req.model() != null ? req.model() : "-";
-        String reasoningEffort = req != null && req.reasoning() != null && req.reasoning().effort() != null
-                ? req.reasoning().effort().name()
-                : "-";
-
-        System.out.println(
-                String.format(
-                        "[OPENAI][TOKENS] responseId=%s status=%s model=%s reasoning=%s latency_ms=%d input=%d output=%d total=%d cached_input=%d reasoning_output=%d",
-                        root.path("id").asText("-"),
-                        root.path("status").asText("-"),
-                        requestModel,
-                        reasoningEffort,
-                        latencyMs,
-                        usage.inputTokens(),
-                        usage.outputTokens(),
-                        usage.totalTokens(),
-                        usage.cachedInputTokens(),
-                        usage.reasoningTokens()
-                )
-        );
-    }
-
-    private JsonNode parseResponse(String rawResponse) {
-        if (rawResponse == null || rawResponse.isBlank()) {
-            throw new IllegalStateException("OpenAI response body is empty");
-        }
-
-        try {
-            return objectMapper.readTree(rawResponse);
-        } catch (JsonProcessingException e) {
-            log.error("[OPENAI][PARSE_ERROR] invalid json response");
-            throw new IllegalStateException("Failed to parse OpenAI response", e);
-        }
-    }
-
-    private Usage extractUsage(JsonNode root) {
-        JsonNode usage = root.path("usage");
-        return new Usage(
-                usage.path("input_tokens").asInt(-1),
-                usage.path("output_tokens").asInt(-1),
-                usage.path("total_tokens").asInt(-1),
-                usage.path("input_tokens_details").path("cached_tokens").asInt(-1),
-                usage.path("output_tokens_details").path("reasoning_tokens").asInt(-1)
-        );
+    //집계는 LlmUsageRecorder 메트릭으로 보고, 응답 단위 추적이 필요할 때만 debug로 확인
+    private void logUsage(OpenAIResponseReader.ParsedResponse parsed, RequestTemplate template, long latencyMs, Usage usage) {
+        log.debug("[OPENAI][TOKENS] responseId={} status={} model={} reasoning={} latency_ms={} input={} output={} total={} cached_input={} reasoning_output={}",
+                orDash(parsed.id()),
+                orDash(parsed.status()),
+                template.model(),
+                template.reasoningEffort().name(),
+                latencyMs,
+                usage.inputTokens(),
+                usage.outputTokens(),
+                usage.totalTokens(),
+                usage.cachedInputTokens(),
+                usage.reasoningTokens());
     }
 
-    private OpenAIScheduleResponse extractOutput(JsonNode root) {
-        JsonNode outputParsed = root.path("output_parsed");
-        if (!outputParsed.isMissingNode() && !outputParsed.isNull()) {
-            try {
-                return objectMapper.treeToValue(outputParsed, OpenAIScheduleResponse.class);
-            } catch (JsonProcessingException e) {
-                throw new IllegalStateException("Failed to deserialize output_parsed", e);
-            }
-        }
-
-        String outputText = extractOutputText(root);
-        if (outputText == null || outputText.isBlank()) {
-            return null;
-        }
-
-        try {
-            return objectMapper.readValue(outputText, OpenAIScheduleResponse.class);
-        } catch (JsonProcessingException e) {
-            throw new IllegalStateException("Failed to deserialize output_text", e);
-        }
-    }
-
-    private String extractOutputText(JsonNode root) {
-        JsonNode outputText = root.path("output_text");
-        if (outputText.isTextual() && !outputText.asText().isBlank()) {
-            return outputText.asText();
-        }
-
-        JsonNode output = root.path("output");
-        if (output.isArray()) {
-            StringBuilder sb = new StringBuilder();
-            for (JsonNode item : output) {
-                JsonNode content = item.path("content");
-                if (!content.isArray()) {
-                    continue;
-                }
-
-                for (JsonNode c : content) {
-                    JsonNode text = c.path("text");
-                    if (text.isTextual() && !text.asText().isBlank()) {
-                        sb.append(text.asText());
-                    }
-                }
-            }
-
-            if (sb.length() > 0) {
-                return sb.toString();
-            }
-        }
-        return null;
+    private String orDash(String value) {
+        return value == null ? "-" : value;
     }
 
     private String extractErrorField(String responseBody, String fieldName) {
@@ -276,6 +265,61 @@ public class OpenAIClient {
         return sanitized.substring(0, MAX_LOG_VALUE_LENGTH) + "...";
     }
 
+    /**
+     * input을 뺀 요청 본문(모델, 지시문, 스키마, 옵션)을 미리 직렬화해 둔 것.
+     * 요청마다 input만 직렬화해서 뒤에 붙이므로 스키마 JsonNode 생성/지시문 직렬화를 반복하지 않고,
+     * 지시문/스키마 바이트가 항상 같아 prompt cache prefix가 유지된다.
+     */
+    private record RequestTemplate(String model, OpenAIRequest.Reasoning.Effort reasoningEffort, byte[] prefix) {
+
+        private static RequestTemplate compile(ObjectMapper objectMapper, String model) {
+            OpenAIRequest.Reasoning.Effort effort = OpenAIRequest.Reasoning.Effort.low;
+            OpenAIRequest req = OpenAIRequest.builder()
+                    .model(model)
+                    .maxOutputTokens(MAX_OUTPUT_TOKENS)
+                    .reasoning(new OpenAIRequest.Reasoning(effort))
+                    .instructions(ScheduleExtractionSpec.instructions())
+                    .text(new OpenAIRequest.Text(
+                            new OpenAIRequest.Format(
+                                    "json_schema",
+                                    ScheduleExtractionSpec.NAME,
+                                    ScheduleExtractionSpec.schemaNode(objectMapper),
+                                    true
+                            )
+                    ))
+                    .store(false)
+                    .promptCacheKey(ScheduleExtractionSpec.NAME + ":" + ScheduleExtractionSpec.VERSION)
+                    .build();
+
+            ObjectNode node = objectMapper.valueToTree(req);
+            node.remove("input");
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(node);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to build OpenAI request template", e);
+            }
+            //마지막 '}' 앞에 input 필드를 이어 붙일 수 있도록
+            String prefix = json.substring(0, json.length() - 1) + (node.isEmpty() ? "" : ",") + "\"input\":";
+            log.info("[OPENAI][TEMPLATE] model={} specVersion={} prefixBytes={}",
+                    model, ScheduleExtractionSpec.VERSION, prefix.length());
+            return new RequestTemplate(model, effort, prefix.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private byte[] render(ObjectMapper objectMapper, Object input) {
+            byte[] inputJson;
+            try {
+                inputJson = objectMapper.writeValueAsBytes(input);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize OpenAI request input", e);
+            }
+            byte[] body = Arrays.copyOf(prefix, prefix.length + inputJson.length + 1);
+            System.arraycopy(inputJson, 0, body, prefix.length, inputJson.length);
+            body[body.length - 1] = '}';
+            return body;
+        }
+    }
+
     public record Usage(
             int inputTokens,
             int outputTokens,
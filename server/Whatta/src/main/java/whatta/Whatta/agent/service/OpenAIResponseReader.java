@@ -0,0 +1,165 @@
+package whatta.Whatta.agent.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import whatta.Whatta.agent.payload.response.OpenAIScheduleResponse;
+
+import java.io.IOException;
+
+/**
+ * Responses API 응답 본문을 트리로 만들지 않고 필요한 필드만 순서대로 읽는다.
+ * 응답에는 요청의 instructions/스키마가 그대로 다시 담겨 오므로, 전체 readTree 대신
+ * id/status/model/usage와 출력 텍스트(output_parsed, output_text, output[].content[].text)만 꺼내고 나머지는 건너뛴다.
+ */
+final class OpenAIResponseReader {
+
+    private final ObjectMapper objectMapper;
+
+    OpenAIResponseReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    record ParsedResponse(
+            String id,
+            String status,
+            String model,
+            OpenAIClient.Usage usage,
+            OpenAIScheduleResponse output //출력이 없으면 null
+    ) {
+    }
+
+    ParsedResponse read(byte[] body) {
+        if (body == null || body.length == 0) {
+            throw new IllegalStateException("OpenAI response body is empty");
+        }
+
+        String id = null;
+        String status = null;
+        String model = null;
+        JsonNode usage = null;
+        OpenAIScheduleResponse outputParsed = null;
+        String outputText = null;
+        StringBuilder contentText = new StringBuilder();
+
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("Failed to parse OpenAI response");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "id" -> id = textOrNull(parser, value);
+                    case "status" -> status = textOrNull(parser, value);
+                    case "model" -> model = textOrNull(parser, value);
+                    case "usage" -> usage = value == JsonToken.START_OBJECT ? parser.readValueAsTree() : null;
+                    case "output_parsed" -> {
+                        if (value == JsonToken.START_OBJECT) {
+                            outputParsed = readSchedule(parser);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    case "output_text" -> outputText = textOrNull(parser, value);
+                    case "output" -> readOutputContent(parser, value, contentText);
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to parse OpenAI response", e);
+        }
+
+        return new ParsedResponse(id, status, model, toUsage(usage), resolveOutput(outputParsed, outputText, contentText));
+    }
+
+    //output_parsed > output_text > output[].content[].text 순
+    private OpenAIScheduleResponse resolveOutput(OpenAIScheduleResponse outputParsed, String outputText, StringBuilder contentText) {
+        if (outputParsed != null) {
+            return outputParsed;
+        }
+        String text = outputText != null && !outputText.isBlank() ? outputText
+                : contentText.length() > 0 ? contentText.toString() : null;
+        if (text == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(text, OpenAIScheduleResponse.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to deserialize output_text", e);
+        }
+    }
+
+    private OpenAIScheduleResponse readSchedule(JsonParser parser) {
+        try {
+            return objectMapper.readValue(parser, OpenAIScheduleResponse.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to deserialize output_parsed", e);
+        }
+    }
+
+    private void readOutputContent(JsonParser parser, JsonToken value, StringBuilder contentText) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken itemValue = parser.nextToken();
+                if ("content".equals(field) && itemValue == JsonToken.START_ARRAY) {
+                    readContentArray(parser, contentText);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private void readContentArray(JsonParser parser, StringBuilder contentText) throws IOException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken contentValue = parser.nextToken();
+                if ("text".equals(field) && contentValue == JsonToken.VALUE_STRING) {
+                    String text = parser.getText();
+                    if (!text.isBlank()) {
+                        contentText.append(text);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private String textOrNull(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private OpenAIClient.Usage toUsage(JsonNode usage) {
+        if (usage == null) {
+            return new OpenAIClient.Usage(-1, -1, -1, -1, -1);
+        }
+        return new OpenAIClient.Usage(
+                usage.path("input_tokens").asInt(-1),
+                usage.path("output_tokens").asInt(-1),
+                usage.path("total_tokens").asInt(-1),
+                usage.path("input_tokens_details").path("cached_tokens").asInt(-1),
+                usage.path("output_tokens_details").path("reasoning_tokens").asInt(-1)
+        );
+    }
+}
@@ -3,6 +3,7 @@ package whatta.Whatta.agent.service;
 import org.springframework.stereotype.Component;
 import whatta.Whatta.agent.payload.dto.RuleBasedExtractionResult;
 import whatta.Whatta.agent.payload.dto.ScheduleCandidate;
+import whatta.Whatta.agent.service.extractor.RepeatExpressionParser;
 import whatta.Whatta.agent.util.ScheduleTypeRules;
 
 import java.time.LocalDate;
@@ -17,6 +18,10 @@ public class ScheduleCandidateResolver {
             return null;
         }
 
+        if (extractionResult.repeatCandidate() != null) {
+            return resolveRepeatEventCandidate(extractionResult);
+        }
+
         if (hasInvalidStartDateWarningWithoutDateCandidate(extractionResult)) {
             if (looksLikeTask(extractionResult)) {
                 return resolveTaskCandidateWithInvalidDate(extractionResult);
@@ -85,6 +90,36 @@ public class ScheduleCandidateResolver {
                 .build();
     }
 
+    //반복 일정은 event만 rule로 확정하고, 시작일은 기준일(또는 명시된 날짜) 이후 첫 반복일로 잡음
+    private ScheduleCandidate resolveRepeatEventCandidate(RuleBasedExtractionResult extractionResult) {
+        if (looksLikeTask(extractionResult)
+                || extractionResult.deadlineCandidate() != null
+                || hasRecoverableInputWarning(extractionResult)
+                || extractionResult.dateCandidates().size() > 1
+                || extractionResult.timeCandidates().size() > 1) {
+            return null;
+        }
+
+        LocalDate from = extractionResult.hasSingleDate() ? extractionResult.dateCandidates().get(0) : extractionResult.referenceDate();
+        LocalDate startDate = RepeatExpressionParser.firstOccurrence(extractionResult.repeatCandidate(), from);
+        if (startDate == null) {
+            return null;
+        }
+        LocalTime startTime = extractionResult.hasSingleTime() ? extractionResult.timeCandidates().get(0) : null;
+
+        return ScheduleCandidate.builder()
+                .type(ScheduleCandidate.CandidateType.EVENT)
+                .title(extractionResult.titleHint())
+                .startDate(startDate)
+                .endDate(startDate)
+                .startTime(startTime)
+                .endTime(startTime == null ? null : startTime.plusHours(1))
+                .dueDateTime(null)
+                .repeat(extractionResult.repeatCandidate())
+                .scheduled(true)
+                .build();
+    }
+
     private ScheduleCandidate resolveEventCandidateWithInvalidDate(RuleBasedExtractionResult extractionResult) {
         LocalTime startTime = extractionResult.hasSingleTime() ? extractionResult.timeCandidates().get(0) : null;
 
@@ -3,9 +3,12 @@ package whatta.Whatta.agent.service;
 import org.springframework.stereotype.Component;
 import whatta.Whatta.agent.payload.dto.NormalizedSchedule;
 import whatta.Whatta.agent.payload.dto.ScheduleCandidate;
+import whatta.Whatta.event.payload.response.RepeatResponse;
 
 import java.util.List;
 
+import static whatta.Whatta.global.util.RepeatRulePatterns.*;
+
 @Component
 public class ScheduleValidationService {
 
@@ -14,6 +17,10 @@ public class ScheduleValidationService {
             return false;
         }
 
+        if (candidate.repeat() != null && !isValidRepeat(candidate.repeat())) {
+            return false;
+        }
+
         if (candidate.type() == ScheduleCandidate.CandidateType.EVENT) {
             return candidate.startDate() != null;
         }
@@ -21,6 +28,28 @@ public class ScheduleValidationService {
         return candidate.dueDateTime() != null || candidate.startDate() != null;
     }
 
+    //RepeatValidator와 같은 on 토큰 규칙 (rule 경로에서 만든 반복도 저장 시 검증을 통과해야 함)
+    public boolean isValidRepeat(RepeatResponse repeat) {
+        if (repeat == null) {
+            return true;
+        }
+        if (repeat.unit() == null || repeat.interval() < 1) {
+            return false;
+        }
+
+        List<String> on = repeat.on();
+        return switch (repeat.unit()) {
+            case DAY -> on == null || on.isEmpty();
+            case WEEK -> on != null && !on.isEmpty()
+                    && on.stream().allMatch(token -> token != null && WEEK_DAY.matcher(token).matches());
+            case MONTH -> on != null && on.size() == 1 && on.get(0) != null
+                    && (MONTH_DAY.matcher(on.get(0)).matches()
+                    || MONTH_NTH.matcher(on.get(0)).matches()
+                    || MONTH_LAST.matcher(on.get(0)).matches()
+                    || MONTH_LAST_DAY.matcher(on.get(0)).matches());
+        };
+    }
+
     public boolean isValidNormalizedSchedule(NormalizedSchedule schedule) {
         if (schedule == null || schedule.title() == null || schedule.title().isBlank()) {
             return false;
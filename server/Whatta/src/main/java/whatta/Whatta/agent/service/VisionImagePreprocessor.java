@@ -0,0 +1,122 @@
+package whatta.Whatta.agent.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bytedeco.javacpp.BytePointer;
+import org.bytedeco.javacpp.IntPointer;
+import org.bytedeco.opencv.opencv_core.Mat;
+import org.bytedeco.opencv.opencv_core.Size;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import whatta.Whatta.image.service.ImageStorageService;
+import whatta.Whatta.ocr.util.ImageIOUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.bytedeco.opencv.global.opencv_imgcodecs.IMWRITE_JPEG_QUALITY;
+import static org.bytedeco.opencv.global.opencv_imgcodecs.imencode;
+import static org.bytedeco.opencv.global.opencv_imgproc.INTER_AREA;
+import static org.bytedeco.opencv.global.opencv_imgproc.resize;
+
+/**
+ * vision 호출 전에 업로드 원본을 모델이 실제로 보는 해상도로 줄여서 base64 data URL로 넘긴다.
+ * detail=low면 OpenAI가 512x512 안으로 줄여서 보므로, 원본 signed URL을 넘기면 OpenAI가 고해상도 원본을 내려받는 시간과
+ * GCS 외부 전송량만 늘어난다. 가공에 실패하면 빈 값을 돌려주고 호출하는 쪽에서 기존 signed URL 방식으로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VisionImagePreprocessor {
+
+    private static final String DATA_URL_PREFIX = "data:image/jpeg;base64,";
+
+    private final ImageStorageService imageStorageService;
+
+    @Value("${agent.vision.preprocess.enabled:true}")
+    private boolean enabled;
+
+    //detail=low 기준 모델 입력 크기
+    @Value("${agent.vision.preprocess.max-side:512}")
+    private int maxSide;
+
+    @Value("${agent.vision.preprocess.jpeg-quality:85}")
+    private int jpegQuality;
+
+    //이보다 큰 원본은 내려받지도, 디코딩하지도 않음 (힙/네이티브 메모리 보호)
+    @Value("${agent.vision.preprocess.max-source-bytes:15728640}")
+    private long maxSourceBytes;
+
+    public Optional<String> toDataUrl(String userId, String objectKey) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            Optional<byte[]> source = imageStorageService.readObjectBytes(userId, objectKey, maxSourceBytes);
+            if (source.isEmpty()) {
+                log.info("[AI_IMAGE][PREPROCESS][SKIP] objectKey={} reason=too_large max_bytes={}", objectKey, maxSourceBytes);
+                return Optional.empty();
+            }
+            byte[] original = source.get();
+            if (original.length == 0) {
+                log.info("[AI_IMAGE][PREPROCESS][SKIP] objectKey={} bytes=0", objectKey);
+                return Optional.empty();
+            }
+
+            byte[] encoded = downscale(original);
+            if (encoded == null) {
+                log.warn("[AI_IMAGE][PREPROCESS][SKIP] objectKey={} reason=decode_failed", objectKey);
+                return Optional.empty();
+            }
+            log.info("[AI_IMAGE][PREPROCESS] objectKey={} original_bytes={} encoded_bytes={} elapsed_ms={}",
+                    objectKey, original.length, encoded.length, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+            return Optional.of(DATA_URL_PREFIX + Base64.getEncoder().encodeToString(encoded));
+        } catch (RuntimeException e) {
+            log.warn("[AI_IMAGE][PREPROCESS][ERROR] objectKey={} message={}", objectKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    //긴 변을 maxSide 이하로 줄이고(확대는 하지 않음) jpeg로 다시 인코딩
+    byte[] downscale(byte[] original) {
+        Mat image;
+        try {
+            image = ImageIOUtil.fromStream(new ByteArrayInputStream(original), original.length);
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+        Mat resized = new Mat();
+        BytePointer encoded = new BytePointer();
+        IntPointer params = new IntPointer(IMWRITE_JPEG_QUALITY, jpegQuality);
+        try {
+            Mat target = image;
+            int longSide = Math.max(image.cols(), image.rows());
+            if (longSide > maxSide) {
+                double scale = (double) maxSide / longSide;
+                int width = Math.max(1, (int) Math.round(image.cols() * scale));
+                int height = Math.max(1, (int) Math.round(image.rows() * scale));
+                //축소에는 INTER_AREA가 글자 경계가 덜 뭉개짐
+                resize(image, resized, new Size(width, height), 0, 0, INTER_AREA);
+                target = resized;
+            }
+
+            if (!imencode(".jpg", target, encoded, params)) {
+                return null;
+            }
+            byte[] bytes = new byte[(int) encoded.limit()];
+            encoded.get(bytes);
+            return bytes;
+        } finally {
+            //네이티브 메모리 해제
+            image.release();
+            resized.release();
+            encoded.deallocate();
+            params.deallocate();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package whatta.Whatta.agent.service.extractor;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 import whatta.Whatta.agent.service.OpenAIClient;
 
 @Component
@@ -10,11 +11,11 @@ public class LLMExtractor {
 
     private final OpenAIClient openAIClient;
 
-    public OpenAIClient.OpenAIExecutionResult extractTextOnly(String input) {
-        return openAIClient.callTextOnly(input);
+    public Mono<OpenAIClient.OpenAIExecutionResult> extractTextOnly(String userId, String input) {
+        return openAIClient.callTextOnly(userId, input);
     }
 
-    public OpenAIClient.OpenAIExecutionResult extractWithImage(String inputText, String imageUrl, String detail) {
-        return openAIClient.callTextWithImage(inputText, imageUrl, detail);
+    public Mono<OpenAIClient.OpenAIExecutionResult> extractWithImage(String userId, String inputText, String imageUrl, String detail) {
+        return openAIClient.callTextWithImage(userId, inputText, imageUrl, detail);
     }
 }
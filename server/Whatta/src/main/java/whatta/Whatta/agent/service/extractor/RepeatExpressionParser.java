@@ -0,0 +1,183 @@
+package whatta.Whatta.agent.service.extractor;
+
+import whatta.Whatta.event.enums.RepeatUnit;
+import whatta.Whatta.event.payload.response.RepeatResponse;
+import whatta.Whatta.global.util.RepeatRulePatterns;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * "매일", "매주 월수", "격주 금요일", "매달 15일", "매달 마지막주 금요일" 같은 정형화된 반복 표현만 해석한다.
+ * 만들어지는 on 토큰은 RepeatRulePatterns 형식(MON, D15, 2TUE, LASTFRI, LASTDAY)을 따르며,
+ * 해석할 수 없는 반복 표현은 null을 반환해 llm으로 넘긴다.
+ */
+public final class RepeatExpressionParser {
+
+    private static final int MAX_FIRST_OCCURRENCE_SEARCH_DAYS = 62;
+
+    //요일 글자 뒤에는 요일/다른 요일 글자/구분자/공백/마다/에/끝만 올 수 있음 ("매주 수업"의 "수"는 요일이 아님)
+    private static final String WEEKDAY_TOKEN = "[월화수목금토일](?:요일)?(?=[월화수목금토일]|\\s|[,/·]|마다|에|$)";
+    private static final String WEEKDAY_LIST = "((?:" + WEEKDAY_TOKEN + "\\s*[,/·]?\\s*)+)";
+
+    private static final Pattern DAILY_PATTERN = Pattern.compile("매일|날마다");
+    private static final Pattern WEEKLY_PATTERN = Pattern.compile("(매주|격주)\\s*" + WEEKDAY_LIST + "(?:마다|에)?");
+    private static final Pattern WEEKDAY_EVERY_PATTERN = Pattern.compile("(?<![가-힣])" + WEEKDAY_LIST + "마다");
+    private static final Pattern MONTHLY_DAY_PATTERN = Pattern.compile("(?:매달|매월)\\s*(\\d{1,2})\\s*일(?:마다|에)?");
+    private static final Pattern MONTHLY_LAST_DAY_PATTERN = Pattern.compile("(?:매달|매월)\\s*(?:말일|마지막\\s*날)(?:마다|에)?");
+    private static final Pattern MONTHLY_NTH_PATTERN = Pattern.compile(
+            "(?:매달|매월)\\s*(?:(첫|둘|셋|넷)\\s*째|([1-4])\\s*(?:번)?째)\\s*(?:주)?\\s*([월화수목금토일])요일(?:마다|에)?");
+    private static final Pattern MONTHLY_LAST_WEEKDAY_PATTERN = Pattern.compile(
+            "(?:매달|매월)\\s*마지막\\s*(?:주)?\\s*([월화수목금토일])요일(?:마다|에)?");
+    private static final Pattern WEEKDAY_CHAR_PATTERN = Pattern.compile("[월화수목금토일]");
+
+    private RepeatExpressionParser() {
+    }
+
+    public record ParsedRepeat(RepeatResponse repeat, int start, int end) {
+    }
+
+    public static ParsedRepeat parse(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        Matcher matcher = MONTHLY_NTH_PATTERN.matcher(text);
+        if (matcher.find()) {
+            int nth = matcher.group(1) != null ? ordinal(matcher.group(1)) : Integer.parseInt(matcher.group(2));
+            return monthly(nth + toCode(matcher.group(3)), matcher);
+        }
+
+        matcher = MONTHLY_LAST_WEEKDAY_PATTERN.matcher(text);
+        if (matcher.find()) {
+            return monthly("LAST" + toCode(matcher.group(1)), matcher);
+        }
+
+        matcher = MONTHLY_LAST_DAY_PATTERN.matcher(text);
+        if (matcher.find()) {
+            return monthly("LASTDAY", matcher);
+        }
+
+        matcher = MONTHLY_DAY_PATTERN.matcher(text);
+        if (matcher.find()) {
+            return monthly("D" + Integer.parseInt(matcher.group(1)), matcher);
+        }
+
+        matcher = WEEKLY_PATTERN.matcher(text);
+        if (matcher.find()) {
+            return weekly("격주".equals(matcher.group(1)) ? 2 : 1, matcher.group(2), matcher);
+        }
+
+        matcher = WEEKDAY_EVERY_PATTERN.matcher(text);
+        if (matcher.find()) {
+            return weekly(1, matcher.group(1), matcher);
+        }
+
+        matcher = DAILY_PATTERN.matcher(text);
+        if (matcher.find()) {
+            return new ParsedRepeat(build(1, RepeatUnit.DAY, List.of()), matcher.start(), matcher.end());
+        }
+
+        return null;
+    }
+
+    //반복 규칙에 맞는 from 이후(당일 포함) 첫 날짜
+    public static LocalDate firstOccurrence(RepeatResponse repeat, LocalDate from) {
+        if (repeat == null || from == null) {
+            return null;
+        }
+        if (repeat.unit() == RepeatUnit.DAY) {
+            return from;
+        }
+        for (int i = 0; i < MAX_FIRST_OCCURRENCE_SEARCH_DAYS; i++) {
+            LocalDate date = from.plusDays(i);
+            if (matches(repeat, date)) {
+                return date;
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(RepeatResponse repeat, LocalDate date) {
+        if (repeat.unit() == RepeatUnit.WEEK) {
+            return repeat.on().stream()
+                    .anyMatch(token -> RepeatRulePatterns.toDayOfWeek(token) == date.getDayOfWeek());
+        }
+
+        String token = repeat.on().get(0);
+        if (RepeatRulePatterns.MONTH_LAST_DAY.matcher(token).matches()) {
+            return date.equals(YearMonth.from(date).atEndOfMonth());
+        }
+        Matcher monthDay = RepeatRulePatterns.MONTH_DAY.matcher(token);
+        if (monthDay.matches()) {
+            return date.getDayOfMonth() == Integer.parseInt(monthDay.group(1));
+        }
+        Matcher nth = RepeatRulePatterns.MONTH_NTH.matcher(token);
+        if (nth.matches()) {
+            DayOfWeek dayOfWeek = RepeatRulePatterns.toDayOfWeek(nth.group(2));
+            return date.getDayOfWeek() == dayOfWeek && (date.getDayOfMonth() - 1) / 7 + 1 == Integer.parseInt(nth.group(1));
+        }
+        Matcher last = RepeatRulePatterns.MONTH_LAST.matcher(token);
+        if (last.matches()) {
+            DayOfWeek dayOfWeek = RepeatRulePatterns.toDayOfWeek(last.group(1));
+            return date.getDayOfWeek() == dayOfWeek && date.plusWeeks(1).getMonth() != date.getMonth();
+        }
+        return false;
+    }
+
+    private static ParsedRepeat monthly(String token, Matcher matcher) {
+        return new ParsedRepeat(build(1, RepeatUnit.MONTH, List.of(token)), matcher.start(), matcher.end());
+    }
+
+    private static ParsedRepeat weekly(int interval, String weekdayList, Matcher matcher) {
+        List<String> on = new ArrayList<>();
+        Matcher dayMatcher = WEEKDAY_CHAR_PATTERN.matcher(weekdayList.replace("요일", ""));
+        while (dayMatcher.find()) {
+            String code = toCode(dayMatcher.group());
+            if (!on.contains(code)) {
+                on.add(code);
+            }
+        }
+        //RepeatRulePatterns 요일 순서로 정렬
+        on.sort((a, b) -> RepeatRulePatterns.toDayOfWeek(a).compareTo(RepeatRulePatterns.toDayOfWeek(b)));
+        return new ParsedRepeat(build(interval, RepeatUnit.WEEK, List.copyOf(on)), matcher.start(), matcher.end());
+    }
+
+    private static RepeatResponse build(int interval, RepeatUnit unit, List<String> on) {
+        return RepeatResponse.builder()
+                .interval(interval)
+                .unit(unit)
+                .on(on)
+                .endDate(null)
+                .exceptionDates(List.of())
+                .build();
+    }
+
+    private static int ordinal(String korean) {
+        return switch (korean) {
+            case "첫" -> 1;
+            case "둘" -> 2;
+            case "셋" -> 3;
+            case "넷" -> 4;
+            default -> throw new IllegalArgumentException("Unsupported ordinal: " + korean);
+        };
+    }
+
+    private static String toCode(String dayKor) {
+        return switch (dayKor) {
+            case "월" -> "MON";
+            case "화" -> "TUE";
+            case "수" -> "WED";
+            case "목" -> "THU";
+            case "금" -> "FRI";
+            case "토" -> "SAT";
+            case "일" -> "SUN";
+            default -> throw new IllegalArgumentException("Unsupported weekday: " + dayKor);
+        };
+    }
+}
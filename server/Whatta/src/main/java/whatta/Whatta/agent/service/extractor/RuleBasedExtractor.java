@@ -1,7 +1,10 @@
 package whatta.Whatta.agent.service.extractor;
 
 import org.springframework.stereotype.Component;
+import whatta.Whatta.agent.enums.RuleConfidence;
 import whatta.Whatta.agent.payload.dto.RuleBasedExtractionResult;
+import whatta.Whatta.agent.service.extractor.RuleBasedTokenizer.Kind;
+import whatta.Whatta.agent.service.extractor.RuleBasedTokenizer.Tokens;
 import whatta.Whatta.agent.spec.ScheduleExtractionSpec;
 import whatta.Whatta.agent.util.ScheduleTypeRules;
 
@@ -13,9 +16,11 @@ import java.time.LocalTime;
 import java.time.YearMonth;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -24,21 +29,19 @@ public class RuleBasedExtractor {
 
     private static final String TASK_ALIAS_SPACED_MASK = "__TASK_ALIAS_SPACED__";
     private static final String TASK_ALIAS_COMPACT_MASK = "__TASK_ALIAS_COMPACT__";
-    private static final Pattern ISO_DATE_PATTERN = Pattern.compile("\\b(\\d{4})-(\\d{2})-(\\d{2})\\b");
-    private static final Pattern KOREAN_MONTH_DAY_PATTERN = Pattern.compile("(?<!\\d)(\\d{1,2})\\s*월\\s*(\\d{1,2})\\s*일(?!\\d)");
-    private static final Pattern SLASH_MONTH_DAY_PATTERN = Pattern.compile("(?<!\\d)(\\d{1,2})/(\\d{1,2})(?!\\d)");
-    private static final Pattern DAY_ONLY_PATTERN = Pattern.compile("(?<![\\d월/])(\\d{1,2})\\s*일(?!\\s*(?:뒤|후|간|동안|째|치|짜리))(?!\\d)");
-    private static final Pattern RELATIVE_WEEK_PATTERN = Pattern.compile("(?<![가-힣A-Za-z0-9])(?:(일주일)|([1-9]\\d*)\\s*주(?:일)?)\\s*뒤(?:에)?");
-    private static final Pattern RELATIVE_DAY_PATTERN = Pattern.compile("(?<![가-힣A-Za-z0-9])(?:(하루|이틀|사흘)|([1-9]\\d*)\\s*일)\\s*뒤(?:에)?");
-    private static final Pattern WEEKDAY_PATTERN = Pattern.compile("(?<![가-힣A-Za-z0-9])(이번주|다음주)?\\s*(월|화|수|목|금|토|일)(?:요일)?(?:에)?(?=\\s|$|까지|전까지)");
-    private static final Pattern DEADLINE_PATTERN = Pattern.compile("(오늘|내일|모레|(?<![가-힣A-Za-z0-9])(이번주|다음주)?\\s*(월|화|수|목|금|토|일)(?:요일)?)(까지|전까지)");
-    private static final Pattern MERIDIEM_TIME_PATTERN = Pattern.compile("(오전|오후)\\s*(\\d{1,2})(?:시)?(?:\\s*(\\d{1,2})분)?(?:에)?");
-    private static final Pattern CLOCK_TIME_PATTERN = Pattern.compile("(?<!\\d)(\\d{1,2}):(\\d{2})(?:에)?(?!\\d)");
-    private static final Pattern HOUR_TIME_PATTERN = Pattern.compile("(?<!\\d)(\\d{1,2})\\s*시(?:\\s*(\\d{1,2})분)?(?:에)?");
+    private static final int SIMPLE_INPUT_MAX_LENGTH = 30;
     private static final Pattern LIST_ITEM_PATTERN = Pattern.compile("^\\s*(?:[-*•]|\\d+[.)])\\s+");
     private static final Pattern EDGE_PARTICLE_PATTERN = Pattern.compile("^(에|에게|을|를|은|는|이|가|와|과|도|만|로|으로)\\s+|\\s+(에|에게|을|를|은|는|이|가|와|과|도|만|로|으로)$");
     private static final Pattern COMMAND_SUFFIX_PATTERN = Pattern.compile("\\s*(추가|생성|등록|저장|만들기|만들어줘|넣어줘|넣기|작성해줘|추가해줘)$");
     private static final Pattern TRAILING_PUNCTUATION_PATTERN = Pattern.compile("[.!?。！？]+$");
+    private static final Pattern TRAILING_MERIDIEM_PATTERN = Pattern.compile("(오전|오후)\\s*$");
+    //제목 힌트에서 지우는 순서 (날짜 토큰 -> 키워드 -> 시간 토큰)
+    private static final Kind[] TITLE_DATE_KINDS = {
+            Kind.DEADLINE, Kind.WEEKDAY, Kind.ISO_DATE, Kind.KOREAN_MONTH_DAY,
+            Kind.SLASH_MONTH_DAY, Kind.DAY_ONLY, Kind.RELATIVE_WEEK, Kind.RELATIVE_DAY
+    };
+    private static final Kind[] TITLE_TIME_KINDS = {Kind.MERIDIEM_TIME, Kind.CLOCK_TIME, Kind.HOUR_TIME};
+    private static final String[] TITLE_KEYWORDS = {"오늘", "내일", "모레", "다음주", "이번주", "매주", "매일", "전까지", "까지"};
     private final Clock clock;
 
     public RuleBasedExtractor() {
@@ -56,11 +59,20 @@ public class RuleBasedExtractor {
         Map<String, List<String>> warnings = new LinkedHashMap<>();
         boolean explicitTaskSignal = ScheduleTypeRules.containsExplicitTaskSignal(normalizedText);
         String maskedText = maskTaskAliases(normalizedText);
+        boolean hasRepeatExpression = hasRepeatExpression(maskedText);
 
-        LocalDate deadlineCandidate = extractDeadline(maskedText, referenceDate, warnings);
-        dateCandidates.addAll(extractDates(maskedText, referenceDate, warnings));
+        //해석 가능한 반복 표현은 먼저 떼어내서 요일/일자/구분자가 날짜나 멀티 일정으로 잡히지 않도록 함
+        RepeatExpressionParser.ParsedRepeat parsedRepeat = hasRepeatExpression ? RepeatExpressionParser.parse(maskedText) : null;
+        String scheduleText = parsedRepeat == null
+                ? maskedText
+                : maskedText.substring(0, parsedRepeat.start()) + " " + maskedText.substring(parsedRepeat.end());
 
-        timeCandidates.addAll(extractTimes(maskedText, warnings));
+        //날짜/시간 토큰은 본문을 한 번만 훑어서 모으고 아래 단계들이 같이 사용
+        Tokens tokens = RuleBasedTokenizer.tokenize(scheduleText);
+        LocalDate deadlineCandidate = extractDeadline(scheduleText, referenceDate, warnings);
+        dateCandidates.addAll(extractDates(tokens, referenceDate, warnings));
+
+        timeCandidates.addAll(extractTimes(tokens, warnings));
 
         return RuleBasedExtractionResult.builder()
                 .originalText(originalText)
@@ -70,76 +82,113 @@ public class RuleBasedExtractor {
                 .timeCandidates(timeCandidates)
                 .deadlineCandidate(deadlineCandidate)
                 .explicitTaskSignal(explicitTaskSignal)
-                .hasRepeatExpression(hasRepeatExpression(maskedText))
-                .titleHint(ScheduleTypeRules.normalizeTaskTitle(extractTitleHint(maskedText), explicitTaskSignal))
+                .hasRepeatExpression(hasRepeatExpression)
+                .repeatCandidate(parsedRepeat == null ? null : parsedRepeat.repeat())
+                .titleHint(ScheduleTypeRules.normalizeTaskTitle(extractTitleHint(tokens), explicitTaskSignal))
                 .warnings(warnings)
-                .ambiguousDate(hasAmbiguousDate(maskedText))
-                .ambiguousTime(hasAmbiguousTime(maskedText))
-                .hasMultipleItems(hasMultipleItems(maskedText, dateCandidates, timeCandidates))
+                .ambiguousDate(hasAmbiguousDate(scheduleText))
+                .ambiguousTime(hasAmbiguousTime(scheduleText))
+                .hasMultipleItems(hasMultipleItems(scheduleText, dateCandidates, timeCandidates))
                 .build();
     }
 
-    private List<LocalDate> extractDates(String text, LocalDate referenceDate, Map<String, List<String>> warnings) {
+    //여러 줄 목록이면 목록 기호를 뗀 줄 단위 항목으로 나눔 (목록이 아니면 빈 리스트)
+    public List<String> splitListItems(String normalizedText) {
+        if (normalizedText == null || !looksLikeMultiLineList(maskTaskAliases(normalizedText))) {
+            return List.of();
+        }
+
+        return normalizedText.lines()
+                .map(String::trim)
+                .filter(line -> !line.isBlank())
+                .map(this::stripListMarker)
+                .filter(line -> !line.isBlank())
+                .toList();
+    }
+
+    //추출 전에 입력만 보고 rule 경로가 확정할 가능성을 추정 (AgentService의 rule/llm 분기 조건과 맞춤)
+    public RuleConfidence estimateConfidence(String normalizedText) {
+        if (normalizedText == null || normalizedText.isBlank()) {
+            return RuleConfidence.LOW;
+        }
+
+        String maskedText = maskTaskAliases(normalizedText);
+        if (hasAmbiguousDate(maskedText) || hasAmbiguousTime(maskedText)) {
+            return RuleConfidence.LOW;
+        }
+        if (looksLikeMultiLineList(maskedText)) {
+            return RuleConfidence.MEDIUM;
+        }
+        if (normalizedText.length() > SIMPLE_INPUT_MAX_LENGTH
+                || maskedText.contains(",") || maskedText.contains(" 그리고 ") || maskedText.contains(" 및 ")) {
+            return RuleConfidence.LOW;
+        }
+        if (hasRepeatExpression(maskedText)) {
+            return RuleConfidence.MEDIUM;
+        }
+        if (hasScheduleSignal(RuleBasedTokenizer.tokenize(maskedText))
+                || ScheduleTypeRules.containsExplicitTaskSignal(normalizedText)) {
+            return RuleConfidence.HIGH;
+        }
+        return RuleConfidence.LOW;
+    }
+
+    private List<LocalDate> extractDates(Tokens tokens, LocalDate referenceDate, Map<String, List<String>> warnings) {
+        String text = tokens.text();
         List<LocalDate> dates = new ArrayList<>();
 
-        Matcher isoMatcher = ISO_DATE_PATTERN.matcher(text);
-        while (isoMatcher.find()) {
+        for (MatchResult iso : tokens.of(Kind.ISO_DATE)) {
             tryAddDate(
                     dates,
-                    Integer.parseInt(isoMatcher.group(1)),
-                    Integer.parseInt(isoMatcher.group(2)),
-                    Integer.parseInt(isoMatcher.group(3)),
-                    isoMatcher.group(),
+                    Integer.parseInt(iso.group(1)),
+                    Integer.parseInt(iso.group(2)),
+                    Integer.parseInt(iso.group(3)),
+                    iso.group(),
                     warnings
             );
         }
 
-        Matcher koreanMonthDayMatcher = KOREAN_MONTH_DAY_PATTERN.matcher(text);
-        while (koreanMonthDayMatcher.find()) {
+        for (MatchResult koreanMonthDay : tokens.of(Kind.KOREAN_MONTH_DAY)) {
             tryAddMonthDayDate(
                     dates,
-                    Integer.parseInt(koreanMonthDayMatcher.group(1)),
-                    Integer.parseInt(koreanMonthDayMatcher.group(2)),
+                    Integer.parseInt(koreanMonthDay.group(1)),
+                    Integer.parseInt(koreanMonthDay.group(2)),
                     referenceDate,
-                    koreanMonthDayMatcher.group(),
+                    koreanMonthDay.group(),
                     warnings
             );
         }
 
-        Matcher slashMonthDayMatcher = SLASH_MONTH_DAY_PATTERN.matcher(text);
-        while (slashMonthDayMatcher.find()) {
+        for (MatchResult slashMonthDay : tokens.of(Kind.SLASH_MONTH_DAY)) {
             tryAddMonthDayDate(
                     dates,
-                    Integer.parseInt(slashMonthDayMatcher.group(1)),
-                    Integer.parseInt(slashMonthDayMatcher.group(2)),
+                    Integer.parseInt(slashMonthDay.group(1)),
+                    Integer.parseInt(slashMonthDay.group(2)),
                     referenceDate,
-                    slashMonthDayMatcher.group(),
+                    slashMonthDay.group(),
                     warnings
             );
         }
 
-        Matcher dayOnlyMatcher = DAY_ONLY_PATTERN.matcher(text);
-        while (dayOnlyMatcher.find()) {
-            if (isPartOfMonthDayExpression(text, dayOnlyMatcher.start())) {
+        for (MatchResult dayOnly : tokens.of(Kind.DAY_ONLY)) {
+            if (isPartOfMonthDayExpression(text, dayOnly.start())) {
                 continue;
             }
             tryAddDayOnlyDate(
                     dates,
-                    Integer.parseInt(dayOnlyMatcher.group(1)),
+                    Integer.parseInt(dayOnly.group(1)),
                     referenceDate,
-                    dayOnlyMatcher.group(),
+                    dayOnly.group(),
                     warnings
             );
         }
 
-        Matcher relativeWeekMatcher = RELATIVE_WEEK_PATTERN.matcher(text);
-        while (relativeWeekMatcher.find()) {
-            dates.add(referenceDate.plusWeeks(parseRelativeWeekOffset(relativeWeekMatcher)));
+        for (MatchResult relativeWeek : tokens.of(Kind.RELATIVE_WEEK)) {
+            dates.add(referenceDate.plusWeeks(parseRelativeWeekOffset(relativeWeek)));
         }
 
-        Matcher relativeDayMatcher = RELATIVE_DAY_PATTERN.matcher(text);
-        while (relativeDayMatcher.find()) {
-            dates.add(referenceDate.plusDays(parseRelativeDayOffset(relativeDayMatcher)));
+        for (MatchResult relativeDay : tokens.of(Kind.RELATIVE_DAY)) {
+            dates.add(referenceDate.plusDays(parseRelativeDayOffset(relativeDay)));
         }
 
         if (text.contains("오늘")) {
@@ -152,9 +201,8 @@ public class RuleBasedExtractor {
             dates.add(referenceDate.plusDays(2));
         }
 
-        Matcher weekdayMatcher = WEEKDAY_PATTERN.matcher(text);
-        while (weekdayMatcher.find()) {
-            dates.add(resolveWeekdayDate(weekdayMatcher.group(1), weekdayMatcher.group(2), referenceDate));
+        for (MatchResult weekday : tokens.of(Kind.WEEKDAY)) {
+            dates.add(resolveWeekdayDate(weekday.group(1), weekday.group(2), referenceDate));
         }
 
         return dates.stream().distinct().toList();
@@ -166,8 +214,9 @@ public class RuleBasedExtractor {
             return null;
         }
 
-        String prefix = text.substring(0, markerIndex).trim();
-        List<LocalDate> deadlineDates = extractDates(prefix, referenceDate, warnings);
+        //잘라낸 앞부분은 경계(\b, 전후방 탐색)가 달라지므로 따로 토큰화
+        Tokens prefixTokens = RuleBasedTokenizer.tokenize(text.substring(0, markerIndex).trim());
+        List<LocalDate> deadlineDates = extractDates(prefixTokens, referenceDate, warnings);
         if (!deadlineDates.isEmpty()) {
             return deadlineDates.get(0);
         }
@@ -176,35 +225,33 @@ public class RuleBasedExtractor {
             return null;
         }
 
-        return extractTimes(prefix, warnings).isEmpty() ? null : referenceDate;
+        return extractTimes(prefixTokens, warnings).isEmpty() ? null : referenceDate;
     }
 
-    private List<LocalTime> extractTimes(String text, Map<String, List<String>> warnings) {
+    private List<LocalTime> extractTimes(Tokens tokens, Map<String, List<String>> warnings) {
         List<LocalTime> times = new ArrayList<>();
 
-        Matcher meridiemMatcher = MERIDIEM_TIME_PATTERN.matcher(text);
-        while (meridiemMatcher.find()) {
-            int hour = Integer.parseInt(meridiemMatcher.group(2));
-            int minute = meridiemMatcher.group(3) == null ? 0 : Integer.parseInt(meridiemMatcher.group(3));
-            if ("오후".equals(meridiemMatcher.group(1)) && hour < 12) {
+        for (MatchResult meridiem : tokens.of(Kind.MERIDIEM_TIME)) {
+            int hour = Integer.parseInt(meridiem.group(2));
+            int minute = meridiem.group(3) == null ? 0 : Integer.parseInt(meridiem.group(3));
+            if ("오후".equals(meridiem.group(1)) && hour < 12) {
                 hour += 12;
             }
-            if ("오전".equals(meridiemMatcher.group(1)) && hour == 12) {
+            if ("오전".equals(meridiem.group(1)) && hour == 12) {
                 hour = 0;
             }
-            tryAddTime(times, hour, minute, meridiemMatcher.group(), warnings);
+            tryAddTime(times, hour, minute, meridiem.group(), warnings);
         }
         if (!times.isEmpty()) {
             return times.stream().distinct().toList();
         }
 
-        Matcher clockMatcher = CLOCK_TIME_PATTERN.matcher(text);
-        while (clockMatcher.find()) {
+        for (MatchResult clock : tokens.of(Kind.CLOCK_TIME)) {
             tryAddTime(
                     times,
-                    Integer.parseInt(clockMatcher.group(1)),
-                    Integer.parseInt(clockMatcher.group(2)),
-                    clockMatcher.group(),
+                    Integer.parseInt(clock.group(1)),
+                    Integer.parseInt(clock.group(2)),
+                    clock.group(),
                     warnings
             );
         }
@@ -212,11 +259,10 @@ public class RuleBasedExtractor {
             return times.stream().distinct().toList();
         }
 
-        Matcher hourMatcher = HOUR_TIME_PATTERN.matcher(text);
-        while (hourMatcher.find()) {
-            int hour = Integer.parseInt(hourMatcher.group(1));
-            int minute = hourMatcher.group(2) == null ? 0 : Integer.parseInt(hourMatcher.group(2));
-            tryAddTime(times, hour, minute, hourMatcher.group(), warnings);
+        for (MatchResult hourToken : tokens.of(Kind.HOUR_TIME)) {
+            int hour = Integer.parseInt(hourToken.group(1));
+            int minute = hourToken.group(2) == null ? 0 : Integer.parseInt(hourToken.group(2));
+            tryAddTime(times, hour, minute, hourToken.group(), warnings);
         }
 
         return times.stream().distinct().toList();
@@ -289,24 +335,16 @@ public class RuleBasedExtractor {
     }
 
     private boolean looksLikeStandaloneScheduleLine(String line) {
-        return hasScheduleSignal(line) && !extractTitleHint(line).isBlank();
+        Tokens tokens = RuleBasedTokenizer.tokenize(line);
+        return hasScheduleSignal(tokens) && !extractTitleHint(tokens).isBlank();
     }
 
-    private boolean hasScheduleSignal(String line) {
+    private boolean hasScheduleSignal(Tokens tokens) {
+        String line = tokens.text();
         return line.contains("오늘")
                 || line.contains("내일")
                 || line.contains("모레")
-                || RELATIVE_WEEK_PATTERN.matcher(line).find()
-                || RELATIVE_DAY_PATTERN.matcher(line).find()
-                || DEADLINE_PATTERN.matcher(line).find()
-                || WEEKDAY_PATTERN.matcher(line).find()
-                || ISO_DATE_PATTERN.matcher(line).find()
-                || KOREAN_MONTH_DAY_PATTERN.matcher(line).find()
-                || SLASH_MONTH_DAY_PATTERN.matcher(line).find()
-                || DAY_ONLY_PATTERN.matcher(line).find()
-                || MERIDIEM_TIME_PATTERN.matcher(line).find()
-                || CLOCK_TIME_PATTERN.matcher(line).find()
-                || HOUR_TIME_PATTERN.matcher(line).find();
+                || !tokens.isEmpty();
     }
 
     private boolean hasListMarker(String line) {
@@ -317,30 +355,71 @@ public class RuleBasedExtractor {
         return LIST_ITEM_PATTERN.matcher(line).replaceFirst("").trim();
     }
 
-    private String extractTitleHint(String text) {
-        String title = text;
-        title = DEADLINE_PATTERN.matcher(title).replaceAll(" ");
-        title = WEEKDAY_PATTERN.matcher(title).replaceAll(" ");
-        title = ISO_DATE_PATTERN.matcher(title).replaceAll(" ");
-        title = KOREAN_MONTH_DAY_PATTERN.matcher(title).replaceAll(" ");
-        title = SLASH_MONTH_DAY_PATTERN.matcher(title).replaceAll(" ");
-        title = DAY_ONLY_PATTERN.matcher(title).replaceAll(" ");
-        title = RELATIVE_WEEK_PATTERN.matcher(title).replaceAll(" ");
-        title = RELATIVE_DAY_PATTERN.matcher(title).replaceAll(" ");
-        title = title.replace("오늘", " ")
-                .replace("내일", " ")
-                .replace("모레", " ")
-                .replace("다음주", " ")
-                .replace("이번주", " ")
-                .replace("매주", " ")
-                .replace("매일", " ")
-                .replace("전까지", " ")
-                .replace("까지", " ");
-        title = title.replaceAll("(오전|오후)\\s*$", " ");
-        title = MERIDIEM_TIME_PATTERN.matcher(title).replaceAll(" ");
-        title = CLOCK_TIME_PATTERN.matcher(title).replaceAll(" ");
-        title = HOUR_TIME_PATTERN.matcher(title).replaceAll(" ");
-        return sanitizeTitleHint(title);
+    //토큰 자리를 같은 길이의 공백으로 지움 (한 칸으로 치환하는 것과는 공백 개수만 다르고 sanitize에서 합쳐짐)
+    //앞 단계에서 지운 글자가 뒤 토큰의 경계를 바꿀 수 있으므로, 지운 뒤에만 남은 종류를 다시 토큰화
+    private String extractTitleHint(Tokens tokens) {
+        char[] title = tokens.text().toCharArray();
+        Tokens current = tokens;
+        for (Kind kind : TITLE_DATE_KINDS) {
+            if (current == null) {
+                current = RuleBasedTokenizer.tokenize(new String(title), EnumSet.range(kind, Kind.RELATIVE_DAY));
+            }
+            if (blankTokens(title, current.of(kind))) {
+                current = null;
+            }
+        }
+
+        for (String keyword : TITLE_KEYWORDS) {
+            blankKeyword(title, keyword);
+        }
+        Matcher trailingMeridiem = TRAILING_MERIDIEM_PATTERN.matcher(new String(title));
+        while (trailingMeridiem.find()) {
+            blank(title, trailingMeridiem.start(), trailingMeridiem.end());
+        }
+
+        current = null;
+        for (Kind kind : TITLE_TIME_KINDS) {
+            if (current == null) {
+                current = RuleBasedTokenizer.tokenize(new String(title), EnumSet.range(kind, Kind.HOUR_TIME));
+            }
+            if (blankTokens(title, current.of(kind))) {
+                current = null;
+            }
+        }
+        return sanitizeTitleHint(new String(title));
+    }
+
+    private boolean blankTokens(char[] text, List<MatchResult> matches) {
+        for (MatchResult match : matches) {
+            blank(text, match.start(), match.end());
+        }
+        return !matches.isEmpty();
+    }
+
+    //String.replace와 같이 앞에서부터 겹치지 않게 지움 (키워드에 공백이 없어서 지운 자리와 다시 맞지 않음)
+    private void blankKeyword(char[] text, String keyword) {
+        int last = text.length - keyword.length();
+        for (int i = 0; i <= last; i++) {
+            if (text[i] == keyword.charAt(0) && regionMatches(text, i, keyword)) {
+                blank(text, i, i + keyword.length());
+                i += keyword.length() - 1;
+            }
+        }
+    }
+
+    private boolean regionMatches(char[] text, int offset, String keyword) {
+        for (int j = 1; j < keyword.length(); j++) {
+            if (text[offset + j] != keyword.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void blank(char[] text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            text[i] = ' ';
+        }
     }
 
     private String sanitizeTitleHint(String title) {
@@ -403,9 +482,34 @@ public class RuleBasedExtractor {
         }
     }
 
+    //앞부분이 "숫자 + 월 + 공백"으로 끝나는지 뒤에서부터 확인 (".*\\d{1,2}\\s*월\\s*$"와 같은 판정)
     private boolean isPartOfMonthDayExpression(String text, int dayTokenStartIndex) {
-        String prefix = text.substring(0, dayTokenStartIndex);
-        return prefix.matches(".*\\d{1,2}\\s*월\\s*$");
+        int i = skipWhitespaceBackward(text, dayTokenStartIndex - 1);
+        if (i < 0 || text.charAt(i) != '월') {
+            return false;
+        }
+        i = skipWhitespaceBackward(text, i - 1);
+        if (i < 0 || text.charAt(i) < '0' || text.charAt(i) > '9') {
+            return false;
+        }
+        //".*"는 줄바꿈을 넘지 않으므로 숫자 앞이 한 줄이어야 함
+        for (int j = 0; j < i; j++) {
+            if (isLineTerminator(text.charAt(j))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int skipWhitespaceBackward(String text, int index) {
+        while (index >= 0 && RuleBasedTokenizer.isWhitespace(text.charAt(index))) {
+            index--;
+        }
+        return index;
+    }
+
+    private boolean isLineTerminator(char ch) {
+        return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
     }
 
     private void tryAddTime(List<LocalTime> times, int hour, int minute, String token, Map<String, List<String>> warnings) {
@@ -435,14 +539,14 @@ public class RuleBasedExtractor {
         return warningCount(warnings, fieldName) > 0;
     }
 
-    private long parseRelativeWeekOffset(Matcher matcher) {
+    private long parseRelativeWeekOffset(MatchResult matcher) {
         if (matcher.group(1) != null) {
             return 1;
         }
         return Long.parseLong(matcher.group(2));
     }
 
-    private long parseRelativeDayOffset(Matcher matcher) {
+    private long parseRelativeDayOffset(MatchResult matcher) {
         if (matcher.group(1) == null) {
             return Long.parseLong(matcher.group(2));
         }
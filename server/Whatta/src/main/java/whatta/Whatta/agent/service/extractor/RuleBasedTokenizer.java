@@ -0,0 +1,142 @@
+package whatta.Whatta.agent.service.extractor;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 룰 기반 추출에 쓰는 날짜/시간/마감 토큰을 한 번의 순회로 모은다.
+ * 각 토큰 패턴의 의미(전후방 탐색 포함)는 그대로 두고, 패턴마다 본문 전체를 find()로 훑는 대신
+ * 순회 중 첫 글자가 맞는 위치에서만 해당 패턴을 고정 위치(lookingAt)로 시도한다.
+ * 패턴별로 직전 토큰의 끝 이후부터 시도하므로 결과는 패턴별 find() 반복과 같다.
+ */
+final class RuleBasedTokenizer {
+
+    enum Kind {
+        DEADLINE("(오늘|내일|모레|(?<![가-힣A-Za-z0-9])(이번주|다음주)?\\s*(월|화|수|목|금|토|일)(?:요일)?)(까지|전까지)"),
+        WEEKDAY("(?<![가-힣A-Za-z0-9])(이번주|다음주)?\\s*(월|화|수|목|금|토|일)(?:요일)?(?:에)?(?=\\s|$|까지|전까지)"),
+        ISO_DATE("\\b(\\d{4})-(\\d{2})-(\\d{2})\\b"),
+        KOREAN_MONTH_DAY("(?<!\\d)(\\d{1,2})\\s*월\\s*(\\d{1,2})\\s*일(?!\\d)"),
+        SLASH_MONTH_DAY("(?<!\\d)(\\d{1,2})/(\\d{1,2})(?!\\d)"),
+        DAY_ONLY("(?<![\\d월/])(\\d{1,2})\\s*일(?!\\s*(?:뒤|후|간|동안|째|치|짜리))(?!\\d)"),
+        RELATIVE_WEEK("(?<![가-힣A-Za-z0-9])(?:(일주일)|([1-9]\\d*)\\s*주(?:일)?)\\s*뒤(?:에)?"),
+        RELATIVE_DAY("(?<![가-힣A-Za-z0-9])(?:(하루|이틀|사흘)|([1-9]\\d*)\\s*일)\\s*뒤(?:에)?"),
+        MERIDIEM_TIME("(오전|오후)\\s*(\\d{1,2})(?:시)?(?:\\s*(\\d{1,2})분)?(?:에)?"),
+        CLOCK_TIME("(?<!\\d)(\\d{1,2}):(\\d{2})(?:에)?(?!\\d)"),
+        HOUR_TIME("(?<!\\d)(\\d{1,2})\\s*시(?:\\s*(\\d{1,2})분)?(?:에)?");
+
+        private final Pattern pattern;
+
+        Kind(String regex) {
+            this.pattern = Pattern.compile(regex);
+        }
+
+        Pattern pattern() {
+            return pattern;
+        }
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+
+    private RuleBasedTokenizer() {
+    }
+
+    static Tokens tokenize(String text) {
+        return tokenize(text, EnumSet.allOf(Kind.class));
+    }
+
+    //일부 종류만 필요할 때 (제목 힌트에서 앞 토큰을 지운 뒤 남은 종류만 다시 찾는 경우)
+    static Tokens tokenize(String text, Set<Kind> kinds) {
+        Tokens tokens = new Tokens(text);
+        if (text == null || text.isEmpty() || kinds.isEmpty()) {
+            return tokens;
+        }
+
+        Kind[] targets = kinds.toArray(new Kind[0]);
+        Matcher[] matchers = new Matcher[KINDS.length];
+        int[] nextStart = new int[KINDS.length];
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char ch = text.charAt(i);
+            for (Kind kind : targets) {
+                int k = kind.ordinal();
+                if (i < nextStart[k] || !canStart(kind, ch)) {
+                    continue;
+                }
+                Matcher matcher = matchers[k];
+                if (matcher == null) {
+                    //lookbehind/lookahead/\b/$가 영역 밖의 실제 본문을 보도록 transparent, non-anchoring
+                    matcher = kind.pattern.matcher(text).useTransparentBounds(true).useAnchoringBounds(false);
+                    matchers[k] = matcher;
+                }
+                matcher.region(i, length);
+                if (matcher.lookingAt()) {
+                    tokens.add(kind, matcher.toMatchResult());
+                    nextStart[k] = matcher.end() > i ? matcher.end() : i + 1;
+                }
+            }
+        }
+        return tokens;
+    }
+
+    //각 패턴이 시작될 수 있는 첫 글자 (필요 조건만 검사, 실제 판정은 패턴이 함)
+    private static boolean canStart(Kind kind, char ch) {
+        return switch (kind) {
+            case ISO_DATE, KOREAN_MONTH_DAY, SLASH_MONTH_DAY, DAY_ONLY, CLOCK_TIME, HOUR_TIME -> isDigit(ch);
+            case RELATIVE_WEEK -> ch == '일' || (ch >= '1' && ch <= '9');
+            case RELATIVE_DAY -> ch == '하' || ch == '이' || ch == '사' || (ch >= '1' && ch <= '9');
+            case WEEKDAY -> ch == '이' || ch == '다' || isWhitespace(ch) || isWeekdayChar(ch);
+            case DEADLINE -> ch == '오' || ch == '내' || ch == '모' || ch == '이' || ch == '다' || isWhitespace(ch) || isWeekdayChar(ch);
+            case MERIDIEM_TIME -> ch == '오';
+        };
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    //정규식 \s 와 같은 범위
+    static boolean isWhitespace(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000B' || ch == '\f' || ch == '\r';
+    }
+
+    private static boolean isWeekdayChar(char ch) {
+        return ch == '월' || ch == '화' || ch == '수' || ch == '목' || ch == '금' || ch == '토' || ch == '일';
+    }
+
+    static final class Tokens {
+
+        private final String text;
+        private final List<List<MatchResult>> byKind = new ArrayList<>(KINDS.length);
+        private int size;
+
+        private Tokens(String text) {
+            this.text = text;
+            for (int i = 0; i < KINDS.length; i++) {
+                byKind.add(new ArrayList<>(2));
+            }
+        }
+
+        private void add(Kind kind, MatchResult match) {
+            byKind.get(kind.ordinal()).add(match);
+            size++;
+        }
+
+        String text() {
+            return text;
+        }
+
+        //토큰 종류별로 본문 앞쪽부터
+        List<MatchResult> of(Kind kind) {
+            return byKind.get(kind.ordinal());
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
@@ -35,7 +35,7 @@ public class AgentPostNormalizer {
                 .startTime(candidate.startTime())
                 .endTime(candidate.endTime())
                 .dueDateTime(candidate.dueDateTime())
-                .repeat(null)
+                .repeat(candidate.repeat())
                 .warnings(warnings == null ? Map.of() : warnings)
                 .build();
     }
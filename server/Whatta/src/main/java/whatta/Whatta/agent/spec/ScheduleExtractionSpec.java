@@ -16,29 +16,38 @@ public final class ScheduleExtractionSpec {
 
     public static final String NAME = "schedule_create_intent";
 
+    //지시문/스키마가 바뀌면 올림 (요청 템플릿 캐시 키, prompt_cache_key에 사용)
+    public static final String VERSION = "v2";
+
+    //요청마다 바뀌는 값(현재 시각)은 넣지 않음 -> 지시문+스키마가 매번 같은 prefix라 OpenAI prompt cache에 걸림
+    private static final String INSTRUCTIONS = """
+            너는 자연어에서 스케줄 생성 의도를 추론하는 파서다.
+            설명 문장, 마크다운, 코드블록을 절대 출력하지 않는다.
+
+            규칙:
+            1) 하나의 입력에 스케줄이 여러 개면 items 배열에 각각 분리해서 넣고, 입력에 나온 순서를 유지한다.
+            2) is_schedule은 입력이 스케줄 생성과 연관이 있다면 true, 그 외는 false를 사용한다.
+            4) 반복 일정이 명확히 보일 때만 repeat_rule을 넣는다.
+            5) repeat_rule은 아래 형식 중 하나만 사용한다:
+               - DAILY
+               - WEEKLY:MON[,TUE...]
+               - MONTHLY:DAY=15
+               - MONTHLY:WEEK=1,DAY=MON
+               - MONTHLY:WEEK=LAST,DAY=MON
+               - MONTHLY:LASTDAY
+            6) due_date_time은 마감 의미가 명확할 때만 넣는다.
+            7) 날짜나 시간 정보가 명시되지 않았거나, “33일”, “25시”처럼 유효하지 않은 입력은 start_date나 start_time에 null을 넣는다.
+            8) 상대 날짜 및 시간은(오늘/내일/모레/다음 주/오전/오후/저녁 등) 입력 앞에 주어지는 기준 시각(Asia/Seoul, KST, UTC+09:00)을 기준으로 해석하여 계산한다.
+            """;
+
     public static String instructions() {
-        String now = LocalDateTime.now(KST_ZONE_ID).truncatedTo(ChronoUnit.SECONDS).toString().replace('T', ' ');
-        return """
-                너는 자연어에서 스케줄 생성 의도를 추론하는 파서다.
-                설명 문장, 마크다운, 코드블록을 절대 출력하지 않는다.
+        return INSTRUCTIONS;
+    }
 
-                규칙:
-                1) 하나의 입력에 스케줄이 여러 개면 items 배열에 각각 분리해서 넣고, 입력에 나온 순서를 유지한다.
-                2) is_schedule은 입력이 스케줄 생성과 연관이 있다면 true, 그 외는 false를 사용한다.
-                4) 반복 일정이 명확히 보일 때만 repeat_rule을 넣는다.
-                5) repeat_rule은 아래 형식 중 하나만 사용한다:
-                   - DAILY
-                   - WEEKLY:MON[,TUE...]
-                   - MONTHLY:DAY=15
-                   - MONTHLY:WEEK=1,DAY=MON
-                   - MONTHLY:WEEK=LAST,DAY=MON
-                   - MONTHLY:LASTDAY
-                6) due_date_time은 마감 의미가 명확할 때만 넣는다.
-                7) 날짜나 시간 정보가 명시되지 않았거나, “33일”, “25시”처럼 유효하지 않은 입력은 start_date나 start_time에 null을 넣는다.
-                """
-                + "8) 상대 날짜 및 시간은(오늘/내일/모레/다음 주/오전/오후/저녁 등) Asia/Seoul (KST, UTC+09:00) 기준 "
-                + now
-                + " 를 기준으로 해석하여 계산한다.\n";
+    //지시문 뒤, 사용자 입력 앞에 붙는 기준 시각 (초 단위)
+    public static String referenceTime() {
+        String now = LocalDateTime.now(KST_ZONE_ID).truncatedTo(ChronoUnit.SECONDS).toString().replace('T', ' ');
+        return "기준 시각: " + now + " (Asia/Seoul, KST, UTC+09:00)";
     }
 
     private static final String SCHEDULE_JSON_SCHEMA = """
@@ -12,10 +12,10 @@ import whatta.Whatta.calendar.repository.CalendarEventsRepositoryCustom;
 import whatta.Whatta.calendar.repository.CalendarTasksRepositoryCustom;
 import whatta.Whatta.global.exception.ErrorCode;
 import whatta.Whatta.global.exception.RestApiException;
+import whatta.Whatta.global.label.LabelDictionary;
 import whatta.Whatta.global.label.payload.LabelItem;
 import whatta.Whatta.global.util.LabelUtil;
-import whatta.Whatta.user.setting.entity.UserSetting;
-import whatta.Whatta.user.setting.repository.UserSettingRepository;
+import whatta.Whatta.user.setting.service.LabelDictionaryCache;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -36,7 +36,7 @@ public class CalendarViewService {
     private final CalendarTasksRepositoryCustom calendarTasksRepository;
     private final Executor calendarExecutor;
     private final CalendarMapper calendarMapper;
-    private final UserSettingRepository userSettingRepository;
+    private final LabelDictionaryCache labelDictionaryCache;
 
 
     public DailyResponse getDaily(String userId, LocalDate date) {
@@ -348,10 +348,10 @@ public class CalendarViewService {
             return List.of();
 
 
-        UserSetting userSetting = userSettingRepository.findByUserId(userId)
+        LabelDictionary labelDictionary = labelDictionaryCache.find(userId)
                 .orElseThrow(() -> new RestApiException(ErrorCode.USER_NOT_EXIST));
 
-        return LabelUtil.getTitleAndColorKeyByIdsForResponse(userSetting, new ArrayList<>(labelIds));
+        return LabelUtil.getTitleAndColorKeyByIdsForResponse(labelDictionary, labelIds);
     }
 
     public MonthlyResponse getMonthly(String userId, YearMonth month) {
@@ -477,10 +477,10 @@ public class CalendarViewService {
             return List.of();
         }
 
-        UserSetting userSetting = userSettingRepository.findByUserId(userId)
+        LabelDictionary labelDictionary = labelDictionaryCache.find(userId)
                 .orElseThrow(() -> new RestApiException(ErrorCode.USER_NOT_EXIST));
 
-        return LabelUtil.getTitleAndColorKeyByIdsForResponse(userSetting, new ArrayList<>(labelIds));
+        return LabelUtil.getTitleAndColorKeyByIdsForResponse(labelDictionary, labelIds);
     }
 
     private List<LocalDate> buildDateRange(LocalDate start, LocalDate end) {
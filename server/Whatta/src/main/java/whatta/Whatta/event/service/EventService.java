@@ -15,13 +15,11 @@ import whatta.Whatta.event.payload.response.TodayEventSummaryResponse;
 import whatta.Whatta.event.repository.EventRepository;
 import whatta.Whatta.global.exception.ErrorCode;
 import whatta.Whatta.global.exception.RestApiException;
-import whatta.Whatta.global.util.LabelUtil;
 import whatta.Whatta.global.util.LocalDateTimeUtil;
 import whatta.Whatta.notification.service.ReminderNotiService;
 import whatta.Whatta.user.account.entity.User;
-import whatta.Whatta.user.setting.entity.UserSetting;
 import whatta.Whatta.user.account.repository.UserRepository;
-import whatta.Whatta.user.setting.repository.UserSettingRepository;
+import whatta.Whatta.user.setting.service.LabelDictionaryCache;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -40,7 +38,7 @@ public class EventService {
     private final EventRepository eventRepository;
     private final CalendarEventsRepositoryCustom calendarEventsRepository;
     private final UserRepository userRepository;
-    private final UserSettingRepository userSettingRepository;
+    private final LabelDictionaryCache labelDictionaryCache;
     private final EventMapper eventMapper;
     private final ReminderNotiService scheduledNotiService;
 
@@ -50,10 +48,7 @@ public class EventService {
         User user = userRepository.findUserById(userId)
                 .orElseThrow(() -> new RestApiException(ErrorCode.USER_NOT_EXIST));
 
-        UserSetting userSetting = userSettingRepository.findByUserId(userId)
-                .orElseThrow(() -> new RestApiException(ErrorCode.USER_SETTING_NOT_FOUND));
-
-        LabelUtil.validateLabelsInUserSettings(userSetting, request.labels());
+        labelDictionaryCache.validateLabels(userId, request.labels());
 
         Event.EventBuilder eventBuilder = Event.builder()
                 .userId(user.getId())
@@ -104,14 +99,11 @@ public class EventService {
         Event originalEvent = eventRepository.findEventByIdAndUserId(eventId, userId)
                 .orElseThrow(() -> new RestApiException(ErrorCode.EVENT_NOT_FOUND));
 
-        UserSetting userSetting = userSettingRepository.findByUserId(userId)
-                .orElseThrow(() -> new RestApiException(ErrorCode.USER_SETTING_NOT_FOUND));
-
         Event.EventBuilder builder = originalEvent.toBuilder();
         if(request.title() != null && !request.title().isBlank()) builder.title(request.title());
         if(request.content() != null && !request.content().isBlank()) builder.content(request.content());
         if(request.labels() != null && !request.labels().isEmpty()) {
-            LabelUtil.validateLabelsInUserSettings(userSetting, request.labels());
+            labelDictionaryCache.validateLabels(userId, request.labels());
             builder.labels(request.labels());
         }
         if(request.startDate() != null) builder.startDate(request.startDate());
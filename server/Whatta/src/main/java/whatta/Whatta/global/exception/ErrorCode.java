@@ -15,6 +15,9 @@ public enum ErrorCode {
 
     //601-xx : task 관련 오류
     TASK_NOT_FOUND(HttpStatus.NOT_FOUND, "601-1", "해당 작업이 존재하지 않습니다."),
+    INVALID_TASK_MOVE(HttpStatus.BAD_REQUEST, "601-2", "잘못된 작업 이동 요청입니다."),
+    INVALID_TASK_CURSOR(HttpStatus.BAD_REQUEST, "601-3", "유효하지 않은 작업 목록 커서입니다."),
+    INVALID_TASK_BULK_OPERATION(HttpStatus.BAD_REQUEST, "601-4", "잘못된 작업 일괄 처리 요청입니다."),
 
     //700-xx : 사용자 계정/토큰 관련 오류
     USER_NOT_EXIST(HttpStatus.NOT_FOUND, "700-1", "해당 계정이 존재하지 않습니다."),
@@ -48,7 +51,12 @@ public enum ErrorCode {
     INVALID_STORAGE_OBJECT_KEY(HttpStatus.BAD_REQUEST, "900-6", "유효하지 않은 storage objectKey 입니다."),
     UNSUPPORTED_STORAGE_CONTENT_TYPE(HttpStatus.BAD_REQUEST, "900-7", "지원하지 않는 업로드 contentType 입니다."),
     INVALID_STORAGE_FILE(HttpStatus.BAD_REQUEST, "900-8", "업로드할 파일이 비어있거나 읽을 수 없습니다."),
-    AI_DAILY_USAGE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "900-9", "오늘의 AI 기능 사용 횟수를 모두 사용했습니다.");
+    AI_DAILY_USAGE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "900-9", "오늘의 AI 기능 사용 횟수를 모두 사용했습니다."),
+    OCR_REQUEST_REJECTED(HttpStatus.SERVICE_UNAVAILABLE, "900-10", "OCR 요청이 많아 잠시 후 다시 시도해주세요."),
+    OCR_API_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "900-11", "OCR 처리 시간이 초과되었습니다."),
+    OCR_BATCH_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "900-12", "한 번에 등록할 수 있는 이미지 수를 초과했습니다."),
+    AI_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "900-13", "해당 AI 추출 작업이 존재하지 않습니다."),
+    AI_JOB_INTERRUPTED(HttpStatus.SERVICE_UNAVAILABLE, "900-14", "AI 추출 작업이 중단되었습니다. 다시 요청해주세요.");
 
 
     private final HttpStatus httpStatus;
@@ -2,6 +2,7 @@ package whatta.Whatta.global.exception;
 
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -36,6 +37,15 @@ public class GlobalExceptionHandler {
                 .body(new Response(errorCode.getCode(), errorCode.getMessage(), null));
     }
 
+    @ExceptionHandler(RetryableRestApiException.class)
+    protected ResponseEntity<Response> handleRetryableRestApiExceptions(RetryableRestApiException ex){
+        ErrorCode errorCode = ex.getErrorCode();
+        return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new Response(errorCode.getCode(), errorCode.getMessage(), null));
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<Response> handleJsonParseException(HttpMessageNotReadableException ex) {
         String errorMessage = "요청 본문(JSON) 형식이 잘못되었거나, 데이터 타입이 일치하지 않습니다.";
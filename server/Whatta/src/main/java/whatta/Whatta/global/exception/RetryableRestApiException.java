@@ -0,0 +1,15 @@
+package whatta.Whatta.global.exception;
+
+import lombok.Getter;
+
+//잠시 후 다시 시도하면 되는 거절 (응답에 Retry-After 헤더를 붙임)
+@Getter
+public class RetryableRestApiException extends RestApiException {
+
+    private final long retryAfterSeconds;
+
+    public RetryableRestApiException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
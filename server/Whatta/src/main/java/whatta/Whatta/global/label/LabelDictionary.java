@@ -0,0 +1,53 @@
+package whatta.Whatta.global.label;
+
+import whatta.Whatta.global.label.payload.LabelItem;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//사용자 라벨을 id로 바로 찾을 수 있게 한 번만 정리해 둔 불변 사전
+//- 응답용 LabelItem 생성 시 라벨 목록을 매번 복사하거나 map으로 다시 만들지 않음
+public final class LabelDictionary {
+
+    private static final LabelDictionary EMPTY = new LabelDictionary(Map.of());
+
+    private final Map<Long, LabelItem> itemsById;
+
+    private LabelDictionary(Map<Long, LabelItem> itemsById) {
+        this.itemsById = itemsById;
+    }
+
+    public static LabelDictionary of(List<Label> labels) {
+        if (labels == null || labels.isEmpty()) {
+            return EMPTY;
+        }
+        Map<Long, LabelItem> itemsById = new HashMap<>(labels.size() * 2);
+        for (Label label : labels) {
+            itemsById.put(label.getId(), LabelItem.builder()
+                    .id(label.getId())
+                    .title(label.getTitle())
+                    //.colorKey(label.getColorKey())
+                    .build());
+        }
+        return new LabelDictionary(Map.copyOf(itemsById));
+    }
+
+    //요청한 id 순서대로, 사이에 삭제된 라벨 id는 건너뜀
+    public List<LabelItem> toItems(Collection<Long> labelIds) {
+        List<LabelItem> items = new ArrayList<>(labelIds.size());
+        for (Long labelId : labelIds) {
+            LabelItem item = labelId == null ? null : itemsById.get(labelId);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    public int size() {
+        return itemsById.size();
+    }
+}
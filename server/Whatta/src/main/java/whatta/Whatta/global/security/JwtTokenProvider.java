@@ -1,29 +1,55 @@
 package whatta.Whatta.global.security;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import whatta.Whatta.global.util.ContentHashUtil;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
-
     private final long accessTokenValidTime = 30 * 60 * 1000L;//유효기간 30분
     private final long refreshTokenValidTime = 14 * 24 * 60 * 60 * 1000L;//유효기간 14일
 
+    //secret 문자열은 base64로 보고 한 번만 디코딩 (기존 signWith/setSigningKey(String)과 같은 키)
+    private final Key signingKey;
+    //파서는 불변이라 요청마다 새로 만들지 않고 공유
+    private final JwtParser jwtParser;
+
+    //검증을 마친 토큰의 해시 -> (userId, 만료 시각)
+    //같은 access token으로 들어오는 요청은 만료 전까지 서명 검증/claims 파싱을 다시 하지 않음 (토큰 원문은 보관하지 않음)
+    private final int verifiedCacheMaxEntries;
+    private final Map<String, VerifiedToken> verifiedTokens;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+                            @Value("${jwt.verified-cache.max-entries:10000}") int verifiedCacheMaxEntries) {
+        this.signingKey = new SecretKeySpec(Decoders.BASE64.decode(secretKey), SignatureAlgorithm.HS256.getJcaName());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedCacheMaxEntries = verifiedCacheMaxEntries;
+        this.verifiedTokens = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > verifiedCacheMaxEntries;
+            }
+        };
+    }
+
     public String createAccessToken(String userId) {
         return createToken(userId, accessTokenValidTime);
     }
@@ -38,18 +64,13 @@ public class JwtTokenProvider {
                 .setClaims(claims) //정보 저장
                 .setIssuedAt(now) //토큰 발행 시간 정보
                 .setExpiration(new Date(now.getTime() + validTime)) //만료시간
-                .signWith(SignatureAlgorithm.HS256, secretKey) //암호화 알고리즘과 secretKey값 세팅
+                .signWith(signingKey, SignatureAlgorithm.HS256) //암호화 알고리즘과 secretKey값 세팅
                 .compact();
     }
 
-    //토큰에서 회원 정보 추출
+    //토큰에서 회원 정보 추출 (만료/위조 토큰은 기존처럼 JwtException)
     public Authentication getAuthentication(String token) {
-         String userId = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+         String userId = verify(token).userId();
 
          return new UsernamePasswordAuthenticationToken(userId, "", Collections.emptyList());
     }
@@ -57,11 +78,7 @@ public class JwtTokenProvider {
     //토큰 유효성 + 만료일자 확인
     public boolean validateToken(String jwtToken) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(jwtToken);
-            return !claims.getBody().getExpiration().before(new Date());
+            return verify(jwtToken).expiresAt() > System.currentTimeMillis();
         } catch (Exception e) {
             return false;
         }
@@ -75,4 +92,33 @@ public class JwtTokenProvider {
         return null;
     }
 
+    private VerifiedToken verify(String token) {
+        String tokenHash = verifiedCacheMaxEntries > 0 ? ContentHashUtil.sha256Hex(token) : null;
+        if (tokenHash != null) {
+            synchronized (verifiedTokens) {
+                VerifiedToken cached = verifiedTokens.get(tokenHash);
+                if (cached != null) {
+                    if (cached.expiresAt() > System.currentTimeMillis()) {
+                        return cached;
+                    }
+                    //만료된 토큰은 다시 파싱해서 ExpiredJwtException을 그대로 던지게 함
+                    verifiedTokens.remove(tokenHash);
+                }
+            }
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        Date expiration = claims.getExpiration();
+        //만료 시각이 없는 토큰은 유효하지 않은 것으로 보고 캐시하지 않음 (이 서버가 발급하는 토큰에는 항상 있음)
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), expiration == null ? 0L : expiration.getTime());
+        if (tokenHash != null && expiration != null) {
+            synchronized (verifiedTokens) {
+                verifiedTokens.put(tokenHash, verified);
+            }
+        }
+        return verified;
+    }
+
+    private record VerifiedToken(String userId, long expiresAt) {
+    }
 }
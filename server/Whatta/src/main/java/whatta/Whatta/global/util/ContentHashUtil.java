@@ -0,0 +1,54 @@
+package whatta.Whatta.global.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+
+public class ContentHashUtil {
+
+    private static final int CHUNK_SIZE = 64 * 1024; //base64 4글자 단위를 깨지 않도록 4의 배수
+
+    public static String sha256Hex(String text) {
+        MessageDigest digest = newDigest();
+        digest.update((text == null ? "" : text).getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    //base64 문자열을 조각 단위로 디코딩하면서 원본 바이트의 해시 계산 (multipart 업로드와 같은 키가 나옴)
+    public static String sha256HexFromBase64(String base64) {
+        MessageDigest digest = newDigest();
+        Base64.Decoder decoder = Base64.getDecoder();
+        byte[] encoded = new byte[CHUNK_SIZE];
+        for (int start = 0; start < base64.length(); start += CHUNK_SIZE) {
+            int length = Math.min(CHUNK_SIZE, base64.length() - start);
+            for (int i = 0; i < length; i++) {
+                encoded[i] = (byte) base64.charAt(start + i);
+            }
+            digest.update(decoder.decode(length == CHUNK_SIZE ? encoded : Arrays.copyOf(encoded, length)));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static String sha256Hex(InputStream in) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] chunk = new byte[CHUNK_SIZE];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            digest.update(chunk, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package whatta.Whatta.global.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+//파일 앞부분(매직 넘버)만 보고 이미지 종류를 판별 (클라이언트가 보낸 Content-Type보다 우선)
+public class ImageContentTypeSniffer {
+
+    public static final int HEADER_BYTES = 12;
+
+    //mark/reset을 지원하는 스트림이어야 하며, 읽은 뒤 처음 위치로 되돌림
+    public static String sniff(InputStream in) throws IOException {
+        if (!in.markSupported()) {
+            throw new IllegalArgumentException("stream must support mark/reset");
+        }
+        byte[] header = new byte[HEADER_BYTES];
+        in.mark(HEADER_BYTES);
+        try {
+            return sniff(header, in.readNBytes(header, 0, HEADER_BYTES));
+        } finally {
+            in.reset();
+        }
+    }
+
+    //판별할 수 없으면 null
+    public static String sniff(byte[] header, int length) {
+        if (length >= 3 && matches(header, 0, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (length >= 8 && matches(header, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "image/png";
+        }
+        if (length >= 6 && (ascii(header, 0, 6).equals("GIF87a") || ascii(header, 0, 6).equals("GIF89a"))) {
+            return "image/gif";
+        }
+        if (length >= 12 && ascii(header, 0, 4).equals("RIFF") && ascii(header, 8, 4).equals("WEBP")) {
+            return "image/webp";
+        }
+        //ISO BMFF: 4바이트 박스 크기 다음에 ftyp + 브랜드
+        if (length >= 12 && ascii(header, 4, 4).equals("ftyp")) {
+            return switch (ascii(header, 8, 4)) {
+                case "heic", "heix", "heim", "heis", "mif1", "msf1" -> "image/heic";
+                case "avif", "avis" -> "image/avif";
+                default -> null;
+            };
+        }
+        return null;
+    }
+
+    private static boolean matches(byte[] header, int offset, int... expected) {
+        for (int i = 0; i < expected.length; i++) {
+            if ((header[offset + i] & 0xFF) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String ascii(byte[] header, int offset, int length) {
+        return new String(header, offset, length, StandardCharsets.US_ASCII);
+    }
+}
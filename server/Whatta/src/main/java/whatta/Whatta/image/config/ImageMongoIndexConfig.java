@@ -0,0 +1,48 @@
+package whatta.Whatta.image.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import whatta.Whatta.image.entity.ImageResultCache;
+import whatta.Whatta.image.entity.StorageCleanupTask;
+import whatta.Whatta.image.entity.UploadedImage;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ImageMongoIndexConfig {
+
+    private final MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    public void ensureImageIndexes() {
+        //expiresAt 시각이 지나면 mongo가 문서를 자동 삭제
+        mongoTemplate.indexOps(ImageResultCache.class).createIndex(
+                new Index()
+                        .on("expiresAt", Sort.Direction.ASC)
+                        .expire(0)
+                        .named("ttl_image_result_cache_expires_at")
+        );
+
+        mongoTemplate.indexOps(UploadedImage.class).createIndex(
+                new Index()
+                        .on("expiresAt", Sort.Direction.ASC)
+                        .expire(0)
+                        .named("ttl_uploaded_image_expires_at")
+        );
+
+        //정리 워커가 기한이 된 작업을 dueAt 순으로 가져감
+        mongoTemplate.indexOps(StorageCleanupTask.class).createIndex(
+                new Index()
+                        .on("dueAt", Sort.Direction.ASC)
+                        .named("idx_storage_cleanup_task_due_at")
+        );
+
+        log.info("ImageResultCache/UploadedImage/StorageCleanupTask 인덱스 보장: ttl_image_result_cache_expires_at, "
+                + "ttl_uploaded_image_expires_at, idx_storage_cleanup_task_due_at");
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.web.multipart.MultipartFile;
 import whatta.Whatta.global.payload.Response;
 import whatta.Whatta.image.enums.StorageUploadTarget;
 import whatta.Whatta.image.payload.request.SignedUrlCreateRequest;
+import whatta.Whatta.image.payload.request.UploadConfirmRequest;
 import whatta.Whatta.image.service.ImageStorageService;
 
 @RestController
@@ -42,6 +43,16 @@ public class ImageStorageController {
         return Response.ok("success issue upload signed url", imageStorageService.generateUploadSignedUrl(userId, request));
     }
 
+    @PostMapping("/upload/confirm")
+    @Operation(summary = "이미지 업로드 완료 확인",
+            description = "Signed URL로 PUT 업로드를 마친 뒤 호출합니다."
+                    + "<br>- objectKey : 업로드 URL 발급 시 받은 objectKey"
+                    + "<br>- 확인된 이미지는 AI 요청 시 저장소 조회 없이 바로 처리됩니다. (호출하지 않아도 AI 요청은 가능)")
+    public ResponseEntity<?> confirmUpload(@AuthenticationPrincipal String userId,
+                                           @RequestBody @Validated UploadConfirmRequest request) {
+        return Response.ok("success confirm upload", imageStorageService.confirmUpload(userId, request.sanitizedObjectKey()));
+    }
+
     @PostMapping(value = "/only-test", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Operation(summary = "(테스트용) 서버에서 GCS 직접 업로드",
             description = "Swagger에서만 사용하는 api 입니다."
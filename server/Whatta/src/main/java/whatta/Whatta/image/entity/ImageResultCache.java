@@ -0,0 +1,34 @@
+package whatta.Whatta.image.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import whatta.Whatta.image.enums.ImageResultType;
+
+import java.time.LocalDateTime;
+
+@Document("image_result_caches")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder(toBuilder = true)
+public class ImageResultCache {
+
+    @Id
+    private String id; //{resultType}:{pipelineVersion}:{contentKey}
+
+    private ImageResultType resultType;
+    private String pipelineVersion;
+    private String contentKey; //이미지 바이트 해시 (+ 프롬프트/기준일 등 결과에 영향을 주는 입력)
+
+    private String payload; //직렬화된 응답 json
+
+    private LocalDateTime expiresAt; //TTL 인덱스 대상
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,38 @@
+package whatta.Whatta.image.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import whatta.Whatta.image.enums.StorageCleanupReason;
+
+import java.time.LocalDateTime;
+
+//삭제 대기 중인 GCS 객체 (objectKey당 하나, 워커가 모아서 batch 삭제)
+@Document("storage_cleanup_tasks")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder(toBuilder = true)
+public class StorageCleanupTask {
+
+    @Id
+    private String id; //objectKey
+
+    private String userId;
+    private StorageCleanupReason reason;
+
+    private LocalDateTime dueAt; //이 시각 이후 삭제
+    private int attempts;
+    private String lastError;
+
+    //워커가 가져간 작업 표시 (leasedUntil이 지나면 다른 워커가 다시 가져갈 수 있음)
+    private String leaseToken;
+    private LocalDateTime leasedUntil;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,33 @@
+package whatta.Whatta.image.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+//업로드가 끝난 것으로 확인된 GCS 객체 (signed URL 발급/내용 해시 조회 때 GCS 메타데이터 조회를 대신함)
+@Document("uploaded_images")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder(toBuilder = true)
+public class UploadedImage {
+
+    @Id
+    private String id; //objectKey
+
+    private String userId;
+    private String contentHash; //GCS md5 (없으면 crc32c)
+    private Long size;
+    private String contentType;
+
+    private LocalDateTime expiresAt; //TTL 인덱스 대상
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,14 @@
+package whatta.Whatta.image.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageResultType {
+    OCR("ocr-v1"), //clova ocr + opencv 블록 검출 + 매칭 결과
+    AGENT_IMAGE("agent-v2"); //openai vision 추출 결과
+
+    //파이프라인(파서/프롬프트 등) 로직이 바뀌면 버전을 올려서 이전 캐시를 무효화
+    private final String pipelineVersion;
+}
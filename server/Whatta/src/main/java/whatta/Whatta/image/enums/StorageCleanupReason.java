@@ -0,0 +1,8 @@
+package whatta.Whatta.image.enums;
+
+public enum StorageCleanupReason {
+    PROCESSED, //AI 추출 성공
+    FAILED, //AI 추출 실패 (같은 objectKey로 재시도할 수 있도록 유예 후 삭제)
+    CACHE_HIT, //같은 이미지의 이전 결과 재사용
+    ABANDONED //업로드만 되고 처리되지 않은 객체 (주기적 정리)
+}
@@ -0,0 +1,14 @@
+package whatta.Whatta.image.payload.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+public record UploadConfirmRequest(
+        @NotBlank
+        @Schema(example = "uploads/agent/{userId}/20260101/{uuid}.jpg")
+        String objectKey
+) {
+    public String sanitizedObjectKey() {
+        return objectKey == null ? "" : objectKey.trim();
+    }
+}
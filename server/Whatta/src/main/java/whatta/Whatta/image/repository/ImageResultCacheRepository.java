@@ -0,0 +1,7 @@
+package whatta.Whatta.image.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import whatta.Whatta.image.entity.ImageResultCache;
+
+public interface ImageResultCacheRepository extends MongoRepository<ImageResultCache, String> {
+}
@@ -0,0 +1,7 @@
+package whatta.Whatta.image.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import whatta.Whatta.image.entity.UploadedImage;
+
+public interface UploadedImageRepository extends MongoRepository<UploadedImage, String> {
+}
@@ -0,0 +1,111 @@
+package whatta.Whatta.image.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import whatta.Whatta.global.util.ContentHashUtil;
+import whatta.Whatta.image.entity.ImageResultCache;
+import whatta.Whatta.image.enums.ImageResultType;
+import whatta.Whatta.image.repository.ImageResultCacheRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ImageResultCacheService {
+
+    private final ImageResultCacheRepository imageResultCacheRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${image.result-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${image.result-cache.ocr-ttl-hours:168}")
+    private long ocrTtlHours;
+
+    @Value("${image.result-cache.agent-ttl-hours:24}")
+    private long agentTtlHours;
+
+    @Value("${openai.model}")
+    private String model;
+
+    public <T> Optional<T> find(ImageResultType type, String contentKey, Class<T> resultType) {
+        if (!enabled || contentKey == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return imageResultCacheRepository.findById(buildId(type, contentKey))
+                    //TTL 삭제는 mongo 백그라운드 작업이라 최대 1분 정도 늦을 수 있음
+                    .filter(cache -> cache.getExpiresAt() != null && cache.getExpiresAt().isAfter(LocalDateTime.now()))
+                    .map(cache -> readPayload(cache, resultType));
+        } catch (Exception e) {
+            log.warn("[IMAGE_CACHE][FIND][ERROR] type={} contentKey={} message={}", type, contentKey, e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
+
+    public void save(ImageResultType type, String contentKey, Object result) {
+        if (!enabled || contentKey == null || result == null) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            //id를 미리 정해서 저장하면 auditing이 새 문서로 보지 않아 @CreatedDate가 채워지지 않음 -> 직접 설정
+            imageResultCacheRepository.save(ImageResultCache.builder()
+                    .id(buildId(type, contentKey))
+                    .resultType(type)
+                    .pipelineVersion(type.getPipelineVersion())
+                    .contentKey(contentKey)
+                    .payload(objectMapper.writeValueAsString(result))
+                    .expiresAt(now.plus(resolveTtl(type)))
+                    .createdAt(now)
+                    .build());
+        } catch (Exception e) {
+            //캐시 저장 실패는 응답에 영향 주지 않음
+            log.warn("[IMAGE_CACHE][SAVE][ERROR] type={} contentKey={} message={}", type, contentKey, e.getMessage(), e);
+        }
+    }
+
+    //vision 결과는 프롬프트, 상대 날짜 기준일, 모델에 따라 달라지므로 함께 키에 포함
+    //- imageHash는 업로드 목록에 등록할 때의 해시라 그 뒤 PUT signed URL로 덮어쓴 내용과 다를 수 있음
+    //  -> 사용자별로 키를 나눠서, 덮어쓴 이미지의 결과가 같은 해시를 가진 다른 사용자에게 내려가지 않게 함
+    public String agentImageContentKey(String userId, String imageHash, String promptText, LocalDate referenceDate) {
+        if (imageHash == null || imageHash.isBlank()) {
+            return null;
+        }
+        return ContentHashUtil.sha256Hex(String.join("|",
+                userId,
+                imageHash,
+                promptText == null ? "" : promptText,
+                referenceDate.toString(),
+                model));
+    }
+
+    private <T> T readPayload(ImageResultCache cache, Class<T> resultType) {
+        try {
+            return objectMapper.readValue(cache.getPayload(), resultType);
+        } catch (Exception e) {
+            log.warn("[IMAGE_CACHE][READ][ERROR] id={} message={}", cache.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private Duration resolveTtl(ImageResultType type) {
+        return switch (type) {
+            case OCR -> Duration.ofHours(ocrTtlHours);
+            case AGENT_IMAGE -> Duration.ofHours(agentTtlHours);
+        };
+    }
+
+    private String buildId(ImageResultType type, String contentKey) {
+        return type.name() + ":" + type.getPipelineVersion() + ":" + contentKey;
+    }
+}
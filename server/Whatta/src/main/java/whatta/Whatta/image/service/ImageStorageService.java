@@ -1,9 +1,13 @@
 package whatta.Whatta.image.service;
 
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.HttpMethod;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,16 +15,30 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import whatta.Whatta.global.exception.ErrorCode;
 import whatta.Whatta.global.exception.RestApiException;
+import whatta.Whatta.global.util.ImageContentTypeSniffer;
+import whatta.Whatta.image.entity.UploadedImage;
+import whatta.Whatta.image.enums.StorageCleanupReason;
 import whatta.Whatta.image.enums.StorageUploadTarget;
 import whatta.Whatta.image.payload.request.SignedUrlCreateRequest;
 import whatta.Whatta.image.payload.response.SignedUrlCreateResponse;
 import whatta.Whatta.image.payload.response.StorageObjectUploadResponse;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
@@ -30,20 +48,42 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class ImageStorageService {
 
-    private static final String ROOT_PREFIX = "uploads";
+    static final String ROOT_PREFIX = "uploads";
     private static final Pattern CONTENT_TYPE_SUBTYPE_PATTERN = Pattern.compile("^[a-z0-9.+-]+$");
+    private static final int UPLOAD_BUFFER_BYTES = 64 * 1024;
 
     private final Storage gcsStorage;
+    private final ImageUploadRegistry imageUploadRegistry;
+    private final StorageCleanupQueue storageCleanupQueue;
 
     @Value("${gcs.bucket.name}")
     private String bucketName;
 
+    //resumable 업로드에서 한 번에 보내는 크기 (256KiB 배수, 업로드당 메모리 사용량의 상한)
+    @Value("${gcs.upload.chunk-size-bytes:1048576}")
+    private int uploadChunkSizeBytes;
+
     @Value("${gcs.signed-url.put.expire-minutes:10}")
     private long putExpireMinutes;
 
     @Value("${gcs.signed-url.get.expire-minutes:10}")
     private long getExpireMinutes;
 
+    //남은 유효 시간이 이보다 짧으면 새로 서명 (OpenAI가 내려받는 동안 만료되지 않도록)
+    @Value("${gcs.signed-url.get.reuse-min-remaining-seconds:180}")
+    private long reuseMinRemainingSeconds;
+
+    @Value("${gcs.signed-url.get.cache-max-entries:1000}")
+    private int signedUrlCacheMaxEntries;
+
+    //objectKey -> 유효 기간 안의 GET signed URL
+    private final Map<String, CachedSignedUrl> signedUrlCache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedSignedUrl> eldest) {
+            return size() > signedUrlCacheMaxEntries;
+        }
+    };
+
     public SignedUrlCreateResponse generateUploadSignedUrl(String userId, SignedUrlCreateRequest request) {
         validateBucketName();
 
@@ -71,20 +111,23 @@ public class ImageStorageService {
             throw new RestApiException(ErrorCode.INVALID_STORAGE_FILE);
         }
 
-        try {
-            String contentType = normalizeContentType(file.getContentType());
+        //파일 전체를 메모리에 올리지 않고 요청 스트림에서 고정 크기 버퍼로 읽어 resumable 업로드로 전송
+        try (InputStream in = new BufferedInputStream(file.getInputStream())) {
+            //클라이언트가 보낸 Content-Type보다 파일 앞부분으로 판별한 형식을 우선
+            String sniffed = ImageContentTypeSniffer.sniff(in);
+            String contentType = normalizeContentType(sniffed != null ? sniffed : file.getContentType());
             String objectKey = buildObjectKey(userId, target, resolveExtension(contentType));
             BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, objectKey))
                     .setContentType(contentType)
                     .build();
 
-            //해당 파일을 GCS에 업로드
-            gcsStorage.create(blobInfo, file.getBytes());
+            StreamedObject streamed = streamToStorage(blobInfo, in);
+            imageUploadRegistry.register(userId, objectKey, streamed.md5(), streamed.size(), contentType);
 
             return StorageObjectUploadResponse.builder()
                     .objectKey(objectKey)
                     .contentType(contentType)
-                    .size(file.getSize())
+                    .size(streamed.size())
                     .downloadSignedUrl(createDownloadSignedUrl(userId, objectKey))
                     .build();
 
@@ -99,18 +142,104 @@ public class ImageStorageService {
         }
     }
 
-    public String createDownloadSignedUrl(String userId, String objectKey) {
+    //close()가 호출되어야 객체가 확정되므로, 중간에 실패하면 닫지 않고 버림 (일부만 쓰인 객체가 생기지 않음)
+    //md5는 GCS 메타데이터와 같은 base64 형식으로 계산해서 업로드 목록의 내용 해시로 사용
+    private StreamedObject streamToStorage(BlobInfo blobInfo, InputStream in) throws IOException {
+        MessageDigest md5 = newMd5();
+        byte[] buffer = new byte[UPLOAD_BUFFER_BYTES];
+        long size = 0;
+
+        WriteChannel writer = gcsStorage.writer(blobInfo);
+        writer.setChunkSize(uploadChunkSizeBytes);
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            md5.update(buffer, 0, read);
+            ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+            while (chunk.hasRemaining()) {
+                writer.write(chunk);
+            }
+            size += read;
+        }
+        writer.close();
+        return new StreamedObject(Base64.getEncoder().encodeToString(md5.digest()), size);
+    }
+
+    //앱이 signed URL로 직접 올린 뒤 호출 -> 이후 AI 요청에서는 GCS 조회 없이 존재/소유를 확인
+    public StorageObjectUploadResponse confirmUpload(String userId, String objectKey) {
         validateBucketName();
         validateOwnedObjectKey(userId, objectKey);
-        if (gcsStorage.get(BlobId.of(bucketName, objectKey)) == null) {
-            throw new RestApiException(ErrorCode.INVALID_STORAGE_OBJECT_KEY);
+        UploadedImage uploadedImage = imageUploadRegistry.find(userId, objectKey)
+                .orElseGet(() -> registerFromStorage(userId, objectKey));
+
+        return StorageObjectUploadResponse.builder()
+                .objectKey(objectKey)
+                .contentType(uploadedImage.getContentType())
+                .size(uploadedImage.getSize() == null ? 0 : uploadedImage.getSize())
+                .downloadSignedUrl(createDownloadSignedUrl(userId, objectKey))
+                .build();
+    }
+
+    //V4 서명은 로컬 연산이므로 등록된 객체면 네트워크 호출 없이 발급 (유효 기간 동안은 같은 URL 재사용)
+    public String createDownloadSignedUrl(String userId, String objectKey) {
+        requireUploaded(userId, objectKey);
+
+        Instant now = Instant.now();
+        synchronized (signedUrlCache) {
+            CachedSignedUrl cached = signedUrlCache.get(objectKey);
+            if (cached != null && cached.expiresAt().isAfter(now.plusSeconds(reuseMinRemainingSeconds))) {
+                return cached.url();
+            }
         }
 
         BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, objectKey)).build();
-        return signGetUrl(blobInfo).toString();
+        String url = signGetUrl(blobInfo).toString();
+        synchronized (signedUrlCache) {
+            signedUrlCache.put(objectKey, new CachedSignedUrl(url, now.plus(Duration.ofMinutes(getExpireMinutes))));
+        }
+        return url;
+    }
+
+    //GCS가 업로드 시 계산해 둔 md5를 내용 해시로 사용 (등록 시 함께 저장해 둠)
+    //- 등록 뒤 signed URL로 덮어쓴 내용은 반영되지 않으므로 사용자 간에 공유되는 키로 쓰지 않음
+    public String findContentHash(String userId, String objectKey) {
+        return requireUploaded(userId, objectKey).getContentHash();
     }
 
-    public void deleteObjectQuietly(String userId, String objectKey) {
+    //서버에서 직접 가공할 때만 사용 (외부 API에는 signed URL을 넘김)
+    //- 등록된 크기로 먼저 거르고, 크기를 모르는 객체도 maxBytes를 넘는 순간 읽기를 멈춤 (큰 원본을 통째로 올리지 않음)
+    //- maxBytes보다 크면 빈 값
+    public Optional<byte[]> readObjectBytes(String userId, String objectKey, long maxBytes) {
+        UploadedImage uploadedImage = requireUploaded(userId, objectKey);
+        if (uploadedImage.getSize() != null && uploadedImage.getSize() > maxBytes) {
+            return Optional.empty();
+        }
+
+        try (ReadChannel reader = gcsStorage.reader(BlobId.of(bucketName, objectKey))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ByteBuffer buffer = ByteBuffer.allocate(UPLOAD_BUFFER_BYTES);
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                out.write(buffer.array(), 0, read);
+                buffer.clear();
+                if (out.size() > maxBytes) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(out.toByteArray());
+        } catch (StorageException e) {
+            if (e.getCode() == 404) {
+                throw new RestApiException(ErrorCode.INVALID_STORAGE_OBJECT_KEY);
+            }
+            log.warn("[GCS][READ][ERROR] bucket={} objectKey={} message={}", bucketName, objectKey, e.getMessage());
+            throw new RestApiException(ErrorCode.INVALID_STORAGE_FILE);
+        } catch (IOException e) {
+            log.warn("[GCS][READ][ERROR] bucket={} objectKey={} message={}", bucketName, objectKey, e.getMessage());
+            throw new RestApiException(ErrorCode.INVALID_STORAGE_FILE);
+        }
+    }
+
+    //실제 삭제는 정리 큐 워커가 모아서 처리 (요청 경로에서는 GCS를 호출하지 않음)
+    public void scheduleDelete(String userId, String objectKey, StorageCleanupReason reason) {
         if (objectKey == null || objectKey.isBlank()) {
             return;
         }
@@ -120,14 +249,28 @@ public class ImageStorageService {
             return;
         }
 
-        try {
-            boolean deleted = gcsStorage.delete(BlobId.of(bucketName, objectKey));
-            if (!deleted) {
-                log.warn("[GCS][DELETE][MISS] bucket={} objectKey={}", bucketName, objectKey);
+        if (reason != StorageCleanupReason.FAILED) {
+            synchronized (signedUrlCache) {
+                signedUrlCache.remove(objectKey);
             }
-        } catch (Exception e) {
-            log.warn("[GCS][DELETE][ERROR] bucket={} objectKey={} message={}", bucketName, objectKey, e.getMessage(), e);
         }
+        storageCleanupQueue.enqueue(userId, objectKey, reason);
+    }
+
+    private UploadedImage requireUploaded(String userId, String objectKey) {
+        validateBucketName();
+        validateOwnedObjectKey(userId, objectKey);
+        return imageUploadRegistry.find(userId, objectKey)
+                .orElseGet(() -> registerFromStorage(userId, objectKey));
+    }
+
+    //확인 요청 없이 들어온 객체(이전 앱 버전 등)는 한 번만 GCS에서 확인하고 등록
+    private UploadedImage registerFromStorage(String userId, String objectKey) {
+        Blob blob = gcsStorage.get(BlobId.of(bucketName, objectKey));
+        if (blob == null) {
+            throw new RestApiException(ErrorCode.INVALID_STORAGE_OBJECT_KEY);
+        }
+        return imageUploadRegistry.register(userId, blob);
     }
 
     private URL signPutUrl(BlobInfo blobInfo, String contentType) {
@@ -228,6 +371,20 @@ public class ImageStorageService {
                 && userId.equals(segments[2]);
     }
 
+    private record CachedSignedUrl(String url, Instant expiresAt) {
+    }
+
+    private record StreamedObject(String md5, long size) {
+    }
+
+    private static MessageDigest newMd5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not supported", e);
+        }
+    }
+
     private void validateBucketName() {
         if (bucketName == null || bucketName.isBlank()) {
             throw new IllegalStateException("gcs.bucket.name is empty");
@@ -0,0 +1,101 @@
+package whatta.Whatta.image.service;
+
+import com.google.cloud.storage.Blob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import whatta.Whatta.image.entity.UploadedImage;
+import whatta.Whatta.image.repository.UploadedImageRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+//업로드 완료가 확인된 객체 목록
+//- 서버 업로드 직후, 앱의 업로드 완료 확인 요청, 또는 미등록 객체를 처음 GCS에서 확인했을 때 등록
+//- GCS 객체보다 오래 남지 않도록 TTL은 버킷 수명 주기 규칙보다 짧게 유지 (AI 처리 후에는 정리 큐에서 객체와 함께 삭제됨)
+//- 한 요청 안에서 내용 해시 조회와 signed URL 발급이 연달아 일어나므로 최근 항목은 잠깐 메모리에 둠
+//  (다른 인스턴스의 삭제는 반영되지 않으므로 짧게 유지)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageUploadRegistry {
+
+    private final UploadedImageRepository uploadedImageRepository;
+
+    @Value("${gcs.upload-registry.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${gcs.upload-registry.local-ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    @Value("${gcs.upload-registry.local-max-entries:1000}")
+    private int localMaxEntries;
+
+    private final Map<String, LocalEntry> recent = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+            return size() > localMaxEntries;
+        }
+    };
+
+    public UploadedImage register(String userId, Blob blob) {
+        return register(userId, blob.getName(), blob.getMd5() != null ? blob.getMd5() : blob.getCrc32c(),
+                blob.getSize(), blob.getContentType());
+    }
+
+    //서버가 직접 스트리밍 업로드한 객체 (contentHash는 GCS와 같은 base64 md5)
+    public UploadedImage register(String userId, String objectKey, String contentHash, Long size, String contentType) {
+        LocalDateTime now = LocalDateTime.now();
+        //id(objectKey)를 미리 정해서 저장하면 auditing이 새 문서로 보지 않아 @CreatedDate가 채워지지 않음 -> 직접 설정
+        UploadedImage uploadedImage = uploadedImageRepository.save(UploadedImage.builder()
+                .id(objectKey)
+                .userId(userId)
+                .contentHash(contentHash)
+                .size(size)
+                .contentType(contentType)
+                .expiresAt(now.plusHours(ttlHours))
+                .createdAt(now)
+                .build());
+        remember(uploadedImage);
+        log.info("[GCS][UPLOAD_REGISTRY][REGISTERED] userId={} objectKey={}", userId, objectKey);
+        return uploadedImage;
+    }
+
+    public Optional<UploadedImage> find(String userId, String objectKey) {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (recent) {
+            LocalEntry entry = recent.get(objectKey);
+            if (entry != null && entry.cachedUntil().isAfter(now)) {
+                return Optional.of(entry.uploadedImage()).filter(uploadedImage -> userId.equals(uploadedImage.getUserId()));
+            }
+        }
+
+        Optional<UploadedImage> found = uploadedImageRepository.findById(objectKey)
+                .filter(uploadedImage -> uploadedImage.getExpiresAt() == null || uploadedImage.getExpiresAt().isAfter(now));
+        found.ifPresent(this::remember);
+        return found.filter(uploadedImage -> userId.equals(uploadedImage.getUserId()));
+    }
+
+    public void removeAll(Collection<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return;
+        }
+        synchronized (recent) {
+            objectKeys.forEach(recent::remove);
+        }
+        uploadedImageRepository.deleteAllById(objectKeys);
+    }
+
+    private void remember(UploadedImage uploadedImage) {
+        synchronized (recent) {
+            recent.put(uploadedImage.getId(), new LocalEntry(uploadedImage, LocalDateTime.now().plusSeconds(localTtlSeconds)));
+        }
+    }
+
+    private record LocalEntry(UploadedImage uploadedImage, LocalDateTime cachedUntil) {
+    }
+}
@@ -0,0 +1,259 @@
+package whatta.Whatta.image.service;
+
+import com.google.api.gax.paging.Page;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageBatch;
+import com.google.cloud.storage.StorageBatchResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import whatta.Whatta.image.entity.StorageCleanupTask;
+import whatta.Whatta.image.enums.StorageCleanupReason;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+//GCS 객체 삭제를 요청 경로에서 빼서 mongo 큐에 쌓아 두고 워커가 모아서 지움
+//- enqueue: objectKey당 문서 하나를 upsert (같은 객체가 여러 번 들어오면 더 이른 삭제 시각만 반영)
+//- drain: 기한이 된 작업을 임대(lease)해서 가져가고 StorageBatch 한 번으로 삭제 -> 성공분은 큐/업로드 목록에서 제거, 실패분은 backoff 후 재시도
+//- sweep: 업로드만 되고 처리되지 않은 객체(uploads/<target>/<userId>/<date>/)를 주기적으로 찾아 큐에 넣음
+//여러 인스턴스가 같이 돌아도 임대 토큰으로 같은 작업을 동시에 지우지 않고, upsert라 sweep이 겹쳐도 중복 작업이 생기지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageCleanupQueue {
+
+    //GCS batch 요청 한 번에 담을 수 있는 최대 작업 수
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private final Storage gcsStorage;
+    private final MongoTemplate mongoTemplate;
+    private final ImageUploadRegistry imageUploadRegistry;
+
+    @Value("${gcs.bucket.name}")
+    private String bucketName;
+
+    @Value("${gcs.cleanup.batch-size:100}")
+    private int batchSize;
+
+    @Value("${gcs.cleanup.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${gcs.cleanup.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${gcs.cleanup.retry-base-seconds:30}")
+    private long retryBaseSeconds;
+
+    //실패한 요청은 앱이 같은 objectKey로 다시 요청할 수 있으므로 바로 지우지 않음
+    @Value("${gcs.cleanup.failed-grace-minutes:30}")
+    private long failedGraceMinutes;
+
+    //signed URL로 올리고 처리 요청을 보내지 않은 객체 (업로드 목록 TTL과 맞춤)
+    @Value("${gcs.cleanup.abandoned-after-hours:24}")
+    private long abandonedAfterHours;
+
+    public void enqueue(String userId, String objectKey, StorageCleanupReason reason) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime dueAt = reason == StorageCleanupReason.FAILED ? now.plusMinutes(failedGraceMinutes) : now;
+        try {
+            mongoTemplate.upsert(Query.query(Criteria.where("_id").is(objectKey)), enqueueUpdate(userId, reason, dueAt, now),
+                    StorageCleanupTask.class);
+            log.info("[GCS][CLEANUP][ENQUEUED] userId={} objectKey={} reason={} dueAt={}", userId, objectKey, reason, dueAt);
+        } catch (Exception e) {
+            //큐에 넣지 못한 객체는 sweep이 다시 찾음
+            log.warn("[GCS][CLEANUP][ENQUEUE_FAILED] objectKey={} reason={} message={}", objectKey, reason, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gcs.cleanup.poll-interval-ms:5000}")
+    public void drain() {
+        try {
+            List<StorageCleanupTask> tasks;
+            do {
+                tasks = lease(LocalDateTime.now());
+                if (!tasks.isEmpty()) {
+                    deleteBatch(tasks);
+                }
+            } while (tasks.size() == effectiveBatchSize());
+        } catch (Exception e) {
+            //임대가 끝나면 다음 워커가 다시 가져감
+            log.warn("[GCS][CLEANUP][DRAIN_FAILED] bucket={} message={}", bucketName, e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gcs.cleanup.sweep-interval-ms:3600000}", initialDelayString = "${gcs.cleanup.sweep-initial-delay-ms:300000}")
+    public void sweepAbandonedUploads() {
+        OffsetDateTime threshold = OffsetDateTime.now().minusHours(abandonedAfterHours);
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulkOps = null;
+        int found = 0;
+
+        try {
+            Page<Blob> page = gcsStorage.list(bucketName,
+                    Storage.BlobListOption.prefix(ImageStorageService.ROOT_PREFIX + "/"),
+                    Storage.BlobListOption.fields(Storage.BlobField.NAME, Storage.BlobField.TIME_CREATED));
+            for (Blob blob : page.iterateAll()) {
+                OffsetDateTime createdAt = blob.getCreateTimeOffsetDateTime();
+                if (createdAt == null || createdAt.isAfter(threshold)) {
+                    continue;
+                }
+                if (bulkOps == null) {
+                    bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StorageCleanupTask.class);
+                }
+                bulkOps.upsert(Query.query(Criteria.where("_id").is(blob.getName())),
+                        enqueueUpdate(ownerOf(blob.getName()), StorageCleanupReason.ABANDONED, now, now));
+                if (++found % MAX_BATCH_SIZE == 0) {
+                    bulkOps.execute();
+                    bulkOps = null;
+                }
+            }
+            if (bulkOps != null) {
+                bulkOps.execute();
+            }
+            if (found > 0) {
+                log.info("[GCS][CLEANUP][SWEEP] bucket={} abandoned={}", bucketName, found);
+            }
+        } catch (Exception e) {
+            log.warn("[GCS][CLEANUP][SWEEP_FAILED] bucket={} found={} message={}", bucketName, found, e.getMessage(), e);
+        }
+    }
+
+    //후보를 고른 뒤 임대가 비어 있는 것만 이 워커의 토큰으로 표시하고, 표시된 것만 다시 읽음
+    private List<StorageCleanupTask> lease(LocalDateTime now) {
+        Criteria available = new Criteria().orOperator(
+                Criteria.where("leasedUntil").is(null),
+                Criteria.where("leasedUntil").lte(now));
+
+        Query candidateQuery = Query.query(new Criteria().andOperator(Criteria.where("dueAt").lte(now), available))
+                .with(Sort.by(Sort.Direction.ASC, "dueAt"))
+                .limit(effectiveBatchSize());
+        candidateQuery.fields().include("_id");
+        List<String> candidateIds = mongoTemplate.find(candidateQuery, StorageCleanupTask.class).stream()
+                .map(StorageCleanupTask::getId)
+                .toList();
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        String leaseToken = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+                Query.query(new Criteria().andOperator(Criteria.where("_id").in(candidateIds), available)),
+                new Update()
+                        .set("leaseToken", leaseToken)
+                        .set("leasedUntil", now.plusSeconds(leaseSeconds))
+                        .inc("attempts", 1),
+                StorageCleanupTask.class);
+        return mongoTemplate.find(Query.query(Criteria.where("leaseToken").is(leaseToken)), StorageCleanupTask.class);
+    }
+
+    private void deleteBatch(List<StorageCleanupTask> tasks) {
+        long startedAt = System.nanoTime();
+        Map<String, StorageBatchResult<Boolean>> results = new LinkedHashMap<>();
+        Map<String, String> errors = new LinkedHashMap<>();
+        try {
+            StorageBatch batch = gcsStorage.batch();
+            for (StorageCleanupTask task : tasks) {
+                results.put(task.getId(), batch.delete(BlobId.of(bucketName, task.getId())));
+            }
+            batch.submit();
+        } catch (Exception e) {
+            log.warn("[GCS][CLEANUP][BATCH_FAILED] bucket={} size={} message={}", bucketName, tasks.size(), e.getMessage());
+            results.clear();
+            tasks.forEach(task -> errors.put(task.getId(), e.getMessage()));
+        }
+
+        //false(이미 없음)도 정리 완료로 봄
+        List<String> done = new ArrayList<>();
+        results.forEach((objectKey, result) -> {
+            try {
+                result.get();
+                done.add(objectKey);
+            } catch (Exception e) {
+                errors.put(objectKey, e.getMessage());
+            }
+        });
+
+        if (!done.isEmpty()) {
+            mongoTemplate.remove(Query.query(Criteria.where("_id").in(done)), StorageCleanupTask.class);
+            imageUploadRegistry.removeAll(done);
+        }
+        if (!errors.isEmpty()) {
+            rescheduleFailed(tasks, errors);
+        }
+        log.info("[GCS][CLEANUP][BATCH] bucket={} deleted={} failed={} elapsed_ms={}",
+                bucketName, done.size(), errors.size(), Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+    }
+
+    private void rescheduleFailed(List<StorageCleanupTask> tasks, Map<String, String> errors) {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> exhausted = new ArrayList<>();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StorageCleanupTask.class);
+        for (StorageCleanupTask task : tasks) {
+            String error = errors.get(task.getId());
+            if (error == null) {
+                continue;
+            }
+            if (task.getAttempts() >= maxAttempts) {
+                //버킷 수명 주기 규칙에 맡김
+                log.error("[GCS][CLEANUP][GIVE_UP] objectKey={} attempts={} message={}", task.getId(), task.getAttempts(), error);
+                exhausted.add(task.getId());
+                continue;
+            }
+            bulkOps.updateOne(
+                    Query.query(Criteria.where("_id").is(task.getId()).and("leaseToken").is(task.getLeaseToken())),
+                    new Update()
+                            .set("dueAt", now.plusSeconds(backoffSeconds(task.getAttempts())))
+                            .set("lastError", error)
+                            .unset("leaseToken")
+                            .unset("leasedUntil"));
+        }
+        if (exhausted.size() < errors.size()) {
+            bulkOps.execute();
+        }
+        if (!exhausted.isEmpty()) {
+            mongoTemplate.remove(Query.query(Criteria.where("_id").in(exhausted)), StorageCleanupTask.class);
+        }
+    }
+
+    //30초, 1분, 2분 ... 최대 1시간
+    private long backoffSeconds(int attempts) {
+        long multiplier = 1L << Math.min(Math.max(attempts - 1, 0), 7);
+        return Math.min(retryBaseSeconds * multiplier, Duration.ofHours(1).toSeconds());
+    }
+
+    private Update enqueueUpdate(String userId, StorageCleanupReason reason, LocalDateTime dueAt, LocalDateTime now) {
+        return new Update()
+                .setOnInsert("userId", userId)
+                .setOnInsert("reason", reason)
+                .setOnInsert("attempts", 0)
+                .setOnInsert("createdAt", now)
+                .min("dueAt", dueAt);
+    }
+
+    private int effectiveBatchSize() {
+        return Math.max(1, Math.min(batchSize, MAX_BATCH_SIZE));
+    }
+
+    //uploads/<target>/<userId>/<date>/<file>
+    private String ownerOf(String objectKey) {
+        String[] segments = objectKey.split("/");
+        return segments.length >= 5 ? segments[2] : null;
+    }
+}
@@ -13,7 +13,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ReminderNotiRepository extends MongoRepository<ReminderNotification, String> {
+public interface ReminderNotiRepository extends MongoRepository<ReminderNotification, String>, ReminderNotiRepositoryCustom {
 
     Optional<ReminderNotification>  findByTargetIdAndStatus(String targetId, NotiStatus status);
 
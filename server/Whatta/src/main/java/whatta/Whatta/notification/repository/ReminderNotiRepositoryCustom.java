@@ -0,0 +1,17 @@
+package whatta.Whatta.notification.repository;
+
+import whatta.Whatta.notification.entity.ReminderNotification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReminderNotiRepositoryCustom {
+
+    //targetId별로 아직 보내지 않은 ACTIVE 알림의 triggerAt을 갱신, 없으면 생성 (한 번의 bulk 요청)
+    //notifications에는 userId, targetType, targetId, triggerAt만 채워서 전달
+    void upsertActiveReminders(List<ReminderNotification> notifications, LocalDateTime now);
+
+    //targetIds의 ACTIVE 알림을 모두 CANCELED로
+    long cancelActiveByTargetIds(Collection<String> targetIds, LocalDateTime now);
+}
@@ -12,7 +12,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskDueNotiRepository extends MongoRepository<TaskDueNotification, String> {
+public interface TaskDueNotiRepository extends MongoRepository<TaskDueNotification, String>, TaskDueNotiRepositoryCustom {
 
     Optional<TaskDueNotification> findByTargetIdAndStatusAndTriggerAtAfter(String targetId, NotiStatus status, LocalDateTime now);
 
@@ -0,0 +1,59 @@
+package whatta.Whatta.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import whatta.Whatta.notification.entity.TaskDueNotification;
+import whatta.Whatta.notification.enums.NotiStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskDueNotiRepositoryImpl implements TaskDueNotiRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void upsertActiveDueNotis(List<TaskDueNotification> notifications, LocalDateTime now) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskDueNotification.class);
+        for (TaskDueNotification notification : notifications) {
+            bulkOps.upsert(
+                    //단건 수정과 같은 기준: 이미 발송 시각이 지난 ACTIVE 알림은 스케줄러가 처리하도록 두고 새로 만듦
+                    Query.query(Criteria.where("targetId").is(notification.getTargetId())
+                            .and("status").is(NotiStatus.ACTIVE)
+                            .and("triggerAt").gt(now)),
+                    new Update()
+                            .set("dueNotiType", notification.getDueNotiType())
+                            .set("triggerAt", notification.getTriggerAt())
+                            .set("updatedAt", now)
+                            .setOnInsert("userId", notification.getUserId())
+                            .setOnInsert("createdAt", now)
+            );
+        }
+        bulkOps.execute();
+    }
+
+    @Override
+    public long cancelActiveByTargetIds(Collection<String> targetIds, LocalDateTime now) {
+        if (targetIds.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.updateMulti(
+                Query.query(Criteria.where("targetId").in(targetIds).and("status").is(NotiStatus.ACTIVE)),
+                new Update()
+                        .set("status", NotiStatus.CANCELED)
+                        .set("updatedAt", now),
+                TaskDueNotification.class
+        ).getModifiedCount();
+    }
+}
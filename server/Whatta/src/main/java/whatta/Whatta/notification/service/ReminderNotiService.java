@@ -15,6 +15,8 @@ import whatta.Whatta.task.entity.Task;
 import whatta.Whatta.user.setting.payload.dto.ReminderNoti;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static whatta.Whatta.global.util.RepeatUtil.findNextOccurrenceStartAfter;
@@ -40,15 +42,7 @@ public class ReminderNotiService {
     }
 
     public void updateReminderNotification(Task task) {
-        if (task.getPlacementTime() == null || task.getReminderNotiAt() == null) {
-            cancelReminderNotification(task.getId());
-            return;
-        }
-
-        LocalDateTime triggerAt = calculateTriggerAt(
-                LocalDateTime.of(task.getPlacementDate(), task.getPlacementTime()),
-                null,
-                task.getReminderNotiAt());
+        LocalDateTime triggerAt = calculateTaskTriggerAt(task);
 
         if (triggerAt == null) {
             cancelReminderNotification(task.getId());
@@ -69,6 +63,40 @@ public class ReminderNotiService {
                 .build());
     }
 
+    //여러 task의 알림을 한 번에 맞춤 (task마다 조회/저장하지 않고 bulk upsert 1회 + 취소 1회)
+    public void reconcileTaskReminders(List<Task> tasks, Collection<String> deletedTaskIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReminderNotification> upserts = new ArrayList<>();
+        List<String> canceledTargetIds = new ArrayList<>(deletedTaskIds);
+
+        for (Task task : tasks) {
+            LocalDateTime triggerAt = calculateTaskTriggerAt(task);
+            if (triggerAt == null) {
+                canceledTargetIds.add(task.getId());
+                continue;
+            }
+            upserts.add(ReminderNotification.builder()
+                    .userId(task.getUserId())
+                    .targetType(NotificationTargetType.TASK)
+                    .targetId(task.getId())
+                    .triggerAt(triggerAt)
+                    .build());
+        }
+
+        reminderNotiRepository.upsertActiveReminders(upserts, now);
+        reminderNotiRepository.cancelActiveByTargetIds(canceledTargetIds, now);
+    }
+
+    private LocalDateTime calculateTaskTriggerAt(Task task) {
+        if (task.getPlacementDate() == null || task.getPlacementTime() == null || task.getReminderNotiAt() == null) {
+            return null;
+        }
+        return calculateTriggerAt(
+                LocalDateTime.of(task.getPlacementDate(), task.getPlacementTime()),
+                null,
+                task.getReminderNotiAt());
+    }
+
     public void cancelReminderNotification(String targetId) {
         reminderNotiRepository.findByTargetIdAndStatus(targetId, NotiStatus.ACTIVE)
                 .ifPresent(schedule -> {
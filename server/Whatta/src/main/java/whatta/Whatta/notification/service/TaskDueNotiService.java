@@ -11,6 +11,8 @@ import whatta.Whatta.task.entity.Task;
 import whatta.Whatta.task.repository.TaskRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Slf4j
@@ -25,12 +27,7 @@ public class TaskDueNotiService {
     private static final int PROCESSING_TIMEOUT_MINUTES = 30;
 
     public void updateDueNotification(Task task) {
-        if (task.getDueDateTime() == null || task.getCompleted()) {
-            cancelDueNotification(task.getId());
-            return;
-        }
-
-        DueNotificationType dueNotiType = resolveDueNotiType(task.getDueDateTime());
+        DueNotificationType dueNotiType = resolveDueNotiType(task);
         if (dueNotiType == null) {
             cancelDueNotification(task.getId());
             return;
@@ -53,6 +50,30 @@ public class TaskDueNotiService {
                 .build());
     }
 
+    //여러 task의 마감 알림을 한 번에 맞춤 (task마다 조회/저장하지 않고 bulk upsert 1회 + 취소 1회)
+    public void reconcileDueNotifications(List<Task> tasks, Collection<String> deletedTaskIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskDueNotification> upserts = new ArrayList<>();
+        List<String> canceledTargetIds = new ArrayList<>(deletedTaskIds);
+
+        for (Task task : tasks) {
+            DueNotificationType dueNotiType = resolveDueNotiType(task);
+            if (dueNotiType == null) {
+                canceledTargetIds.add(task.getId());
+                continue;
+            }
+            upserts.add(TaskDueNotification.builder()
+                    .userId(task.getUserId())
+                    .targetId(task.getId())
+                    .dueNotiType(dueNotiType)
+                    .triggerAt(calculateTriggerAt(task.getDueDateTime(), dueNotiType))
+                    .build());
+        }
+
+        taskDueNotiRepository.upsertActiveDueNotis(upserts, now);
+        taskDueNotiRepository.cancelActiveByTargetIds(canceledTargetIds, now);
+    }
+
     public void cancelDueNotification(String targetId) {
         taskDueNotiRepository.findByTargetIdAndStatus(targetId, NotiStatus.ACTIVE)
                 .ifPresent(schedule -> {
@@ -63,6 +84,14 @@ public class TaskDueNotiService {
                 });
     }
 
+    //마감이 없거나 완료된 task, 이미 알림 시점이 지난 task는 null
+    private DueNotificationType resolveDueNotiType(Task task) {
+        if (task.getDueDateTime() == null || Boolean.TRUE.equals(task.getCompleted())) {
+            return null;
+        }
+        return resolveDueNotiType(task.getDueDateTime());
+    }
+
     private DueNotificationType resolveDueNotiType(LocalDateTime dueDateTime) {
         LocalDateTime now = LocalDateTime.now();
 
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -11,11 +12,20 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import whatta.Whatta.ocr.payload.enums.OcrImageType;
 import whatta.Whatta.ocr.payload.request.ImageUploadRequest;
+import whatta.Whatta.ocr.service.OcrBatchService;
 import whatta.Whatta.ocr.service.OcrService;
 import whatta.Whatta.global.payload.Response;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/ocr")
 @AllArgsConstructor
@@ -25,6 +35,7 @@ import whatta.Whatta.global.payload.Response;
 public class OcrController {
 
     private final OcrService ocrService;
+    private final OcrBatchService ocrBatchService;
 
     @PostMapping
     @Operation(summary = "시간표 이미지 등록", description = "시간표 이미지에서 text를 추출하여 일정 정보로 반환합니다."
@@ -35,8 +46,35 @@ public class OcrController {
             + "<br> - data : Base64 인코딩된 이미지 데이터"
             + "<br><br> *** images.url 또는 images.data 중 하나 필수 입력 ***"
             + "<br>    (둘 다 입력 시 image.data 우선함)")
-    public ResponseEntity<?> uploadImage (@AuthenticationPrincipal String userId,
-                                          @RequestBody @Validated ImageUploadRequest request) {
-        return Response.ok("success upload image", ocrService.uploadImage(userId, request));
+    public CompletableFuture<ResponseEntity<?>> uploadImage (@AuthenticationPrincipal String userId,
+                                                             @RequestBody @Validated ImageUploadRequest request) {
+        return ocrService.uploadImage(userId, request)
+                .thenApply(response -> Response.ok("success upload image", response));
+    }
+
+    @PostMapping(value = "/file", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "시간표 이미지 파일 등록", description = "시간표 이미지 파일을 multipart로 받아 일정 정보로 반환합니다."
+            + "<br>Base64 변환 없이 원본 바이트를 그대로 처리하므로 큰 이미지는 이 API 사용을 권장합니다."
+            + "<br><br> - imageType : COLLEGE_TIMETABLE 등"
+            + "<br> - file : jpg | jpeg | png")
+    public CompletableFuture<ResponseEntity<?>> uploadImageFile (@AuthenticationPrincipal String userId,
+                                                                 @RequestParam OcrImageType imageType,
+                                                                 @RequestPart MultipartFile file) {
+        return ocrService.uploadImage(userId, imageType, file)
+                .thenApply(response -> Response.ok("success upload image", response));
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "시간표 이미지 여러 장 등록", description = "여러 시간표 이미지를 동시에 처리하고 이미지별 결과를 SSE로 전달합니다."
+            + "<br><br> - imageType : COLLEGE_TIMETABLE 등"
+            + "<br> - files : jpg | jpeg | png (최대 10장)"
+            + "<br><br> <b>이벤트</b>"
+            + "<br> - image : 이미지 한 장 처리 완료 (끝나는 순서대로 전달, index는 files 순서)"
+            + "<br>    events에는 앞서 전달된 일정과 요일/시작/종료 시간/제목이 같은 일정은 제외됨"
+            + "<br> - complete : 전체 완료, 중복 제거된 전체 일정을 요일/시작 시간 순으로 전달")
+    public SseEmitter uploadImageFiles (@AuthenticationPrincipal String userId,
+                                        @RequestParam OcrImageType imageType,
+                                        @RequestPart List<MultipartFile> files) {
+        return ocrBatchService.uploadImages(userId, imageType, files);
     }
 }
@@ -0,0 +1,14 @@
+package whatta.Whatta.ocr.payload.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+//배치 등록 전체 완료 (SSE "complete" 이벤트)
+@Builder
+public record OcrBatchCompleteResponse(
+        int totalImages,
+        int succeededImages,
+        int failedImages,
+        List<ImageToEventResponse.ImageToEvent> events //중복 제거 후 요일/시작 시간 순으로 합친 전체 일정
+) {}
@@ -0,0 +1,17 @@
+package whatta.Whatta.ocr.payload.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+//배치 등록 시 이미지 한 장의 처리 결과 (SSE "image" 이벤트)
+@Builder
+public record OcrBatchImageResponse(
+        int index, //요청한 files 순서 (0부터)
+        String fileName,
+        boolean success,
+        List<ImageToEventResponse.ImageToEvent> events, //앞서 끝난 이미지와 겹치지 않는 일정만
+        int duplicateCount, //다른 이미지와 중복되어 제외된 일정 수
+        String errorCode,
+        String message
+) {}
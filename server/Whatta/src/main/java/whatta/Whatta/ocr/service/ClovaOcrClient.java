@@ -1,106 +1,164 @@
 package whatta.Whatta.ocr.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import whatta.Whatta.ocr.payload.dto.OcrRequestImage;
 import whatta.Whatta.ocr.payload.response.ClovaOcrResponse;
 import whatta.Whatta.ocr.payload.request.ClovaOcrRequest;
 import whatta.Whatta.ocr.payload.request.ImageUploadRequest;
 
-import java.io.BufferedReader;
-import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ClovaOcrClient {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${clova.ocr.url}")
     private String ocrUrl;
 
     @Value("${clova.ocr.secret.key}")
     private String secretKey;
 
-    ObjectMapper objectMapper = new ObjectMapper();
+    @Value("${clova.ocr.timeout.seconds:30}")
+    private long timeoutSeconds;
 
-    public ClovaOcrResponse callApi(ImageUploadRequest request) {
-        try{
-            // ----------- 요청 전송 ---------------------
-            HttpURLConnection connection = creatHeader();
-            ClovaOcrRequest requestBody = ClovaOcrRequest.builder()
-                    .version("V2")
-                    .requestId(UUID.randomUUID().toString())
-                    .timestamp(System.currentTimeMillis())
-                    .lang("ko")
-                    .images(List.of(request.image()))
-                    .enableTableDetection(false)
-                    .build();
-
-            /*
-            System.out.println("[CLOVA][REQ] id=" + requestBody.requestId()
-                    + ", url=" + ocrUrl
-                    + ", imgName=" + request.image().name());*/
+    ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
 
+    //base64 data를 담은 json 요청
+    public ClovaOcrResponse callApi(ImageUploadRequest request) {
+        ClovaOcrRequest requestBody = buildRequestBody(request.image());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            HttpURLConnection connection = creatHeader("application/json; charset=utf-8");
             connection.connect();
-            DataOutputStream outputStream = new DataOutputStream(connection.getOutputStream());
-            outputStream.write(objectMapper.writeValueAsBytes(requestBody));
-            outputStream.flush();
-            outputStream.close();
+            //요청 전체를 byte[]로 직렬화하지 않고 소켓으로 바로 씀
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                objectMapper.writeValue(outputStream, requestBody);
+            }
+            int responseCode = connection.getResponseCode();
+            outcome = responseCode == HttpURLConnection.HTTP_OK ? "success" : "http_" + responseCode;
+            return readResponse(connection, requestBody.requestId(), responseCode);
+        } catch (Exception e){
+            throw new RuntimeException("CLOVA OCR 요청 또는 응답 처리 중 오류가 발생했습니다.", e);
+        } finally {
+            recordCall(sample, "json", outcome);
+        }
+    }
 
-            // ----------- 응답 수신 ---------------------
+    //업로드된 원본 바이트를 base64로 다시 인코딩하지 않고 multipart로 그대로 전달
+    public ClovaOcrResponse callApi(OcrRequestImage image, InputStream imageStream) {
+        ClovaOcrRequest requestBody = buildRequestBody(new OcrRequestImage(image.format(), image.name(), null, null));
+        String boundary = "----whatta-ocr-" + UUID.randomUUID();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            HttpURLConnection connection = creatHeader("multipart/form-data; boundary=" + boundary);
+            connection.connect();
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                writeText(outputStream, "--" + boundary + "\r\n"
+                        + "Content-Disposition: form-data; name=\"message\"\r\n"
+                        + "Content-Type: application/json; charset=utf-8\r\n\r\n");
+                objectMapper.writeValue(outputStream, requestBody);
+                writeText(outputStream, "\r\n--" + boundary + "\r\n"
+                        + "Content-Disposition: form-data; name=\"file\"; filename=\"" + multipartFileName(image.format()) + "\"\r\n"
+                        + "Content-Type: application/octet-stream\r\n\r\n");
+                imageStream.transferTo(outputStream);
+                writeText(outputStream, "\r\n--" + boundary + "--\r\n");
+            }
             int responseCode = connection.getResponseCode();
+            outcome = responseCode == HttpURLConnection.HTTP_OK ? "success" : "http_" + responseCode;
+            return readResponse(connection, requestBody.requestId(), responseCode);
+        } catch (Exception e){
+            throw new RuntimeException("CLOVA OCR 요청 또는 응답 처리 중 오류가 발생했습니다.", e);
+        } finally {
+            recordCall(sample, "multipart", outcome);
+        }
+    }
 
-            System.out.println("[CLOVA][RES] id=" + requestBody.requestId()
-                    + ", code=" + responseCode);
+    //name/format은 클라이언트 입력이라 헤더에 그대로 넣지 않음 (따옴표/개행으로 헤더 조작 가능) -> 고정 이름 + 영숫자만 남긴 확장자
+    private static String multipartFileName(String format) {
+        String extension = format == null ? "" : format.replaceAll("[^A-Za-z0-9]", "");
+        return extension.isEmpty() ? "image" : "image." + extension;
+    }
 
-            BufferedReader reader;
-            if(responseCode == HttpURLConnection.HTTP_OK) {
-                reader = new BufferedReader(new InputStreamReader(connection.getInputStream())); //서버가 준 바이트스트림(InputStream)을 문자스트림(Reader)으로 바꾸는 단계
-            } else {
-                reader = new BufferedReader(new InputStreamReader(connection.getErrorStream()));
-            }
+    private ClovaOcrRequest buildRequestBody(OcrRequestImage image) {
+        return ClovaOcrRequest.builder()
+                .version("V2")
+                .requestId(UUID.randomUUID().toString())
+                .timestamp(System.currentTimeMillis())
+                .lang("ko")
+                .images(List.of(image))
+                .enableTableDetection(false)
+                .build();
+    }
 
-            StringBuilder response = new StringBuilder();
-            String line;
-            while((line = reader.readLine()) != null) {
-                response.append(line);
-            }
-            //System.out.println("[CLOVA][ERROR BODY] " + response); //실제 에러 메시지
-            reader.close();
+    private ClovaOcrResponse readResponse(HttpURLConnection connection, String requestId, int responseCode) throws IOException {
+        // ----------- 응답 수신 ---------------------
+        log.info("[CLOVA][RES] id={} code={}", requestId, responseCode);
+
+        InputStream body = responseCode == HttpURLConnection.HTTP_OK
+                ? connection.getInputStream()
+                : connection.getErrorStream();
+        // ----------- 데이터 파싱 ---------------------
+        try (InputStream in = body) {
+            //JSON 응답 스트림을 record 기반 ClovaOcrResponse 객체로 바로 변환
+            return objectMapper.readValue(in, ClovaOcrResponse.class);
+        } catch (IOException e) {
+            throw new RuntimeException("OCR 응답 파싱 실패", e);
+        } finally {
             connection.disconnect();
-            // ----------- 데이터 파싱 ---------------------
-            try {
-                //JSON 응답 문자열을 record 기반 ClovaOcrResponse 객체로 변환
-                objectMapper.configure(
-                        com.fasterxml.jackson.databind.DeserializationFeature
-                                .FAIL_ON_UNKNOWN_PROPERTIES,
-                        false);
-
-                return objectMapper.readValue(response.toString(), ClovaOcrResponse.class);
-
-            } catch (IOException e) {
-                throw new RuntimeException("OCR 응답 파싱 실패", e);
-            }
-        } catch (Exception e){
-            throw new RuntimeException("CLOVA OCR 요청 또는 응답 처리 중 오류가 발생했습니다.", e);
         }
     }
 
-    private HttpURLConnection creatHeader() throws IOException {
+    //ocr.clova.call.duration (mode: json | multipart, outcome: success | http_{code} | error)
+    private void recordCall(Timer.Sample sample, String mode, String outcome) {
+        sample.stop(Timer.builder("ocr.clova.call.duration")
+                .description("CLOVA OCR 호출 지연 시간")
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private HttpURLConnection creatHeader(String contentType) throws IOException {
         URL url = new URL(ocrUrl);
         HttpURLConnection connection = (HttpURLConnection) url.openConnection();
         connection.setDoOutput(true);
         connection.setDoInput(true);
         connection.setUseCaches(false);
+        //본문 전체를 내부 버퍼에 모았다가 보내지 않도록 chunked 전송
+        connection.setChunkedStreamingMode(0);
+        //비동기 파이프라인이 시간 초과로 취소돼도 워커 스레드가 묶여있지 않도록 소켓 타임아웃 지정
+        connection.setConnectTimeout((int) TimeUnit.SECONDS.toMillis(timeoutSeconds));
+        connection.setReadTimeout((int) TimeUnit.SECONDS.toMillis(timeoutSeconds));
         connection.setRequestMethod("POST");
-        connection.setRequestProperty("Content-Type", "application/json; charset=utf-8");
+        connection.setRequestProperty("Content-Type", contentType);
         connection.setRequestProperty("X-OCR-SECRET", secretKey);
         return connection;
     }
+
+    private static void writeText(OutputStream outputStream, String value) throws IOException {
+        outputStream.write(value.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,206 @@
+package whatta.Whatta.ocr.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import whatta.Whatta.global.exception.ErrorCode;
+import whatta.Whatta.global.exception.RestApiException;
+import whatta.Whatta.ocr.payload.enums.OcrImageType;
+import whatta.Whatta.ocr.payload.response.ImageToEventResponse;
+import whatta.Whatta.ocr.payload.response.OcrBatchCompleteResponse;
+import whatta.Whatta.ocr.payload.response.OcrBatchImageResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OcrBatchService {
+
+    private final OcrService ocrService;
+
+    @Value("${ocr.batch.max-images:10}")
+    private int maxImages;
+
+    //한 배치가 동시에 처리하는 이미지 수 (이미지 1장당 ocrExecutor 작업 2개를 사용)
+    @Value("${ocr.batch.parallelism:2}")
+    private int parallelism;
+
+    @Value("${ocr.batch.timeout-seconds:180}")
+    private long timeoutSeconds;
+
+    public SseEmitter uploadImages(String userId, OcrImageType imageType, List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            throw new RestApiException(ErrorCode.INVALID_STORAGE_FILE);
+        }
+        if (files.size() > maxImages) {
+            throw new RestApiException(ErrorCode.OCR_BATCH_SIZE_EXCEEDED);
+        }
+
+        SseEmitter emitter = new SseEmitter(TimeUnit.SECONDS.toMillis(timeoutSeconds));
+        Batch batch = new Batch(userId, imageType, files, emitter);
+        emitter.onTimeout(batch::cancel);
+        emitter.onError(throwable -> batch.cancel());
+        batch.start();
+        return emitter;
+    }
+
+    //요일, 시작/종료 시간, 제목(공백/대소문자 무시)이 같으면 같은 일정으로 봄
+    static String dedupeKey(ImageToEventResponse.ImageToEvent event) {
+        String title = event.title() == null ? "" : event.title().replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+        return String.join("|", String.valueOf(event.weekDay()), String.valueOf(event.startTime()),
+                String.valueOf(event.endTime()), title);
+    }
+
+    private class Batch {
+
+        private final String userId;
+        private final OcrImageType imageType;
+        private final List<MultipartFile> files;
+        private final SseEmitter emitter;
+
+        private final AtomicInteger nextIndex = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final Set<String> seenKeys = ConcurrentHashMap.newKeySet();
+        private final List<ImageToEventResponse.ImageToEvent> merged = new CopyOnWriteArrayList<>();
+        private final List<CompletableFuture<?>> running = new CopyOnWriteArrayList<>();
+        private volatile boolean cancelled;
+
+        private Batch(String userId, OcrImageType imageType, List<MultipartFile> files, SseEmitter emitter) {
+            this.userId = userId;
+            this.imageType = imageType;
+            this.files = files;
+            this.emitter = emitter;
+            this.remaining = new AtomicInteger(files.size());
+        }
+
+        private void start() {
+            int initial = Math.min(Math.max(parallelism, 1), files.size());
+            for (int i = 0; i < initial; i++) {
+                launchNext();
+            }
+        }
+
+        //한 장이 끝날 때마다 다음 이미지를 시작해서 배치 하나가 ocr 풀을 독점하지 않도록 함
+        private void launchNext() {
+            if (cancelled) {
+                return;
+            }
+            int index = nextIndex.getAndIncrement();
+            if (index >= files.size()) {
+                return;
+            }
+
+            CompletableFuture<ImageToEventResponse> future;
+            try {
+                future = ocrService.uploadImage(userId, imageType, files.get(index));
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            running.add(future);
+            future.whenComplete((response, throwable) -> {
+                onImageDone(index, response, throwable);
+                launchNext();
+            });
+        }
+
+        private void onImageDone(int index, ImageToEventResponse response, Throwable throwable) {
+            if (cancelled) {
+                return;
+            }
+            String fileName = files.get(index).getOriginalFilename();
+            if (throwable == null) {
+                succeeded.incrementAndGet();
+                send("image", toImageResponse(index, fileName, response));
+            } else {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable;
+                log.warn("[OCR_BATCH][IMAGE_FAILED] userId={} index={} message={}", userId, index, cause.getMessage());
+                ErrorCode errorCode = cause instanceof RestApiException restApiException ? restApiException.getErrorCode() : null;
+                send("image", OcrBatchImageResponse.builder()
+                        .index(index)
+                        .fileName(fileName)
+                        .success(false)
+                        .events(List.of())
+                        .errorCode(errorCode == null ? null : errorCode.getCode())
+                        .message(errorCode == null ? "이미지 처리 중 오류가 발생했습니다." : errorCode.getMessage())
+                        .build());
+            }
+
+            if (remaining.decrementAndGet() == 0) {
+                complete();
+            }
+        }
+
+        //이미지는 끝나는 순서대로 들어오므로 먼저 끝난 이미지의 일정을 남기고 이후 중복은 제외
+        private OcrBatchImageResponse toImageResponse(int index, String fileName, ImageToEventResponse response) {
+            List<ImageToEventResponse.ImageToEvent> unique = new ArrayList<>();
+            int duplicateCount = 0;
+            for (ImageToEventResponse.ImageToEvent event : response.events()) {
+                if (seenKeys.add(dedupeKey(event))) {
+                    unique.add(event);
+                } else {
+                    duplicateCount++;
+                }
+            }
+            merged.addAll(unique);
+            return OcrBatchImageResponse.builder()
+                    .index(index)
+                    .fileName(fileName)
+                    .success(true)
+                    .events(unique)
+                    .duplicateCount(duplicateCount)
+                    .build();
+        }
+
+        private void complete() {
+            List<ImageToEventResponse.ImageToEvent> events = new ArrayList<>(merged);
+            events.sort(Comparator
+                    .comparingInt((ImageToEventResponse.ImageToEvent event) -> OcrService.weekdayIndex(event.weekDay()))
+                    .thenComparing(ImageToEventResponse.ImageToEvent::startTime, Comparator.nullsLast(Comparator.naturalOrder())));
+
+            log.info("[OCR_BATCH][DONE] userId={} total={} succeeded={} events={}",
+                    userId, files.size(), succeeded.get(), events.size());
+            send("complete", OcrBatchCompleteResponse.builder()
+                    .totalImages(files.size())
+                    .succeededImages(succeeded.get())
+                    .failedImages(files.size() - succeeded.get())
+                    .events(events)
+                    .build());
+            if (!cancelled) {
+                emitter.complete();
+            }
+        }
+
+        private void send(String name, Object payload) {
+            try {
+                emitter.send(SseEmitter.event().name(name).data(payload, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                //클라이언트 연결이 끊기면 남은 이미지는 시작하지 않음
+                log.warn("[OCR_BATCH][SEND_FAILED] userId={} event={} message={}", userId, name, e.getMessage());
+                cancel();
+            }
+        }
+
+        private void cancel() {
+            cancelled = true;
+            running.forEach(future -> future.cancel(true));
+        }
+    }
+}
@@ -1,38 +1,164 @@
 package whatta.Whatta.ocr.service;
 
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import whatta.Whatta.global.exception.ErrorCode;
+import whatta.Whatta.global.exception.RestApiException;
+import whatta.Whatta.global.util.ContentHashUtil;
+import whatta.Whatta.image.enums.ImageResultType;
+import whatta.Whatta.image.service.ImageResultCacheService;
 import whatta.Whatta.ocr.mapper.ClovaOcrMapper;
 import whatta.Whatta.ocr.mapper.ScheduleBlockMapper;
 import whatta.Whatta.ocr.payload.dto.DetectedBlock;
 import whatta.Whatta.ocr.payload.dto.MatchedScheduleBlock;
+import whatta.Whatta.ocr.payload.dto.OcrRequestImage;
+import whatta.Whatta.ocr.payload.dto.OcrText;
+import whatta.Whatta.ocr.payload.enums.OcrImageType;
 import whatta.Whatta.ocr.payload.request.ImageUploadRequest;
-import whatta.Whatta.ocr.payload.response.ClovaOcrResponse;
 import whatta.Whatta.ocr.payload.response.ImageToEventResponse;
 import whatta.Whatta.ocr.util.ScheduleBlockDetector;
 import whatta.Whatta.ocr.util.ScheduleMatcher;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 @Service
-@AllArgsConstructor
+@Slf4j
+@RequiredArgsConstructor
 public class OcrService {
 
     private static final Pattern NUMERIC_ONLY_TITLE = Pattern.compile("^[0-9\\s./%|+\\-]+$");
 
     private final ClovaOcrClient ocrClient;
     private final ScheduleBlockDetector scheduleBlockDetector;
+    private final Executor ocrExecutor;
+    private final ImageResultCacheService imageResultCacheService;
 
-    public ImageToEventResponse uploadImage(String userid, ImageUploadRequest request) {
+    @Value("${clova.ocr.timeout.seconds:30}")
+    private long timeoutSeconds;
 
-        //ocr로 텍스트 가져옴
-        ClovaOcrResponse ocrResponse = ocrClient.callApi(request);
-        List<whatta.Whatta.ocr.payload.dto.OcrText> ocrTexts = ClovaOcrMapper.toOcrTextList(ocrResponse);
-        //opencv로 각 시간표 범위 좌표 추출
-        DetectedBlock detectedBlock = scheduleBlockDetector.findTimeBox(request.image().data());
+    public CompletableFuture<ImageToEventResponse> uploadImage(String userid, ImageUploadRequest request) {
+        return withResultCache(hashBase64Image(request), () -> runPipeline(userid,
+                () -> ClovaOcrMapper.toOcrTextList(ocrClient.callApi(request)),
+                () -> scheduleBlockDetector.findTimeBox(request.image().data())));
+    }
+
+    //multipart 업로드: base64 문자열 없이 원본 바이트를 clova와 opencv에 각각 스트리밍
+    public CompletableFuture<ImageToEventResponse> uploadImage(String userid, OcrImageType imageType, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new RestApiException(ErrorCode.INVALID_STORAGE_FILE);
+        }
+        OcrRequestImage image = new OcrRequestImage(resolveFormat(file), resolveName(file), null, null);
+        return withResultCache(hashImageFile(file), () -> runPipeline(userid,
+                () -> {
+                    try (InputStream in = file.getInputStream()) {
+                        return ClovaOcrMapper.toOcrTextList(ocrClient.callApi(image, in));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                },
+                () -> {
+                    try (InputStream in = file.getInputStream()) {
+                        return scheduleBlockDetector.findTimeBox(in, file.getSize());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+    }
+
+    //같은 이미지를 다시 올리면 ocr/opencv를 다시 돌리지 않고 이전 결과 반환
+    private CompletableFuture<ImageToEventResponse> withResultCache(String imageHash,
+                                                                    Supplier<CompletableFuture<ImageToEventResponse>> pipeline) {
+        Optional<ImageToEventResponse> cached = imageResultCacheService.find(ImageResultType.OCR, imageHash, ImageToEventResponse.class);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        return pipeline.get().thenApply(response -> {
+            imageResultCacheService.save(ImageResultType.OCR, imageHash, response);
+            return response;
+        });
+    }
+
+    private static String hashBase64Image(ImageUploadRequest request) {
+        if (request.image() == null || request.image().data() == null || request.image().data().isEmpty()) {
+            return null;
+        }
+        try {
+            return ContentHashUtil.sha256HexFromBase64(request.image().data());
+        } catch (IllegalArgumentException e) {
+            return null; //잘못된 base64는 캐시 없이 기존 파이프라인에서 오류 처리
+        }
+    }
+
+    private static String hashImageFile(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return ContentHashUtil.sha256Hex(in);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private CompletableFuture<ImageToEventResponse> runPipeline(String userid,
+                                                                Supplier<List<OcrText>> ocrTask,
+                                                                Supplier<DetectedBlock> detectTask) {
+        CompletableFuture<List<OcrText>> ocrFuture = null;
+        CompletableFuture<DetectedBlock> detectFuture;
+        try {
+            //ocr로 텍스트 가져옴 (원격 호출)
+            ocrFuture = CompletableFuture.supplyAsync(ocrTask, ocrExecutor);
+            //opencv로 각 시간표 범위 좌표 추출 (ocr 결과와 독립적이므로 동시에 실행)
+            detectFuture = CompletableFuture.supplyAsync(detectTask, ocrExecutor);
+        } catch (RejectedExecutionException e) {
+            if (ocrFuture != null) {
+                ocrFuture.cancel(true);
+            }
+            log.warn("[OCR_ASYNC][REJECTED] userId={} message={}", userid, e.getMessage(), e);
+            throw new RestApiException(ErrorCode.OCR_REQUEST_REJECTED);
+        }
+
+        CompletableFuture<List<OcrText>> ocrStage = ocrFuture;
+        CompletableFuture<DetectedBlock> detectStage = detectFuture;
+        return ocrStage
+                .thenCombine(detectStage, (ocrTexts, detectedBlock) -> toResponse(detectedBlock, ocrTexts))
+                .orTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        //한쪽이 실패하거나 시간 초과되면 남은 작업은 취소 (큐에 대기 중이면 실행되지 않음)
+                        ocrStage.cancel(true);
+                        detectStage.cancel(true);
+                    }
+                })
+                .exceptionally(throwable -> {
+                    Throwable cause = unwrap(throwable);
+                    if (cause instanceof TimeoutException) {
+                        log.warn("[OCR_ASYNC][TIMEOUT] userId={} timeoutSeconds={}", userid, timeoutSeconds);
+                        throw new RestApiException(ErrorCode.OCR_API_TIMEOUT);
+                    }
+                    if (cause instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    private ImageToEventResponse toResponse(DetectedBlock detectedBlock, List<OcrText> ocrTexts) {
         //ocr로 받은 텍스트와 색깔 범위 매칭
         List<MatchedScheduleBlock> matches = ScheduleMatcher.matchAll(detectedBlock, ocrTexts);
         //요일 순 정렬
@@ -67,6 +193,36 @@ public class OcrService {
                 .build();
     }
 
+    private static String resolveFormat(MultipartFile file) {
+        String contentType = file.getContentType() == null ? "" : file.getContentType().trim().toLowerCase(Locale.ROOT);
+        return switch (contentType) {
+            case "image/png" -> "png";
+            case "image/jpg", "image/jpeg" -> "jpg";
+            default -> {
+                String name = file.getOriginalFilename();
+                int dot = name == null ? -1 : name.lastIndexOf('.');
+                yield dot < 0 ? "jpg" : name.substring(dot + 1).toLowerCase(Locale.ROOT);
+            }
+        };
+    }
+
+    private static String resolveName(MultipartFile file) {
+        String name = file.getOriginalFilename();
+        if (name == null || name.isBlank()) {
+            return "image";
+        }
+        int dot = name.lastIndexOf('.');
+        return dot <= 0 ? name : name.substring(0, dot);
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable cursor = throwable;
+        while (cursor instanceof CompletionException && cursor.getCause() != null) {
+            cursor = cursor.getCause();
+        }
+        return cursor;
+    }
+
     private static boolean isNumericOnlyNoise(String title, String content) {
         String normalizedTitle = title == null ? "" : title.trim();
         String normalizedContent = content == null ? "" : content.trim();
@@ -79,7 +235,7 @@ public class OcrService {
         return NUMERIC_ONLY_TITLE.matcher(normalizedTitle).matches();
     }
 
-    private static int weekdayIndex(String day) {
+    static int weekdayIndex(String day) {
         if (day == null) return 7;
         return switch (day) {
             case "MON" -> 0;
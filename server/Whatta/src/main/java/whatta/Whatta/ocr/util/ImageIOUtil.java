@@ -1,26 +1,88 @@
 package whatta.Whatta.ocr.util;
+import org.bytedeco.javacpp.BytePointer;
 import org.bytedeco.opencv.opencv_core.*;
 
 import static org.bytedeco.opencv.global.opencv_core.*;
 import static org.bytedeco.opencv.global.opencv_imgcodecs.*;
-import whatta.Whatta.ocr.payload.dto.BoundingPoly;
-import whatta.Whatta.ocr.payload.dto.DetectedBlock;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.Base64;
 
 public class ImageIOUtil {
 
+    //한 번에 디코딩/복사하는 조각 크기 (base64는 4글자 단위여야 하므로 4의 배수)
+    private static final int CHUNK_SIZE = 64 * 1024;
+
     public static Mat fromBase64(String imageData) {
-        if(imageData == null) throw new IllegalArgumentException("Image data is null or empty");
+        if(imageData == null || imageData.isEmpty()) throw new IllegalArgumentException("Image data is null or empty");
 
-        byte[] bytes = Base64.getDecoder().decode(imageData);
-        Mat buf = new Mat(1, bytes.length, CV_8U);
-        buf.data().put(bytes);
+        int decodedLength = decodedLength(imageData);
+        if (decodedLength <= 0) throw new IllegalArgumentException("Image data is null or empty");
 
-        Mat image = imdecode(buf, IMREAD_COLOR); //BGR
-        buf.release(); //네이티브 버퍼 해제
+        //디코딩 결과를 byte[]로 모으지 않고 조각 단위로 Mat의 네이티브 버퍼에 바로 채움
+        Mat buf = new Mat(1, decodedLength, CV_8U);
+        try {
+            BytePointer target = buf.data();
+            Base64.Decoder decoder = Base64.getDecoder();
+            byte[] encoded = new byte[CHUNK_SIZE];
+            byte[] decoded = new byte[CHUNK_SIZE / 4 * 3];
+            int offset = 0;
+            for (int start = 0; start < imageData.length(); start += CHUNK_SIZE) {
+                int length = Math.min(CHUNK_SIZE, imageData.length() - start);
+                for (int i = 0; i < length; i++) {
+                    encoded[i] = (byte) imageData.charAt(start + i); //base64는 ASCII라 1글자 = 1바이트
+                }
+                int written = decoder.decode(length == CHUNK_SIZE ? encoded : Arrays.copyOf(encoded, length), decoded);
+                target.position(offset).put(decoded, 0, written);
+                offset += written;
+            }
+            return decode(buf);
+        } finally {
+            buf.release(); //네이티브 버퍼 해제
+        }
+    }
 
+    //multipart/raw 업로드: 스트림을 조각 단위로 Mat 네이티브 버퍼에 복사 (힙에는 조각 하나만 존재)
+    public static Mat fromStream(InputStream in, long size) throws IOException {
+        if (in == null || size <= 0) throw new IllegalArgumentException("Image data is null or empty");
+        if (size > Integer.MAX_VALUE) throw new IllegalArgumentException("Image data is too large");
+
+        Mat buf = new Mat(1, (int) size, CV_8U);
+        try {
+            BytePointer target = buf.data();
+            byte[] chunk = new byte[CHUNK_SIZE];
+            int offset = 0;
+            int read;
+            while (offset < size && (read = in.read(chunk, 0, (int) Math.min(chunk.length, size - offset))) != -1) {
+                target.position(offset).put(chunk, 0, read);
+                offset += read;
+            }
+            if (offset != size) throw new IllegalArgumentException("image stream ended early");
+            return decode(buf);
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static Mat decode(Mat buf) {
+        Mat image = imdecode(buf, IMREAD_COLOR); //BGR
         if (image == null || image.empty()) throw new IllegalArgumentException("imdecode failed (invalid image bytes)");
         return image;
     }
+
+    //패딩을 고려한 디코딩 후 바이트 수 (공백/줄바꿈이 섞인 MIME 형식은 지원하지 않음)
+    private static int decodedLength(String base64) {
+        int length = base64.length();
+        int remainder = length % 4;
+        if (remainder == 1) throw new IllegalArgumentException("invalid base64 image data");
+        if (remainder != 0) { //패딩 생략된 입력
+            return (int) ((long) length / 4 * 3 + remainder - 1);
+        }
+        int padding = 0;
+        if (base64.charAt(length - 1) == '=') padding++;
+        if (base64.charAt(length - 2) == '=') padding++;
+        return (int) ((long) length / 4 * 3 - padding);
+    }
 }
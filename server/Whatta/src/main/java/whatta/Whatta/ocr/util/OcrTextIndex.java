@@ -0,0 +1,75 @@
+package whatta.Whatta.ocr.util;
+
+import whatta.Whatta.ocr.payload.dto.OcrText;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+//ocr 텍스트 중심점을 y 기준으로 정렬해 둔 인덱스 (이미지당 한 번 생성)
+class OcrTextIndex {
+
+    private final List<OcrText> texts;
+    private final int[] sortedY; //중심 y 오름차순
+    private final int[] sortedX;
+    private final int[] originalOrder; //정렬 위치 -> 원본 리스트 인덱스
+
+    OcrTextIndex(List<OcrText> texts) {
+        this.texts = texts;
+        int size = texts.size();
+        Integer[] order = new Integer[size];
+        int[] centerY = new int[size];
+        int[] centerX = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+            centerY[i] = texts.get(i).centerY();
+            centerX[i] = texts.get(i).centerX();
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> centerY[i]));
+
+        this.sortedY = new int[size];
+        this.sortedX = new int[size];
+        this.originalOrder = new int[size];
+        for (int i = 0; i < size; i++) {
+            originalOrder[i] = order[i];
+            sortedY[i] = centerY[order[i]];
+            sortedX[i] = centerX[order[i]];
+        }
+    }
+
+    //중심점이 사각형 안(경계 포함)에 있는 텍스트를 원본(ocr 읽기) 순서대로 반환
+    List<OcrText> findInside(int left, int top, int right, int bottom) {
+        int from = lowerBound(top);
+        int to = lowerBound(bottom + 1);
+        if (from >= to) {
+            return List.of();
+        }
+
+        int[] hits = new int[to - from];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (sortedX[i] >= left && sortedX[i] <= right) {
+                hits[count++] = originalOrder[i];
+            }
+        }
+        Arrays.sort(hits, 0, count);
+
+        List<OcrText> inside = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            inside.add(texts.get(hits[i]));
+        }
+        return inside;
+    }
+
+    //y 이상인 첫 위치
+    private int lowerBound(int y) {
+        int lo = 0, hi = sortedY.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sortedY[mid] < y) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
@@ -1,5 +1,7 @@
 package whatta.Whatta.ocr.util;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -32,6 +34,16 @@ public class ScheduleBlockDetector {
         }
     }
 
+    //multipart 업로드 이미지: base64 문자열 없이 스트림에서 바로 Mat 생성
+    public DetectedBlock findTimeBox (InputStream imageStream, long size) throws IOException {
+        Mat bgrImage = ImageIOUtil.fromStream(imageStream, size);
+        try {
+            return detectColoredBoxes(bgrImage);
+        } finally {
+            bgrImage.release();
+        }
+    }
+
     private DetectedBlock detectColoredBoxes (Mat bgrImage) {
         Mat gray = new Mat();
         cvtColor(bgrImage, gray, COLOR_BGR2GRAY);
@@ -1,6 +1,5 @@
 package whatta.Whatta.ocr.util;
 
-import org.bytedeco.opencv.opencv_core.Point;
 import whatta.Whatta.ocr.payload.dto.BoundingPoly;
 import whatta.Whatta.ocr.payload.dto.DetectedBlock;
 import whatta.Whatta.ocr.payload.dto.MatchedScheduleBlock;
@@ -8,7 +7,6 @@ import whatta.Whatta.ocr.payload.dto.OcrText;
 
 import java.util.*;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public class ScheduleMatcher {
 
@@ -25,6 +23,10 @@ public class ScheduleMatcher {
         final int headerBandMaxY = computeHeaderBandMaxY(ocrTexts, 80);
         final int verticalTolerance = computeVerticalTolerance(hourY);
 
+        //블록마다 전체 텍스트를 훑지 않도록 중심점 인덱스를 한 번만 생성
+        OcrTextIndex textIndex = new OcrTextIndex(ocrTexts);
+        TimeConverter tConv = TimeConverter.fromAnchors(hourY, 10); //10분 단위로 반올림
+
         //블록 내부 text 묶기 + 요일/시간 채우기
         List<MatchedScheduleBlock> matches = new ArrayList<>();
         for (DetectedBlock.Block b : blocks.blocks()) {
@@ -34,22 +36,21 @@ public class ScheduleMatcher {
                 continue;
             }
 
-            List<OcrText> inside = ocrTexts.stream()
-                    .filter(f -> r.contains(f.centerX(), f.centerY()))
-                    .toList();
+            List<OcrText> inside = textIndex.findInside(r.left, r.top, r.right, r.bottom);
 
             //블록 중심 x가 가장 가까운 요일 매핑
             String weekDay = inferWeekDay(r.centerX(), weekDayX);
             //시작/종료시간 매핑
-            TimeConverter tConv = TimeConverter.fromAnchors(hourY, 10); //10분 단위로 반올림
             String start = tConv.formatHHmm(tConv.minutesAtY(r.top()));
             String end = tConv.formatHHmm(tConv.minutesAtY(r.bottom()));
 
             //텍스트만 추출
-            List<String> texts = inside.stream()
-                    .filter(t -> notAxisLabel(t, headerBandMaxY))
-                    .map(OcrText::text)
-                    .collect(Collectors.toList());
+            List<String> texts = new ArrayList<>(inside.size());
+            for (OcrText t : inside) {
+                if (notAxisLabel(t, headerBandMaxY)) {
+                    texts.add(t.text());
+                }
+            }
 
             matches.add(MatchedScheduleBlock.builder()
                             .blockId(b.id())
@@ -336,22 +337,19 @@ public class ScheduleMatcher {
             this.right = right;
             this.bottom = bottom;
         }
-        boolean contains(int x, int y) {
-            return x>=left && x<=right && y>=top && y<=bottom;
-        }
         int centerX() { return  (left+right)/2; }
         int top() { return top; }
         int bottom() { return bottom; }
 
+        //opencv Point(네이티브 메모리)로 바꾸지 않고 꼭짓점 좌표를 바로 사용
         static Rect fromBlock(DetectedBlock.Block block) {
-            Point tl = toPoint(block.tl()), tr = toPoint(block.tr()), br = toPoint(block.br()), bl = toPoint(block.bl());
+            BoundingPoly.Vertex tl = block.tl(), tr = block.tr(), br = block.br(), bl = block.bl();
             int l = Math.min(tl.x(), bl.x());
             int r = Math.max(tr.x(), br.x());
             int t = Math.min(tl.y(), tr.y());
             int bo= Math.max(bl.y(), br.y());
             return new Rect(l,t,r,bo);
         }
-        static Point toPoint(BoundingPoly.Vertex v){ return new Point(v.x(), v.y()); }
     }
 
     private static String inferWeekDay(int x, Map<String, Integer> anchors) {
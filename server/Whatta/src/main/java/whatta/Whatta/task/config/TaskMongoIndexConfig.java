@@ -0,0 +1,70 @@
+package whatta.Whatta.task.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import whatta.Whatta.task.entity.Task;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class TaskMongoIndexConfig {
+
+    private final MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    public void ensureTaskIndexes() {
+        //사용자별 순서 조회/맨 앞 키 조회/이동할 자리의 앞뒤 키 조회/전체 목록 (sortKey, _id) 순 keyset
+        mongoTemplate.indexOps(Task.class).createIndex(
+                new Index()
+                        .on("userId", Sort.Direction.ASC)
+                        .on("sortKey", Sort.Direction.ASC)
+                        .on("_id", Sort.Direction.ASC)
+                        .named("idx_task_user_sort_key")
+        );
+        //이전 버전 앱 호환용 sortNumber: 새 task의 sortNumber 계산/sortNumber 수정 요청의 바로 위 task 조회
+        mongoTemplate.indexOps(Task.class).createIndex(
+                new Index()
+                        .on("userId", Sort.Direction.ASC)
+                        .on("sortNumber", Sort.Direction.ASC)
+                        .named("idx_task_user_sort_number")
+        );
+
+        //사이드바 목록: placementDate null 조건 + (sortKey, _id) 순 keyset
+        mongoTemplate.indexOps(Task.class).createIndex(
+                new Index()
+                        .on("userId", Sort.Direction.ASC)
+                        .on("placementDate", Sort.Direction.ASC)
+                        .on("sortKey", Sort.Direction.ASC)
+                        .on("_id", Sort.Direction.ASC)
+                        .named("idx_task_user_placement_sort_key")
+        );
+
+        //진행 중 목록: completed=false + (sortKey, _id) 순 keyset
+        mongoTemplate.indexOps(Task.class).createIndex(
+                new Index()
+                        .on("userId", Sort.Direction.ASC)
+                        .on("completed", Sort.Direction.ASC)
+                        .on("sortKey", Sort.Direction.ASC)
+                        .on("_id", Sort.Direction.ASC)
+                        .named("idx_task_user_completed_sort_key")
+        );
+
+        //완료 목록: completed=true + (completedAt, _id) 최신순 keyset
+        mongoTemplate.indexOps(Task.class).createIndex(
+                new Index()
+                        .on("userId", Sort.Direction.ASC)
+                        .on("completed", Sort.Direction.ASC)
+                        .on("completedAt", Sort.Direction.DESC)
+                        .on("_id", Sort.Direction.DESC)
+                        .named("idx_task_user_completed_completed_at")
+        );
+
+        log.info("Task 인덱스 보장: idx_task_user_sort_key, idx_task_user_sort_number, idx_task_user_placement_sort_key, "
+                + "idx_task_user_completed_sort_key, idx_task_user_completed_completed_at");
+    }
+}
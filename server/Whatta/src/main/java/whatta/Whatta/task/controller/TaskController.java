@@ -1,6 +1,7 @@
 package whatta.Whatta.task.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -10,10 +11,16 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import whatta.Whatta.global.payload.Response;
+import whatta.Whatta.task.payload.request.TaskBulkRequest;
 import whatta.Whatta.task.payload.request.TaskCreateRequest;
+import whatta.Whatta.task.payload.request.TaskMoveRequest;
 import whatta.Whatta.task.payload.request.TaskUpdateRequest;
 import whatta.Whatta.task.payload.response.SidebarTaskResponse;
+import whatta.Whatta.task.payload.response.TaskBulkResponse;
+import whatta.Whatta.task.payload.response.TaskListItemResponse;
+import whatta.Whatta.task.payload.response.TaskPageResponse;
 import whatta.Whatta.task.payload.response.TaskResponse;
+import whatta.Whatta.task.payload.response.TaskSortKeyResponse;
 import whatta.Whatta.task.service.TaskService;
 
 import java.util.List;
@@ -52,6 +59,35 @@ public class TaskController {
         return Response.ok("Task 수정 성공했습니다.", response);
     }
 
+    @PatchMapping("/order")
+    @Operation(summary = "Task 순서 이동", description =
+            "여러 Task를 요청한 순서대로 한 번에 이동합니다.<br>"
+                    + "<br>- afterTaskId: 이 Task 바로 아래에 배치"
+                    + "<br>- beforeTaskId: 이 Task 바로 위에 배치"
+                    + "<br>- 둘 다 없으면 맨 위로 이동합니다."
+                    + "<br>- 응답의 sortKey 오름차순이 화면 순서입니다.")
+    public ResponseEntity<?> moveTasks(
+            @AuthenticationPrincipal String userId,
+            @RequestBody @Validated TaskMoveRequest request) {
+        List<TaskSortKeyResponse> response = taskService.moveTasks(userId, request);
+        return Response.ok("Task 순서 이동 성공했습니다.", response);
+    }
+
+    @PostMapping("/bulk")
+    @Operation(summary = "Task 일괄 처리", description =
+            "여러 Task에 대한 작업을 한 번에 처리합니다.<br>"
+                    + "<br>- action: COMPLETE, UNCOMPLETE, RESCHEDULE, SET_LABELS, DELETE"
+                    + "<br>- 작업은 요청 순서대로 적용되며, 하나라도 잘못되면 아무것도 반영되지 않습니다."
+                    + "<br>- RESCHEDULE: placementDate가 없으면 사이드바로 이동합니다. (placementTime만 보낼 수 없음)"
+                    + "<br>- SET_LABELS: labels로 교체합니다. (빈 목록이면 라벨 제거)"
+                    + "<br>- 순서 변경은 Task 순서 이동 API를 사용합니다.")
+    public ResponseEntity<?> applyBulkOperations(
+            @AuthenticationPrincipal String userId,
+            @RequestBody @Validated TaskBulkRequest request) {
+        TaskBulkResponse response = taskService.applyBulkOperations(userId, request);
+        return Response.ok("Task 일괄 처리 성공했습니다.", response);
+    }
+
     @DeleteMapping("/{taskId}")
     @Operation(summary = "Task 삭제", description = "해당 Task를 삭제합니다.")
     public ResponseEntity<?> deleteTask(
@@ -84,6 +120,34 @@ public class TaskController {
         return Response.ok("사이드바의 Task 목록입니다.", response);
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Task 목록 페이지 조회", description =
+            "관리페이지의 Task 목록을 size개씩 조회합니다.<br>"
+                    + "<br>- completed 미입력: 전체, false: 진행 중 (둘 다 정렬 순서대로)"
+                    + "<br>- completed=true: 완료한 Task를 완료 시각 최신순으로"
+                    + "<br>- 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다. (같은 completed 값으로)"
+                    + "<br>- content 등 상세 필드는 상세조회를 사용합니다.")
+    public ResponseEntity<?> getTaskPage(
+            @AuthenticationPrincipal String userId,
+            @Parameter(description = "완료 여부 필터") @RequestParam(required = false) Boolean completed,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "50") int size) {
+        TaskPageResponse<TaskListItemResponse> response = taskService.getTaskPage(userId, completed, cursor, size);
+        return Response.ok("관리페이지 Task 목록입니다.", response);
+    }
+
+    @GetMapping("/sidebar/page")
+    @Operation(summary = "사이드바 Task 목록 페이지 조회", description =
+            "배치되지 않은 사이드바의 Task 목록을 정렬 순서대로 size개씩 조회합니다.<br>"
+                    + "<br>- 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    public ResponseEntity<?> getSidebarPage(
+            @AuthenticationPrincipal String userId,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "50") int size) {
+        TaskPageResponse<SidebarTaskResponse> response = taskService.getSidebarPage(userId, cursor, size);
+        return Response.ok("사이드바의 Task 목록입니다.", response);
+    }
+
     @GetMapping("/summary")
     @Operation(summary = "비서홈 오늘의 Task 요약 조회", description = "비서홈의 오늘의 할 일과 오늘 마감인 할 일에 사용될 목록을 조회합니다.")
     public ResponseEntity<?> getTodayTaskSummary(@AuthenticationPrincipal String userId) {
@@ -53,10 +53,13 @@ public class Task {
     private LocalTime placementTime;
     private LocalDateTime dueDateTime;
 
+    //이전 앱 버전 호환용 정렬 값 (정렬 기준은 sortKey)
     @NotNull
     @Builder.Default
     private Long sortNumber = 0L;
 
+    private String sortKey; //FractionalSortKey, 오름차순이 위쪽
+
     @Builder.Default
     private ReminderNoti reminderNotiAt = null;
 
@@ -0,0 +1,9 @@
+package whatta.Whatta.task.enums;
+
+public enum TaskBulkAction {
+    COMPLETE, //완료 처리
+    UNCOMPLETE, //완료 취소
+    RESCHEDULE, //배치 날짜/시간 변경 (placementDate가 없으면 사이드바로)
+    SET_LABELS, //라벨 교체
+    DELETE //삭제
+}
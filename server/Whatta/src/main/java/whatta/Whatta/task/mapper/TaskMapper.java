@@ -3,6 +3,7 @@ package whatta.Whatta.task.mapper;
 import org.springframework.stereotype.Component;
 import whatta.Whatta.task.entity.Task;
 import whatta.Whatta.task.payload.response.SidebarTaskResponse;
+import whatta.Whatta.task.payload.response.TaskListItemResponse;
 import whatta.Whatta.task.payload.response.TaskResponse;
 
 @Component
@@ -20,12 +21,28 @@ public class TaskMapper {
                 .placementTime(task.getPlacementTime())
                 .dueDateTime(task.getDueDateTime())
                 .sortNumber(task.getSortNumber())
+                .sortKey(task.getSortKey())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
                 .reminderNoti(task.getReminderNotiAt())
                 .build();
     }
 
+    public TaskListItemResponse toListItemResponse(Task task) {
+        return TaskListItemResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .labels(task.getLabels())
+                .completed(task.getCompleted())
+                .completedAt(task.getCompletedAt())
+                .placementDate(task.getPlacementDate())
+                .placementTime(task.getPlacementTime())
+                .dueDateTime(task.getDueDateTime())
+                .sortNumber(task.getSortNumber())
+                .sortKey(task.getSortKey())
+                .build();
+    }
+
     public SidebarTaskResponse toSidebarResponse(Task task) {
         return new SidebarTaskResponse(
                 task.getId(),
@@ -33,7 +50,8 @@ public class TaskMapper {
                 task.getCompleted(),
                 task.getCompletedAt(),
                 task.getDueDateTime(),
-                task.getSortNumber()
+                task.getSortNumber(),
+                task.getSortKey()
         );
 
     }
@@ -0,0 +1,33 @@
+package whatta.Whatta.task.payload.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import whatta.Whatta.task.enums.TaskBulkAction;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public record TaskBulkOperation (
+
+        @NotNull(message = "작업 종류는 필수입니다.")
+        @Schema(description = "작업 종류", example = "COMPLETE")
+        TaskBulkAction action,
+
+        @NotEmpty(message = "대상 Task를 선택해야 합니다.")
+        @Size(max = 100, message = "한 작업의 대상 Task는 최대 100개입니다.")
+        @Schema(description = "대상 Task ID 목록", example = "[\"taskId1\", \"taskId2\"]")
+        List<String> taskIds,
+
+        @Schema(description = "RESCHEDULE: 배치 날짜 (없으면 사이드바로 이동)", example = "2026-02-10")
+        LocalDate placementDate,
+
+        @Schema(description = "RESCHEDULE: 배치 시간 (없으면 시간 초기화)", example = "18:00:00")
+        LocalTime placementTime,
+
+        @Size(max = 3, message = "선택할 수 있는 라벨의 개수는 최대 3개입니다.")
+        @Schema(description = "SET_LABELS: 교체할 라벨 ID 목록 (빈 목록이면 라벨 제거)")
+        List<Long> labels
+) {}
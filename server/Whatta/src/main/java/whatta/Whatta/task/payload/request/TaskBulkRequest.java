@@ -0,0 +1,17 @@
+package whatta.Whatta.task.payload.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TaskBulkRequest (
+
+        @NotEmpty(message = "작업 목록이 비어 있습니다.")
+        @Size(max = 20, message = "한 번에 요청할 수 있는 작업은 최대 20개입니다.")
+        @Valid
+        @Schema(description = "순서대로 적용할 작업 목록")
+        List<TaskBulkOperation> operations
+) {}
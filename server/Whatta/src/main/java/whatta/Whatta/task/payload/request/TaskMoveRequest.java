@@ -0,0 +1,21 @@
+package whatta.Whatta.task.payload.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TaskMoveRequest (
+
+        @NotEmpty(message = "이동할 Task를 선택해야 합니다.")
+        @Size(max = 100, message = "한 번에 이동할 수 있는 Task는 최대 100개입니다.")
+        @Schema(description = "이동할 Task ID 목록 (이 순서대로 배치)", example = "[\"taskId1\", \"taskId2\"]")
+        List<String> taskIds,
+
+        @Schema(description = "이 Task 바로 아래에 배치 (없으면 beforeTaskId 기준, 둘 다 없으면 맨 위)")
+        String afterTaskId,
+
+        @Schema(description = "이 Task 바로 위에 배치")
+        String beforeTaskId
+) {}
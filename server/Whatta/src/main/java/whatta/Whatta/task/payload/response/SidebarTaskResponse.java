@@ -10,5 +10,6 @@ public record SidebarTaskResponse (
     Boolean completed,
     LocalDateTime completedAt,
     LocalDateTime dueDateTime,
-    Long sortNumber
+    Long sortNumber,
+    String sortKey
 ){}
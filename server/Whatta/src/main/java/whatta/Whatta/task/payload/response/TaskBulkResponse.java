@@ -0,0 +1,9 @@
+package whatta.Whatta.task.payload.response;
+
+import java.util.List;
+
+public record TaskBulkResponse (
+
+    List<TaskResponse> updated, //모든 작업이 적용된 최종 상태
+    List<String> deletedIds
+){}
@@ -0,0 +1,24 @@
+package whatta.Whatta.task.payload.response;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+//목록용 요약 (content/알림 등 상세 필드는 상세조회에서)
+@Builder
+public record TaskListItemResponse (
+
+    String id,
+    String title,
+    List<Long> labels,
+    Boolean completed,
+    LocalDateTime completedAt,
+    LocalDate placementDate,
+    LocalTime placementTime,
+    LocalDateTime dueDateTime,
+    Long sortNumber,
+    String sortKey
+){}
@@ -0,0 +1,10 @@
+package whatta.Whatta.task.payload.response;
+
+import java.util.List;
+
+public record TaskPageResponse<T> (
+
+    List<T> items,
+    String nextCursor, //다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    boolean hasNext
+){}
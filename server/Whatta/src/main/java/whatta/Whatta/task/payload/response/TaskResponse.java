@@ -23,6 +23,7 @@ public record TaskResponse (
     LocalTime placementTime,
     LocalDateTime dueDateTime,
     Long sortNumber,
+    String sortKey,
     LocalDateTime createdAt,
     LocalDateTime updatedAt,
     ReminderNoti reminderNoti
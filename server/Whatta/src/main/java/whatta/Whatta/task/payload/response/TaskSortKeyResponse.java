@@ -0,0 +1,8 @@
+package whatta.Whatta.task.payload.response;
+
+public record TaskSortKeyResponse (
+
+    String id,
+    String sortKey,
+    Long sortNumber //이전 버전 앱 호환용
+){}
@@ -5,10 +5,11 @@ import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.Update;
 import whatta.Whatta.task.entity.Task;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface TaskRepository extends MongoRepository<Task, String> {
+public interface TaskRepository extends MongoRepository<Task, String>, TaskRepositoryCustom {
 
 
     List<Task> findByUserId(String userId);
@@ -17,13 +18,20 @@ public interface TaskRepository extends MongoRepository<Task, String> {
 
     boolean existsByIdAndUserId(String id, String userId);
 
+    long countByUserIdAndIdIn(String userId, Collection<String> ids);
+
+    List<Task> findByUserIdAndIdIn(String userId, Collection<String> ids);
+
+    Optional<Task> findTopByUserIdOrderBySortKeyAsc(String userId);
+
     Optional<Task> findTopByUserIdOrderBySortNumberAsc(String userId);
 
-    List<Task> findByUserIdAndPlacementDateIsNullOrderBySortNumberAsc(String userId);
+    //이전 앱의 sortNumber 수정 요청을 자리 이동으로 바꿀 때 기준이 되는 바로 위 task
+    Optional<Task> findTopByUserIdAndSortNumberLessThanAndIdNotOrderBySortNumberDesc(String userId, Long sortNumber, String id);
+
+    boolean existsByUserIdAndSortKeyIsNull(String userId);
 
     @Query("{ 'userId': ?0 }")
     @Update("{ '$pull': { 'labels': { '$in': ?1 } } }") //labels 배열에서 ?1에 있는 값들 전부 제거
     void pullLabelsByUserId(String userId, List<Long> labelIds);
-
-    List<Task> findByUserIdOrderBySortNumberAsc(String userId);
 }
@@ -0,0 +1,41 @@
+package whatta.Whatta.task.repository;
+
+import whatta.Whatta.task.entity.Task;
+import whatta.Whatta.task.util.TaskCursor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TaskRepositoryCustom {
+
+    //sortKey 바로 다음 키 (sortKey가 null이면 맨 앞 키), excludedIds는 건너뜀
+    Optional<String> findNextSortKey(String userId, String sortKey, Collection<String> excludedIds);
+
+    //sortKey 바로 다음 task (sortKey가 null이면 맨 앞 task), excludedIds는 건너뜀 (sortKey, sortNumber만 조회)
+    Optional<Task> findNextInSortOrder(String userId, String sortKey, Collection<String> excludedIds);
+
+    //sortKey 바로 앞 task (sortKey가 null이면 맨 뒤 task), excludedIds는 건너뜀 (sortKey, sortNumber만 조회)
+    Optional<Task> findPreviousInSortOrder(String userId, String sortKey, Collection<String> excludedIds);
+
+    //taskIds[i]에 sortKeys[i], sortNumbers[i]를 한 번의 bulk 요청으로 반영
+    void updateSortOrder(String userId, List<String> taskIds, List<String> sortKeys, List<Long> sortNumbers);
+
+    //sortKey가 없는 task (이전 sortNumber 순)
+    List<Task> findWithoutSortKey(String userId);
+
+    List<String> findUserIdsWithoutSortKey();
+
+    //sortKey가 아직 없는 task에만 반영 (동시에 이관되어도 먼저 쓴 값 유지)
+    void assignMissingSortKeys(List<String> taskIds, List<String> sortKeys);
+
+    //배치되지 않은 task를 sortKey 순으로 after 다음부터 limit개 (목록 필드만 조회, limit 0이면 전부)
+    List<Task> findSidebarPage(String userId, TaskCursor.Position after, int limit);
+
+    //completed가 true면 완료 시각 최신순, 아니면 sortKey 순 (null이면 완료 여부 무관)
+    List<Task> findTaskPage(String userId, Boolean completed, TaskCursor.Position after, int limit);
+
+    //일괄 처리 결과 반영: updatedTasks는 완료/배치/라벨 필드만 덮어쓰고 deletedIds는 삭제 (한 번의 bulk 요청)
+    //실제로 갱신된 task만 돌려줌 (그 사이 다른 요청으로 삭제된 task는 빠짐)
+    List<Task> applyBulkChanges(String userId, List<Task> updatedTasks, Collection<String> deletedIds);
+}
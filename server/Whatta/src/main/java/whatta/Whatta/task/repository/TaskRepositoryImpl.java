@@ -0,0 +1,211 @@
+package whatta.Whatta.task.repository;
+
+import com.mongodb.bulk.BulkWriteResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import whatta.Whatta.task.entity.Task;
+import whatta.Whatta.task.util.TaskCursor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    //목록/사이드바에서 쓰는 필드 (content, 알림 설정은 상세조회에서만)
+    private static final String[] LIST_FIELDS = {
+            "_id", "title", "labels", "completed", "completedAt",
+            "placementDate", "placementTime", "dueDateTime", "sortNumber", "sortKey"
+    };
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<String> findNextSortKey(String userId, String sortKey, Collection<String> excludedIds) {
+        return findNextInSortOrder(userId, sortKey, excludedIds).map(Task::getSortKey);
+    }
+
+    @Override
+    public Optional<Task> findNextInSortOrder(String userId, String sortKey, Collection<String> excludedIds) {
+        Criteria criteria = sortKey == null
+                ? Criteria.where("sortKey").gt("")
+                : Criteria.where("sortKey").gt(sortKey);
+        return findAdjacent(userId, criteria, excludedIds, Sort.Direction.ASC);
+    }
+
+    @Override
+    public Optional<Task> findPreviousInSortOrder(String userId, String sortKey, Collection<String> excludedIds) {
+        Criteria criteria = sortKey == null
+                ? Criteria.where("sortKey").gt("")
+                : Criteria.where("sortKey").lt(sortKey);
+        return findAdjacent(userId, criteria, excludedIds, Sort.Direction.DESC);
+    }
+
+    @Override
+    public void updateSortOrder(String userId, List<String> taskIds, List<String> sortKeys, List<Long> sortNumbers) {
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < taskIds.size(); i++) {
+            bulkOps.updateOne(
+                    Query.query(Criteria.where("_id").is(taskIds.get(i)).and("userId").is(userId)),
+                    new Update()
+                            .set("sortKey", sortKeys.get(i))
+                            .set("sortNumber", sortNumbers.get(i))
+                            .set("updatedAt", now)
+            );
+        }
+        bulkOps.execute();
+    }
+
+    @Override
+    public List<Task> findWithoutSortKey(String userId) {
+        Query query = Query.query(Criteria.where("userId").is(userId).and("sortKey").is(null))
+                .with(Sort.by(Sort.Order.asc("sortNumber"), Sort.Order.asc("createdAt")));
+        query.fields().include("_id", "sortNumber");
+        return mongoTemplate.find(query, Task.class);
+    }
+
+    @Override
+    public List<String> findUserIdsWithoutSortKey() {
+        return mongoTemplate.findDistinct(Query.query(Criteria.where("sortKey").is(null)), "userId", Task.class, String.class);
+    }
+
+    @Override
+    public void assignMissingSortKeys(List<String> taskIds, List<String> sortKeys) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        for (int i = 0; i < taskIds.size(); i++) {
+            bulkOps.updateOne(
+                    Query.query(Criteria.where("_id").is(taskIds.get(i)).and("sortKey").is(null)),
+                    new Update().set("sortKey", sortKeys.get(i))
+            );
+        }
+        bulkOps.execute();
+    }
+
+    @Override
+    public List<Task> findSidebarPage(String userId, TaskCursor.Position after, int limit) {
+        Criteria base = Criteria.where("userId").is(userId).and("placementDate").is(null);
+        return findSortKeyPage(base, after, limit);
+    }
+
+    @Override
+    public List<Task> findTaskPage(String userId, Boolean completed, TaskCursor.Position after, int limit) {
+        if (Boolean.TRUE.equals(completed)) {
+            return findCompletedPage(userId, after, limit);
+        }
+        Criteria base = Criteria.where("userId").is(userId);
+        if (completed != null) {
+            base = base.and("completed").is(completed);
+        }
+        return findSortKeyPage(base, after, limit);
+    }
+
+    @Override
+    public List<Task> applyBulkChanges(String userId, List<Task> updatedTasks, Collection<String> deletedIds) {
+        if (updatedTasks.isEmpty() && deletedIds.isEmpty()) {
+            return updatedTasks;
+        }
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        for (Task task : updatedTasks) {
+            bulkOps.updateOne(
+                    Query.query(Criteria.where("_id").is(task.getId()).and("userId").is(userId)),
+                    new Update()
+                            .set("completed", task.getCompleted())
+                            .set("completedAt", task.getCompletedAt())
+                            .set("placementDate", task.getPlacementDate())
+                            .set("placementTime", task.getPlacementTime())
+                            .set("labels", task.getLabels())
+                            .set("updatedAt", task.getUpdatedAt())
+            );
+        }
+        if (!deletedIds.isEmpty()) {
+            bulkOps.remove(Query.query(Criteria.where("_id").in(deletedIds).and("userId").is(userId)));
+        }
+        BulkWriteResult result = bulkOps.execute();
+        if (result.getMatchedCount() == updatedTasks.size()) {
+            return updatedTasks;
+        }
+
+        //조회 후 반영 전에 다른 요청이 일부 task를 삭제함 -> 남아 있는 task만 갱신된 것으로 봄 (드문 경우라 이때만 다시 조회)
+        Query query = Query.query(Criteria.where("_id").in(updatedTasks.stream().map(Task::getId).toList())
+                .and("userId").is(userId));
+        query.fields().include("_id");
+        Set<String> remainingIds = mongoTemplate.find(query, Task.class).stream()
+                .map(Task::getId)
+                .collect(Collectors.toSet());
+        return updatedTasks.stream()
+                .filter(task -> remainingIds.contains(task.getId()))
+                .toList();
+    }
+
+    //(sortKey, _id) 오름차순 keyset
+    private List<Task> findSortKeyPage(Criteria base, TaskCursor.Position after, int limit) {
+        Criteria criteria = base;
+        if (after != null) {
+            Criteria keyset = after.sortValue() == null
+                    ? new Criteria().orOperator(
+                            Criteria.where("sortKey").ne(null),
+                            new Criteria().andOperator(Criteria.where("sortKey").is(null), Criteria.where("_id").gt(after.id())))
+                    : new Criteria().orOperator(
+                            Criteria.where("sortKey").gt(after.sortValue()),
+                            new Criteria().andOperator(Criteria.where("sortKey").is(after.sortValue()), Criteria.where("_id").gt(after.id())));
+            criteria = new Criteria().andOperator(base, keyset);
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Order.asc("sortKey"), Sort.Order.asc("_id")))
+                .limit(limit);
+        query.fields().include(LIST_FIELDS);
+        return mongoTemplate.find(query, Task.class);
+    }
+
+    //(completedAt, _id) 내림차순 keyset, completedAt이 없는 예전 데이터는 맨 뒤
+    private List<Task> findCompletedPage(String userId, TaskCursor.Position after, int limit) {
+        Criteria base = Criteria.where("userId").is(userId).and("completed").is(true);
+        Criteria criteria = base;
+        if (after != null) {
+            Criteria keyset;
+            if (after.sortValue() == null) {
+                keyset = new Criteria().andOperator(Criteria.where("completedAt").is(null), Criteria.where("_id").lt(after.id()));
+            } else {
+                LocalDateTime completedAt = LocalDateTime.parse(after.sortValue());
+                keyset = new Criteria().orOperator(
+                        Criteria.where("completedAt").lt(completedAt),
+                        new Criteria().andOperator(Criteria.where("completedAt").is(completedAt), Criteria.where("_id").lt(after.id())),
+                        Criteria.where("completedAt").is(null));
+            }
+            criteria = new Criteria().andOperator(base, keyset);
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Order.desc("completedAt"), Sort.Order.desc("_id")))
+                .limit(limit);
+        query.fields().include(LIST_FIELDS);
+        return mongoTemplate.find(query, Task.class);
+    }
+
+    private Optional<Task> findAdjacent(String userId, Criteria sortKeyCriteria, Collection<String> excludedIds,
+                                        Sort.Direction direction) {
+        Criteria criteria = new Criteria().andOperator(Criteria.where("userId").is(userId), sortKeyCriteria);
+        if (excludedIds != null && !excludedIds.isEmpty()) {
+            criteria = new Criteria().andOperator(criteria, Criteria.where("_id").nin(excludedIds));
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(direction, "sortKey"))
+                .limit(1);
+        query.fields().include("sortKey", "sortNumber");
+        return Optional.ofNullable(mongoTemplate.findOne(query, Task.class));
+    }
+}
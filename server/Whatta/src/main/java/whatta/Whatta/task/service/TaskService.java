@@ -8,26 +8,39 @@ import whatta.Whatta.calendar.repository.CalendarTasksRepositoryCustom;
 import whatta.Whatta.calendar.repository.dto.CalendarTaskSummaryResult;
 import whatta.Whatta.global.exception.ErrorCode;
 import whatta.Whatta.global.exception.RestApiException;
-import whatta.Whatta.global.util.LabelUtil;
 import whatta.Whatta.global.util.LocalDateTimeUtil;
 import whatta.Whatta.notification.service.ReminderNotiService;
 import whatta.Whatta.notification.service.TaskDueNotiService;
 import whatta.Whatta.task.entity.Task;
+import whatta.Whatta.task.enums.TaskBulkAction;
 import whatta.Whatta.task.mapper.TaskMapper;
+import whatta.Whatta.task.payload.request.TaskBulkOperation;
+import whatta.Whatta.task.payload.request.TaskBulkRequest;
 import whatta.Whatta.task.payload.request.TaskCreateRequest;
+import whatta.Whatta.task.payload.request.TaskMoveRequest;
 import whatta.Whatta.task.payload.request.TaskUpdateRequest;
 import whatta.Whatta.task.payload.response.SidebarTaskResponse;
+import whatta.Whatta.task.payload.response.TaskBulkResponse;
+import whatta.Whatta.task.payload.response.TaskListItemResponse;
+import whatta.Whatta.task.payload.response.TaskPageResponse;
 import whatta.Whatta.task.payload.response.TaskResponse;
+import whatta.Whatta.task.payload.response.TaskSortKeyResponse;
 import whatta.Whatta.task.payload.response.TodayTaskSummaryResponse;
 import whatta.Whatta.task.repository.TaskRepository;
-import whatta.Whatta.user.setting.entity.UserSetting;
-import whatta.Whatta.user.setting.repository.UserSettingRepository;
+import whatta.Whatta.task.util.FractionalSortKey;
+import whatta.Whatta.task.util.TaskCursor;
+import whatta.Whatta.user.setting.service.LabelDictionaryCache;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -38,41 +51,32 @@ public class TaskService {
 
     private final TaskRepository taskRepository;
     private final CalendarTasksRepositoryCustom calendarTasksRepository;
-    private final UserSettingRepository userSettingRepository;
+    private final LabelDictionaryCache labelDictionaryCache;
     private final TaskMapper taskMapper;
     private final ReminderNotiService reminderNotiService;
     private final TaskDueNotiService taskDueNotiService;
+    private final TaskSortKeyMigration sortKeyMigration;
 
     private static final long SORT_GAP = 10000L;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BULK_TASKS = 200;
 
     public TaskResponse createTask(String userId, TaskCreateRequest request) {
 
-        UserSetting userSetting = userSettingRepository.findByUserId(userId)
-                .orElseThrow(() -> new RestApiException(ErrorCode.USER_SETTING_NOT_FOUND));
+        labelDictionaryCache.validateLabels(userId, request.labels());
 
-        Task topTask = taskRepository.findTopByUserIdOrderBySortNumberAsc(userId).orElse(null);
-        Long newSortNumber;
-
-        if(topTask == null){
-            newSortNumber = SORT_GAP;
-        }
-        else {
-            long calculatedSortNumber = topTask.getSortNumber() / 2;
-
-            if (calculatedSortNumber < 1) {
-                log.info("Task 정렬 간격 재조정 실행 - userId: {}", userId);
-                rebalanceSortOrder(userId);
-                topTask = taskRepository.findTopByUserIdOrderBySortNumberAsc(userId).orElseThrow();
-                newSortNumber = topTask.getSortNumber() / 2;
-            }
-            else {
-                newSortNumber = calculatedSortNumber;
-            }
-        }
-
-        if (request.labels() != null && !request.labels().isEmpty()) {
-            LabelUtil.validateLabelsInUserSettings(userSetting, request.labels());
+        //맨 위에 추가: 기존 task의 키는 건드리지 않고 맨 앞 키보다 작은 키 하나만 만듦
+        Task topTask = taskRepository.findTopByUserIdOrderBySortKeyAsc(userId).orElse(null);
+        if (topTask != null && topTask.getSortKey() == null) { //키가 없는 task가 맨 앞으로 조회됨 -> 이관 후 다시 조회
+            sortKeyMigration.migrateUser(userId);
+            topTask = taskRepository.findTopByUserIdOrderBySortKeyAsc(userId).orElse(null);
         }
+        String newSortKey = FractionalSortKey.between(null, topTask == null ? null : topTask.getSortKey());
+        //sortNumber는 이전 버전 앱 호환용: 가장 작은 sortNumber보다 위에 둠 (대략적인 순서만 유지, 다른 task는 다시 매기지 않음)
+        Long minSortNumber = taskRepository.findTopByUserIdOrderBySortNumberAsc(userId)
+                .map(Task::getSortNumber)
+                .orElse(null);
+        Long newSortNumber = sortNumbersBetween(null, minSortNumber, 1).get(0);
 
         String title = (request.title() != null && !request.title().isBlank())
                 ? request.title()
@@ -94,6 +98,7 @@ public class TaskService {
                 .completed(false)
                 .completedAt(null)
                 .sortNumber(newSortNumber)
+                .sortKey(newSortKey)
                 .placementDate(request.placementDate())
                 .placementTime(request.placementTime())
                 .dueDateTime(request.dueDateTime())
@@ -112,17 +117,13 @@ public class TaskService {
         Task originalTask = taskRepository.findByIdAndUserId(taskId, userId)
                 .orElseThrow(() -> new RestApiException(ErrorCode.TASK_NOT_FOUND));
 
-        UserSetting userSetting = userSettingRepository.findByUserId(userId)
-                .orElseThrow(() -> new RestApiException(ErrorCode.USER_SETTING_NOT_FOUND));
+        labelDictionaryCache.validateLabels(userId, request.labels()); //라벨 유효성 검증
 
         Task.TaskBuilder builder = originalTask.toBuilder();
 
         if(request.title() != null && !request.title().isBlank()) builder.title(request.title());
         if(request.content() != null) builder.content(request.content());
-        if(request.labels() != null) {
-            LabelUtil.validateLabelsInUserSettings(userSetting, request.labels()); //라벨 유효성 검증
-            builder.labels(request.labels());
-        }
+        if(request.labels() != null) builder.labels(request.labels());
         if(request.completed() != null) {
             builder.completed(request.completed());
             if (Boolean.FALSE.equals(originalTask.getCompleted())
@@ -135,7 +136,10 @@ public class TaskService {
         if(request.placementDate() != null) builder.placementDate(request.placementDate());
         if(request.placementTime() != null) builder.placementTime(request.placementTime());
         if(request.dueDateTime() != null) builder.dueDateTime(request.dueDateTime());
-        if(request.sortNumber() != null) builder.sortNumber(request.sortNumber());
+        if(request.sortNumber() != null) {
+            builder.sortNumber(request.sortNumber());
+            builder.sortKey(sortKeyForLegacySortNumber(userId, taskId, request.sortNumber()));
+        }
         if(request.reminderNoti() != null) builder.reminderNotiAt(request.reminderNoti());
 
         //명시된 field를 null로 초기화
@@ -186,6 +190,146 @@ public class TaskService {
         taskRepository.deleteById(taskId);
     }
 
+    //여러 task를 afterTaskId 아래(또는 beforeTaskId 위)로 요청 순서대로 옮김
+    //- 옮기는 task에만 새 키/sortNumber를 주고 한 번의 bulk 요청으로 저장 (나머지 task는 그대로)
+    public List<TaskSortKeyResponse> moveTasks(String userId, TaskMoveRequest request) {
+        List<String> taskIds = new ArrayList<>(new LinkedHashSet<>(request.taskIds()));
+        if (taskIds.contains(request.afterTaskId()) || taskIds.contains(request.beforeTaskId())) {
+            throw new RestApiException(ErrorCode.INVALID_TASK_MOVE);
+        }
+        if (taskRepository.countByUserIdAndIdIn(userId, taskIds) != taskIds.size()) {
+            throw new RestApiException(ErrorCode.TASK_NOT_FOUND);
+        }
+        sortKeyMigration.ensureMigrated(userId);
+
+        Task lower;
+        Task upper;
+        if (request.afterTaskId() != null) {
+            lower = findOrderedTask(userId, request.afterTaskId());
+            upper = request.beforeTaskId() != null
+                    ? findOrderedTask(userId, request.beforeTaskId())
+                    : taskRepository.findNextInSortOrder(userId, lower.getSortKey(), taskIds).orElse(null);
+        } else if (request.beforeTaskId() != null) {
+            upper = findOrderedTask(userId, request.beforeTaskId());
+            lower = taskRepository.findPreviousInSortOrder(userId, upper.getSortKey(), taskIds).orElse(null);
+        } else {
+            lower = null;
+            upper = taskRepository.findNextInSortOrder(userId, null, taskIds).orElse(null);
+        }
+        String lowerKey = lower == null ? null : lower.getSortKey();
+        String upperKey = upper == null ? null : upper.getSortKey();
+        if (lowerKey != null && upperKey != null && lowerKey.compareTo(upperKey) >= 0) {
+            throw new RestApiException(ErrorCode.INVALID_TASK_MOVE);
+        }
+
+        List<String> sortKeys = FractionalSortKey.between(lowerKey, upperKey, taskIds.size());
+        //sortNumber도 새 앞뒤 task 값에서 정해서 이전 앱의 sortNumber 수정 요청이 이동한 자리를 기준으로 해석되게 함
+        List<Long> sortNumbers = sortNumbersBetween(
+                lower == null ? null : lower.getSortNumber(),
+                upper == null ? null : upper.getSortNumber(),
+                taskIds.size());
+        taskRepository.updateSortOrder(userId, taskIds, sortKeys, sortNumbers);
+
+        List<TaskSortKeyResponse> response = new ArrayList<>(taskIds.size());
+        for (int i = 0; i < taskIds.size(); i++) {
+            response.add(new TaskSortKeyResponse(taskIds.get(i), sortKeys.get(i), sortNumbers.get(i)));
+        }
+        return response;
+    }
+
+    //여러 작업을 요청 순서대로 메모리에서 적용한 뒤 한 번에 저장
+    //- task 조회 1회, 라벨 검증은 작업당 1회(캐시된 라벨 사전), 저장은 bulk 1회, 알림은 종류별 bulk upsert/취소 각 1회
+    public TaskBulkResponse applyBulkOperations(String userId, TaskBulkRequest request) {
+        Set<String> taskIds = new LinkedHashSet<>();
+        for (TaskBulkOperation operation : request.operations()) {
+            taskIds.addAll(operation.taskIds());
+        }
+        if (taskIds.size() > MAX_BULK_TASKS) {
+            throw new RestApiException(ErrorCode.INVALID_TASK_BULK_OPERATION);
+        }
+
+        Map<String, Task> tasks = new LinkedHashMap<>();
+        for (Task task : taskRepository.findByUserIdAndIdIn(userId, taskIds)) {
+            tasks.put(task.getId(), task);
+        }
+        if (tasks.size() != taskIds.size()) {
+            throw new RestApiException(ErrorCode.TASK_NOT_FOUND);
+        }
+
+        Set<String> updatedIds = new LinkedHashSet<>();
+        Set<String> deletedIds = new LinkedHashSet<>();
+        Set<Long> requestedLabels = new LinkedHashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (TaskBulkOperation operation : request.operations()) {
+            if (operation.action() == TaskBulkAction.RESCHEDULE
+                    && operation.placementDate() == null && operation.placementTime() != null) {
+                throw new RestApiException(ErrorCode.INVALID_TASK_BULK_OPERATION);
+            }
+            if (operation.action() == TaskBulkAction.SET_LABELS) {
+                if (operation.labels() == null) {
+                    throw new RestApiException(ErrorCode.INVALID_TASK_BULK_OPERATION);
+                }
+                requestedLabels.addAll(operation.labels());
+            }
+
+            for (String taskId : new LinkedHashSet<>(operation.taskIds())) {
+                if (deletedIds.contains(taskId)) { //삭제한 task에 이후 작업을 요청한 경우
+                    throw new RestApiException(ErrorCode.INVALID_TASK_BULK_OPERATION);
+                }
+                if (operation.action() == TaskBulkAction.DELETE) {
+                    deletedIds.add(taskId);
+                    updatedIds.remove(taskId);
+                    continue;
+                }
+                tasks.put(taskId, applyBulkAction(tasks.get(taskId), operation, now));
+                updatedIds.add(taskId);
+            }
+        }
+
+        //SET_LABELS 작업의 라벨은 모아서 한 번만 검증 (작업마다 UserSetting을 읽지 않음)
+        labelDictionaryCache.validateLabels(userId, new ArrayList<>(requestedLabels));
+
+        //그 사이 삭제된 task는 빼고 알림/응답에 반영 (삭제된 task의 알림을 다시 만들지 않음)
+        List<Task> updatedTasks = taskRepository.applyBulkChanges(
+                userId, updatedIds.stream().map(tasks::get).toList(), deletedIds);
+        if (updatedTasks.size() != updatedIds.size()) {
+            log.warn("[TASK][BULK][CONCURRENT_DELETE] userId={} requested={} updated={}",
+                    userId, updatedIds.size(), updatedTasks.size());
+        }
+        reminderNotiService.reconcileTaskReminders(updatedTasks, deletedIds);
+        taskDueNotiService.reconcileDueNotifications(updatedTasks, deletedIds);
+
+        log.info("[TASK][BULK] userId={} operations={} updated={} deleted={}",
+                userId, request.operations().size(), updatedTasks.size(), deletedIds.size());
+
+        return new TaskBulkResponse(
+                updatedTasks.stream().map(taskMapper::toResponse).toList(),
+                List.copyOf(deletedIds));
+    }
+
+    private Task applyBulkAction(Task task, TaskBulkOperation operation, LocalDateTime now) {
+        Task.TaskBuilder builder = task.toBuilder().updatedAt(now);
+        switch (operation.action()) {
+            case COMPLETE -> {
+                if (!Boolean.TRUE.equals(task.getCompleted())) {
+                    builder.completed(true).completedAt(now);
+                }
+            }
+            case UNCOMPLETE -> {
+                if (Boolean.TRUE.equals(task.getCompleted())) {
+                    builder.completed(false).completedAt(null);
+                }
+            }
+            case RESCHEDULE -> builder
+                    .placementDate(operation.placementDate())
+                    .placementTime(operation.placementTime());
+            case SET_LABELS -> builder.labels(new ArrayList<>(operation.labels()));
+            case DELETE -> throw new IllegalStateException("DELETE is not applied to a task");
+        }
+        return builder.build();
+    }
+
     @Transactional(readOnly = true)
     public TaskResponse getTask(String userId, String taskId) {
         Task task = taskRepository.findByIdAndUserId(taskId, userId)
@@ -205,36 +349,104 @@ public class TaskService {
 
     @Transactional(readOnly = true)
     public  List<SidebarTaskResponse> getSidebarTasks(String userId){
-        List<Task> tasks = taskRepository.
-                findByUserIdAndPlacementDateIsNullOrderBySortNumberAsc(userId);
+        List<Task> tasks = taskRepository.findSidebarPage(userId, null, 0);
 
         return tasks.stream()
                 .map(taskMapper :: toSidebarResponse)
                 .collect(Collectors.toList());
     }
 
-    private void rebalanceSortOrder(String userId) {
-        List<Task> tasks = taskRepository.findByUserIdOrderBySortNumberAsc(userId);
+    private Task findOrderedTask(String userId, String taskId) {
+        return taskRepository.findByIdAndUserId(taskId, userId)
+                .orElseThrow(() -> new RestApiException(ErrorCode.TASK_NOT_FOUND));
+    }
+
+    //이전 버전 앱용 sortNumber를 앞뒤 task 값 사이에서 count개 (null이면 그쪽 끝)
+    //- 대략적인 순서만 맞추고 음수로 내려가지 않음, 자리가 모자라면 같은 값이 나올 수 있음 (다른 task는 다시 매기지 않음)
+    private static List<Long> sortNumbersBetween(Long lower, Long upper, int count) {
+        long low = lower != null
+                ? lower
+                : (upper == null ? 0 : Math.max(upper - SORT_GAP * (count + 1), 0));
+        long high = upper != null ? upper : low + SORT_GAP * (count + 1);
+        long step = Math.max((high - low) / (count + 1), 0);
+
+        List<Long> sortNumbers = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            sortNumbers.add(low + step * i);
+        }
+        return sortNumbers;
+    }
+
+    //이전 버전 앱은 sortNumber로 순서를 보냄 -> sortNumber가 바로 작은 task 아래(sortKey 기준 바로 다음 task 위)로 옮기는 것으로 해석
+    private String sortKeyForLegacySortNumber(String userId, String taskId, Long sortNumber) {
+        sortKeyMigration.ensureMigrated(userId);
+        String lower = taskRepository
+                .findTopByUserIdAndSortNumberLessThanAndIdNotOrderBySortNumberDesc(userId, sortNumber, taskId)
+                .map(Task::getSortKey)
+                .orElse(null);
+        String upper = taskRepository.findNextSortKey(userId, lower, List.of(taskId)).orElse(null);
+        return FractionalSortKey.between(lower, upper);
+    }
 
-        if(tasks.isEmpty()) return;
+    @Transactional(readOnly = true)
+    public TaskPageResponse<TaskListItemResponse> getTaskPage(String userId, Boolean completed, String cursor, int size) {
+        TaskCursor.Position after = decodeCursor(cursor, Boolean.TRUE.equals(completed));
+        if (after == null && !Boolean.TRUE.equals(completed)) {
+            sortKeyMigration.ensureMigrated(userId);
+        }
+        int pageSize = pageSize(size);
+        List<Task> tasks = taskRepository.findTaskPage(userId, completed, after, pageSize + 1);
 
-        List<Task> updatedTasks = new ArrayList<>();
-        AtomicLong counter = new AtomicLong(0);
+        Function<Task, String> sortValue = Boolean.TRUE.equals(completed)
+                ? task -> task.getCompletedAt() == null ? null : task.getCompletedAt().toString()
+                : Task::getSortKey;
+        return toPage(tasks, pageSize, sortValue, taskMapper::toListItemResponse);
+    }
 
-        for(Task task : tasks) {
-            long newSort = counter.addAndGet(SORT_GAP);
+    @Transactional(readOnly = true)
+    public TaskPageResponse<SidebarTaskResponse> getSidebarPage(String userId, String cursor, int size) {
+        TaskCursor.Position after = decodeCursor(cursor, false);
+        if (after == null) {
+            sortKeyMigration.ensureMigrated(userId);
+        }
+        int pageSize = pageSize(size);
+        List<Task> tasks = taskRepository.findSidebarPage(userId, after, pageSize + 1);
 
-            if(task.getSortNumber() != newSort) {
-                updatedTasks.add(
-                        task.toBuilder().sortNumber(newSort).build()
-                );
-            }
+        return toPage(tasks, pageSize, Task::getSortKey, taskMapper::toSidebarResponse);
+    }
+
+    //pageSize + 1개를 조회해서 다음 페이지 유무를 판단 (count 쿼리 없음)
+    private <T> TaskPageResponse<T> toPage(List<Task> tasks, int pageSize,
+                                           Function<Task, String> sortValue, Function<Task, T> mapper) {
+        boolean hasNext = tasks.size() > pageSize;
+        List<Task> pageTasks = hasNext ? tasks.subList(0, pageSize) : tasks;
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = pageTasks.get(pageTasks.size() - 1);
+            nextCursor = TaskCursor.encode(sortValue.apply(last), last.getId());
+        }
+        return new TaskPageResponse<>(pageTasks.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+
+    private TaskCursor.Position decodeCursor(String cursor, boolean completedAtCursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
         }
-        if (!updatedTasks.isEmpty()) {
-            taskRepository.saveAll(updatedTasks);
+        try {
+            TaskCursor.Position position = TaskCursor.decode(cursor);
+            if (completedAtCursor && position.sortValue() != null) {
+                LocalDateTime.parse(position.sortValue());
+            }
+            return position;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RestApiException(ErrorCode.INVALID_TASK_CURSOR);
         }
     }
 
+    private int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
     @Transactional(readOnly = true)
     public TodayTaskSummaryResponse getTodaySummary(String userId) {
         CalendarTaskSummaryResult summaryResult =
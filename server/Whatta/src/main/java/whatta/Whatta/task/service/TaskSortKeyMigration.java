@@ -0,0 +1,60 @@
+package whatta.Whatta.task.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import whatta.Whatta.task.entity.Task;
+import whatta.Whatta.task.repository.TaskRepository;
+import whatta.Whatta.task.util.FractionalSortKey;
+
+import java.util.List;
+
+//sortNumber만 있는 task에 sortKey를 채움
+//- 서버 시작 시 한 번 전체 사용자를 훑고, 이후에는 순서를 다루는 요청에서 키가 없는 task를 만나면 그 사용자만 다시 이관
+//- 키가 없는 task는 이전 sortNumber 순서를 유지한 채 기존 키들보다 앞에 둠 (배포 중 이전 버전 서버가 맨 위에 만든 task)
+//- 키가 없는 문서에만 쓰므로 여러 인스턴스가 동시에 실행해도 결과가 섞이지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskSortKeyMigration {
+
+    private final TaskRepository taskRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateAll() {
+        List<String> userIds = taskRepository.findUserIdsWithoutSortKey();
+        if (userIds.isEmpty()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        int migratedTasks = 0;
+        for (String userId : userIds) {
+            try {
+                migratedTasks += migrateUser(userId);
+            } catch (RuntimeException e) {
+                log.warn("[TASK][SORT_KEY_MIGRATION][ERROR] userId={} message={}", userId, e.getMessage());
+            }
+        }
+        log.info("[TASK][SORT_KEY_MIGRATION] users={} tasks={} elapsed_ms={}",
+                userIds.size(), migratedTasks, System.currentTimeMillis() - startedAt);
+    }
+
+    public void ensureMigrated(String userId) {
+        if (taskRepository.existsByUserIdAndSortKeyIsNull(userId)) {
+            migrateUser(userId);
+        }
+    }
+
+    public int migrateUser(String userId) {
+        List<Task> tasks = taskRepository.findWithoutSortKey(userId);
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        String firstKey = taskRepository.findNextSortKey(userId, null, List.of()).orElse(null);
+        List<String> sortKeys = FractionalSortKey.between(null, firstKey, tasks.size());
+        taskRepository.assignMissingSortKeys(tasks.stream().map(Task::getId).toList(), sortKeys);
+        return tasks.size();
+    }
+}
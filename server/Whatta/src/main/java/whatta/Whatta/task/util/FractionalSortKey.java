@@ -0,0 +1,232 @@
+package whatta.Whatta.task.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//문자열 비교 순서만으로 정렬되는 가변 길이 정렬 키 (fractional indexing)
+//- 두 키 사이에는 항상 새 키를 만들 수 있어서 다른 task의 키를 다시 매길 필요가 없음
+//- 키 = 정수부(첫 글자가 길이를 나타냄: a~z 양수, A~Z 음수) + 소수부(끝이 '0'이 아닌 base62 숫자열)
+//- 맨 앞/맨 뒤 추가는 정수부만 1씩 바뀌므로 키 길이가 거의 늘지 않고, 같은 자리 사이 삽입만 소수부가 길어짐
+//- 글자는 모두 ASCII라 mongo 기본(binary) 문자열 비교와 String.compareTo 순서가 같음
+public final class FractionalSortKey {
+
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final char ZERO = DIGITS.charAt(0);
+    private static final char LAST = DIGITS.charAt(DIGITS.length() - 1);
+    private static final String SMALLEST_INTEGER = "A" + String.valueOf(ZERO).repeat(26);
+
+    private FractionalSortKey() {
+    }
+
+    //a < 결과 < b (a가 null이면 맨 앞, b가 null이면 맨 뒤)
+    public static String between(String a, String b) {
+        if (a != null) {
+            validate(a);
+        }
+        if (b != null) {
+            validate(b);
+        }
+        if (a != null && b != null && a.compareTo(b) >= 0) {
+            throw new IllegalArgumentException(a + " >= " + b);
+        }
+
+        if (a == null) {
+            if (b == null) {
+                return "a" + ZERO;
+            }
+            String ib = integerPart(b);
+            String fb = b.substring(ib.length());
+            if (ib.equals(SMALLEST_INTEGER)) {
+                return ib + midpoint("", fb);
+            }
+            if (ib.compareTo(b) < 0) {
+                return ib;
+            }
+            String decremented = decrementInteger(ib);
+            if (decremented == null) {
+                throw new IllegalStateException("cannot decrement any more");
+            }
+            return decremented;
+        }
+
+        if (b == null) {
+            String ia = integerPart(a);
+            String fa = a.substring(ia.length());
+            String incremented = incrementInteger(ia);
+            return incremented == null ? ia + midpoint(fa, null) : incremented;
+        }
+
+        String ia = integerPart(a);
+        String fa = a.substring(ia.length());
+        String ib = integerPart(b);
+        String fb = b.substring(ib.length());
+        if (ia.equals(ib)) {
+            return ia + midpoint(fa, fb);
+        }
+        String incremented = incrementInteger(ia);
+        if (incremented == null) {
+            throw new IllegalStateException("cannot increment any more");
+        }
+        return incremented.compareTo(b) < 0 ? incremented : ia + midpoint(fa, null);
+    }
+
+    //a와 b 사이에 오름차순으로 count개 (가운데부터 나눠서 키 길이가 고르게 늘어남)
+    public static List<String> between(String a, String b, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        if (count == 1) {
+            return List.of(between(a, b));
+        }
+        List<String> keys = new ArrayList<>(count);
+        if (b == null) {
+            String key = between(a, null);
+            keys.add(key);
+            for (int i = 1; i < count; i++) {
+                key = between(key, null);
+                keys.add(key);
+            }
+            return keys;
+        }
+        if (a == null) {
+            String key = between(null, b);
+            keys.add(key);
+            for (int i = 1; i < count; i++) {
+                key = between(null, key);
+                keys.add(key);
+            }
+            Collections.reverse(keys);
+            return keys;
+        }
+        int half = count / 2;
+        String middle = between(a, b);
+        keys.addAll(between(a, middle, half));
+        keys.add(middle);
+        keys.addAll(between(middle, b, count - half - 1));
+        return keys;
+    }
+
+    public static boolean isValid(String key) {
+        try {
+            validate(key);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    //소수부 사이의 중간값 (b가 null이면 1로 봄)
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            int n = 0;
+            while (n < b.length() && digitAt(a, n) == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(a.substring(Math.min(n, a.length())), b.substring(n));
+            }
+        }
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : DIGITS.length();
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+        }
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static char digitAt(String value, int index) {
+        return index < value.length() ? value.charAt(index) : ZERO;
+    }
+
+    private static String incrementInteger(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        boolean carry = true;
+        for (int i = digits.length - 1; carry && i >= 0; i--) {
+            int next = DIGITS.indexOf(digits[i]) + 1;
+            if (next == DIGITS.length()) {
+                digits[i] = ZERO;
+            } else {
+                digits[i] = DIGITS.charAt(next);
+                carry = false;
+            }
+        }
+        if (!carry) {
+            return head + new String(digits);
+        }
+        if (head == 'Z') {
+            return "a" + ZERO;
+        }
+        if (head == 'z') {
+            return null;
+        }
+        char nextHead = (char) (head + 1);
+        String body = new String(digits);
+        //양수 쪽은 한 자리 늘고, 음수 쪽은 한 자리 줄어듦
+        return nextHead > 'a' ? nextHead + body + ZERO : nextHead + body.substring(0, body.length() - 1);
+    }
+
+    private static String decrementInteger(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        boolean borrow = true;
+        for (int i = digits.length - 1; borrow && i >= 0; i--) {
+            int previous = DIGITS.indexOf(digits[i]) - 1;
+            if (previous == -1) {
+                digits[i] = LAST;
+            } else {
+                digits[i] = DIGITS.charAt(previous);
+                borrow = false;
+            }
+        }
+        if (!borrow) {
+            return head + new String(digits);
+        }
+        if (head == 'a') {
+            return "Z" + LAST;
+        }
+        if (head == 'A') {
+            return null;
+        }
+        char previousHead = (char) (head - 1);
+        String body = new String(digits);
+        return previousHead < 'Z' ? previousHead + body + LAST : previousHead + body.substring(0, body.length() - 1);
+    }
+
+    private static String integerPart(String key) {
+        int length = integerLength(key.charAt(0));
+        if (length > key.length()) {
+            throw new IllegalArgumentException("invalid sort key: " + key);
+        }
+        return key.substring(0, length);
+    }
+
+    private static int integerLength(char head) {
+        if (head >= 'a' && head <= 'z') {
+            return head - 'a' + 2;
+        }
+        if (head >= 'A' && head <= 'Z') {
+            return 'Z' - head + 2;
+        }
+        throw new IllegalArgumentException("invalid sort key head: " + head);
+    }
+
+    private static void validate(String key) {
+        if (key == null || key.isEmpty() || key.equals(SMALLEST_INTEGER)) {
+            throw new IllegalArgumentException("invalid sort key: " + key);
+        }
+        String integer = integerPart(key);
+        for (int i = 1; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("invalid sort key: " + key);
+            }
+        }
+        if (key.length() > integer.length() && key.charAt(key.length() - 1) == ZERO) {
+            throw new IllegalArgumentException("invalid sort key: " + key);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package whatta.Whatta.task.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+//목록 페이지의 다음 시작 위치 (마지막 항목의 정렬 값 + id)
+//- 클라이언트에는 base64url 문자열로만 내려주고, 내용은 해석하지 않고 그대로 돌려받음
+//- 정렬 값이 null인 항목은 빈 문자열로 구분 (sortKey/completedAt은 빈 문자열이 될 수 없음)
+public final class TaskCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private TaskCursor() {
+    }
+
+    public static String encode(String sortValue, String id) {
+        String raw = (sortValue == null ? "" : sortValue) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    //잘못된 커서는 IllegalArgumentException
+    public static Position decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separatorIndex = raw.lastIndexOf(SEPARATOR);
+        if (separatorIndex < 0 || separatorIndex == raw.length() - 1) {
+            throw new IllegalArgumentException("invalid task cursor");
+        }
+        String sortValue = raw.substring(0, separatorIndex);
+        return new Position(sortValue.isEmpty() ? null : sortValue, raw.substring(separatorIndex + 1));
+    }
+
+    public record Position(String sortValue, String id) {
+    }
+}
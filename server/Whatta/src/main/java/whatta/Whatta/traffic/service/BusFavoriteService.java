@@ -12,8 +12,7 @@ import whatta.Whatta.traffic.entity.BusFavorite;
 import whatta.Whatta.traffic.payload.request.BusFavoriteCreateRequest;
 import whatta.Whatta.traffic.payload.response.BusFavoriteResponse;
 import whatta.Whatta.traffic.repository.BusFavoriteRepository;
-import whatta.Whatta.user.setting.entity.UserSetting;
-import whatta.Whatta.user.setting.repository.UserSettingRepository;
+import whatta.Whatta.user.setting.service.UserSettingReader;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,7 +25,7 @@ import java.util.stream.Collectors;
 public class BusFavoriteService {
 
     private final BusFavoriteRepository busFavoriteRepository;
-    private final UserSettingRepository userSettingRepository;
+    private final UserSettingReader userSettingReader;
 
     public BusFavoriteResponse createBusFavorite(String userId, BusFavoriteCreateRequest request) {
         Optional<BusFavorite> existingFavorite = busFavoriteRepository.findByUserIdAndBusStationIdAndBusRouteId(
@@ -91,8 +90,7 @@ public class BusFavoriteService {
             return cityCode.trim();
         }
 
-        return userSettingRepository.findByUserId(userId)
-                .map(UserSetting::getCityCode)
+        return userSettingReader.findCityCode(userId)
                 .map(this::resolveCityCode)
                 .orElse(TrafficConstants.DEFAULT_CITY_CODE);
     }
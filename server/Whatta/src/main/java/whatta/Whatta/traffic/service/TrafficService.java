@@ -11,8 +11,7 @@ import whatta.Whatta.traffic.payload.response.BusArrivalResponse;
 import whatta.Whatta.traffic.payload.response.BusCityResponse;
 import whatta.Whatta.traffic.payload.response.BusRouteResponse;
 import whatta.Whatta.traffic.payload.response.BusStationResponse;
-import whatta.Whatta.user.setting.entity.UserSetting;
-import whatta.Whatta.user.setting.repository.UserSettingRepository;
+import whatta.Whatta.user.setting.service.UserSettingReader;
 
 import java.util.Collections;
 import java.util.List;
@@ -25,7 +24,7 @@ import java.util.stream.Collectors;
 public class TrafficService {
 
     private final BusApiClient busApiClient;
-    private final UserSettingRepository userSettingRepository;
+    private final UserSettingReader userSettingReader;
 
     public List<BusCityResponse> searchCities() {
         BusApiResponse rawResponse = busApiClient.getCityCode();
@@ -198,8 +197,7 @@ public class TrafficService {
             return cityCode.trim();
         }
 
-        return userSettingRepository.findByUserId(userId)
-                .map(UserSetting::getCityCode)
+        return userSettingReader.findCityCode(userId)
                 .map(this::resolveCityCode)
                 .orElse(TrafficConstants.DEFAULT_CITY_CODE);
     }
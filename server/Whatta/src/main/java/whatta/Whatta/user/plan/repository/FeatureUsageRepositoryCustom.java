@@ -8,4 +8,6 @@ import java.util.Optional;
 
 public interface FeatureUsageRepositoryCustom {
     Optional<FeatureUsage> increaseUsageIfAvailable(String userId, FeatureType featureType, LocalDate today, int dailyLimit);
+
+    boolean decreaseTodayUsage(String userId, FeatureType featureType, LocalDate today);
 }
@@ -2,8 +2,12 @@ package whatta.Whatta.user.plan.repository;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DuplicateKeyException;
-import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -18,89 +22,75 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class FeatureUsageRepositoryImpl implements FeatureUsageRepositoryCustom {
 
-    private static final int MAX_RETRY_COUNT = 3;
-
     private final MongoTemplate mongoTemplate;
 
+    //한 번의 조건부 findAndModify(upsert)로 차감
+    //- 오늘 문서이고 usedCount < dailyLimit 이면 +1, 날짜가 지난 문서면 1로 초기화, 문서가 없으면 새로 만듦
+    //- 한도에 걸린 문서는 그대로 두고, 갱신 전 문서를 돌려받아 차감 여부를 판단 (거절도 추가 조회 없이 한 번에 끝남)
     @Override
     public Optional<FeatureUsage> increaseUsageIfAvailable(String userId, FeatureType featureType, LocalDate today, int dailyLimit) {
-        for (int attempt = 0; attempt < MAX_RETRY_COUNT; attempt++) {
-            FeatureUsage incrementedUsage = tryIncrementTodayUsage(userId, featureType, today, dailyLimit);
-            if (incrementedUsage != null) {
-                return Optional.of(incrementedUsage);
-            }
-
-            FeatureUsage currentUsage = findCurrentUsage(userId, featureType);
-            if (currentUsage != null) {
-                if (today.equals(currentUsage.getUsageDate()) && currentUsage.getUsedCount() >= dailyLimit) {
-                    return Optional.empty();
-                }
-                if (today.equals(currentUsage.getUsageDate())) {
-                    continue;
-                }
-            }
-
-            try {
-                FeatureUsage resetOrCreatedUsage = resetOrCreateUsage(userId, featureType, today);
-                if (resetOrCreatedUsage != null) {
-                    return Optional.of(resetOrCreatedUsage);
-                }
-            } catch (DuplicateKeyException e) {
-                // Another request created or refreshed today's usage first. Retry with the latest document state.
-            }
+        FeatureUsage previous;
+        try {
+            previous = increaseOrReset(userId, featureType, today, dailyLimit);
+        } catch (DuplicateKeyException e) {
+            // 같은 사용자의 첫 요청이 동시에 들어와 다른 요청이 먼저 문서를 만듦 -> 이번에는 기존 문서 갱신으로 처리됨
+            previous = increaseOrReset(userId, featureType, today, dailyLimit);
         }
 
-        FeatureUsage latestUsage = findCurrentUsage(userId, featureType);
-        if (latestUsage != null && today.equals(latestUsage.getUsageDate()) && latestUsage.getUsedCount() >= dailyLimit) {
-            return Optional.empty();
+        if (previous == null || !today.equals(previous.getUsageDate())) {
+            return Optional.of(FeatureUsage.builder()
+                    .id(previous == null ? null : previous.getId())
+                    .userId(userId)
+                    .featureType(featureType)
+                    .usageDate(today)
+                    .usedCount(1)
+                    .build());
+        }
+        if (previous.getUsedCount() < dailyLimit) {
+            return Optional.of(previous.toBuilder()
+                    .usedCount(previous.getUsedCount() + 1)
+                    .build());
         }
         return Optional.empty();
     }
 
-    private FeatureUsage tryIncrementTodayUsage(String userId, FeatureType featureType, LocalDate today, int dailyLimit) {
+    //오늘 차감분만 되돌림 (날짜가 바뀌었거나 이미 0이면 그대로 둠)
+    @Override
+    public boolean decreaseTodayUsage(String userId, FeatureType featureType, LocalDate today) {
         Query query = new Query(new Criteria().andOperator(
                 Criteria.where("userId").is(userId),
                 Criteria.where("featureType").is(featureType),
                 Criteria.where("usageDate").is(today),
-                Criteria.where("usedCount").lt(dailyLimit)
+                Criteria.where("usedCount").gt(0)
         ));
-        Update update = new Update().inc("usedCount", 1);
-        return mongoTemplate.findAndModify(
-                query,
-                update,
-                FindAndModifyOptions.options().returnNew(true),
-                FeatureUsage.class
-        );
+        Update update = new Update().inc("usedCount", -1);
+        return mongoTemplate.updateFirst(query, update, FeatureUsage.class).getModifiedCount() > 0;
     }
 
-    private FeatureUsage resetOrCreateUsage(String userId, FeatureType featureType, LocalDate today) {
+    //(userId, featureType) unique 인덱스 문서 하나에 파이프라인 update, 갱신 전 문서를 돌려줌 (없었으면 null)
+    private FeatureUsage increaseOrReset(String userId, FeatureType featureType, LocalDate today, int dailyLimit) {
+        //파이프라인 식 안의 값은 매핑되지 않으므로 저장 형식(Date)으로 바꿔서 비교
+        Object usageDate = mongoTemplate.getConverter().convertToMongoType(today);
+
         Query query = new Query(new Criteria().andOperator(
                 Criteria.where("userId").is(userId),
-                Criteria.where("featureType").is(featureType),
-                new Criteria().orOperator(
-                        Criteria.where("usageDate").ne(today),
-                        Criteria.where("usageDate").exists(false)
-                )
+                Criteria.where("featureType").is(featureType)
         ));
-        Update update = new Update()
-                .setOnInsert("userId", userId)
-                .setOnInsert("featureType", featureType)
-                .set("usageDate", today)
-                .set("usedCount", 1);
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("usedCount").toValueOf(ConditionalOperators
+                        .when(ComparisonOperators.valueOf("usageDate").equalToValue(usageDate))
+                        .thenValueOf(ConditionalOperators
+                                .when(ComparisonOperators.valueOf("usedCount").lessThanValue(dailyLimit))
+                                .thenValueOf(ArithmeticOperators.valueOf("usedCount").add(1))
+                                .otherwiseValueOf("usedCount"))
+                        .otherwise(1))
+                .set("usageDate").toValue(usageDate);
 
         return mongoTemplate.findAndModify(
                 query,
                 update,
-                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                FindAndModifyOptions.options().upsert(true).returnNew(false),
                 FeatureUsage.class
         );
     }
-
-    private FeatureUsage findCurrentUsage(String userId, FeatureType featureType) {
-        Query query = new Query(new Criteria().andOperator(
-                Criteria.where("userId").is(userId),
-                Criteria.where("featureType").is(featureType)
-        ));
-        return mongoTemplate.findOne(query, FeatureUsage.class);
-    }
 }
@@ -1,6 +1,7 @@
 package whatta.Whatta.user.plan.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import whatta.Whatta.global.exception.ErrorCode;
@@ -23,6 +24,9 @@ public class FeatureUsageService {
     private final UserPlanRepository userPlanRepository;
     private final FeatureUsageRepository featureUsageRepository;
 
+    @Value("${feature-usage.charge-cache-hit:false}")
+    private boolean chargeCacheHit;
+
     public Integer increaseUsageIfAvailableOrThrow(String userId, FeatureType featureType) {
         UserPlan userPlan = ensureUserPlan(userId);
         if (userPlan.getPlanType() != PlanType.FREE) {
@@ -36,6 +40,30 @@ public class FeatureUsageService {
         return Math.max(dailyLimit - featureUsage.getUsedCount(), 0);
     }
 
+    //서버 과부하로 거절된 요청은 사용 횟수에서 되돌림
+    public void refundUsage(String userId, FeatureType featureType) {
+        featureUsageRepository.decreaseTodayUsage(userId, featureType, LocalDate.now());
+    }
+
+    //캐시된 결과를 돌려줄 때: 설정에 따라 차감하지 않고 남은 횟수만 조회
+    public Integer useForCachedResult(String userId, FeatureType featureType) {
+        if (chargeCacheHit) {
+            return increaseUsageIfAvailableOrThrow(userId, featureType);
+        }
+
+        UserPlan userPlan = ensureUserPlan(userId);
+        if (userPlan.getPlanType() != PlanType.FREE) {
+            return null;
+        }
+
+        int dailyLimit = resolveDailyLimit(featureType);
+        int usedToday = featureUsageRepository.findByUserIdAndFeatureType(userId, featureType)
+                .filter(usage -> LocalDate.now().equals(usage.getUsageDate()))
+                .map(FeatureUsage::getUsedCount)
+                .orElse(0);
+        return Math.max(dailyLimit - usedToday, 0);
+    }
+
     private int resolveDailyLimit(FeatureType featureType) {
         return switch (featureType) {
             case AI_AGENT -> FREE_DAILY_AI_AGENT_LIMIT;
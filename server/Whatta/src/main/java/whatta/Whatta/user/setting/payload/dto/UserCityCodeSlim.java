@@ -0,0 +1,5 @@
+package whatta.Whatta.user.setting.payload.dto;
+
+public interface UserCityCodeSlim {
+    String getCityCode();
+}
@@ -0,0 +1,9 @@
+package whatta.Whatta.user.setting.payload.dto;
+
+import whatta.Whatta.global.label.Label;
+
+import java.util.List;
+
+public interface UserLabelsSlim {
+    List<Label> getLabels();
+}
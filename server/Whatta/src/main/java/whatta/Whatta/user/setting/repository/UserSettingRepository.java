@@ -5,6 +5,8 @@ import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.Update;
 import whatta.Whatta.user.setting.entity.UserSetting;
 import whatta.Whatta.user.setting.payload.dto.ScheduleSummaryNotiSlim;
+import whatta.Whatta.user.setting.payload.dto.UserCityCodeSlim;
+import whatta.Whatta.user.setting.payload.dto.UserLabelsSlim;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +14,15 @@ import java.util.Optional;
 public interface UserSettingRepository extends MongoRepository<UserSetting, String> {
     Optional<UserSetting> findByUserId(String userId);
 
+    //labels 필드만 조회
+    Optional<UserLabelsSlim> findLabelsByUserId(String userId);
+
+    //cityCode 필드만 조회
+    Optional<UserCityCodeSlim> findCityCodeByUserId(String userId);
+
+    //scheduleSummaryNoti 필드만 조회
+    Optional<ScheduleSummaryNotiSlim> findScheduleSummaryNotiByUserId(String userId);
+
     List<UserSetting> findByScheduleSummaryNotiMinuteOfDayIsNullAndScheduleSummaryNotiTimeIsNotNull();
 
     List<ScheduleSummaryNotiSlim> findByScheduleSummaryNotiEnabledTrueAndScheduleSummaryNotiMinuteOfDay(int minuteOfDay);
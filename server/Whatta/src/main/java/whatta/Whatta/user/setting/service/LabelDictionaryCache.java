@@ -0,0 +1,95 @@
+package whatta.Whatta.user.setting.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import whatta.Whatta.global.exception.ErrorCode;
+import whatta.Whatta.global.exception.RestApiException;
+import whatta.Whatta.global.label.Label;
+import whatta.Whatta.global.label.LabelDictionary;
+import whatta.Whatta.global.util.LabelUtil;
+import whatta.Whatta.user.setting.payload.dto.UserLabelsSlim;
+import whatta.Whatta.user.setting.repository.UserSettingRepository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+//사용자별 LabelDictionary 캐시
+//- 라벨 변경은 LabelService가 저장 직후 put으로 바로 반영
+//- 다른 인스턴스에서 바뀐 라벨은 ttl 안에 반영됨 -> 응답 팔레트에만 사용하고, 저장 전 검증은 캐시를 보지 않음
+@Slf4j
+@Component
+public class LabelDictionaryCache {
+
+    private final UserSettingRepository userSettingRepository;
+    private final long ttlMillis;
+    private final Map<String, CachedDictionary> dictionaries;
+
+    public LabelDictionaryCache(UserSettingRepository userSettingRepository,
+                                @Value("${label.dictionary-cache.max-entries:10000}") int maxEntries,
+                                @Value("${label.dictionary-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userSettingRepository = userSettingRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.dictionaries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedDictionary> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    //UserSetting이 없으면 빈 값
+    public Optional<LabelDictionary> find(String userId) {
+        LabelDictionary cached = findCached(userId);
+        return cached != null ? Optional.of(cached) : reload(userId);
+    }
+
+    public Optional<LabelDictionary> reload(String userId) {
+        Optional<LabelDictionary> dictionary = userSettingRepository.findLabelsByUserId(userId)
+                .map(UserLabelsSlim::getLabels)
+                .map(LabelDictionary::of);
+        dictionary.ifPresentOrElse(d -> store(userId, d), () -> invalidate(userId));
+        return dictionary;
+    }
+
+    //라벨을 저장한 쪽에서 새 목록으로 바로 교체
+    public void put(String userId, List<Label> labels) {
+        store(userId, LabelDictionary.of(labels));
+    }
+
+    public void invalidate(String userId) {
+        synchronized (dictionaries) {
+            dictionaries.remove(userId);
+        }
+    }
+
+    //labelIds가 모두 사용자 라벨인지 검증 (UserSetting이 없으면 USER_SETTING_NOT_FOUND, 없는 라벨이면 LABEL_NOT_FOUND)
+    //- 다른 인스턴스에서 삭제된 라벨이 ttl 동안 통과되지 않도록 캐시 대신 labels 필드만 projection으로 읽어서 판단
+    public void validateLabels(String userId, List<Long> labelIds) {
+        if (labelIds == null || labelIds.isEmpty()) {
+            return;
+        }
+        List<Label> labels = userSettingRepository.findLabelsByUserId(userId)
+                .map(UserLabelsSlim::getLabels)
+                .orElseThrow(() -> new RestApiException(ErrorCode.USER_SETTING_NOT_FOUND));
+        LabelUtil.validateLabels(labels, labelIds);
+    }
+
+    private LabelDictionary findCached(String userId) {
+        synchronized (dictionaries) {
+            CachedDictionary cached = dictionaries.get(userId);
+            return cached != null && cached.expiresAt() > System.currentTimeMillis() ? cached.dictionary() : null;
+        }
+    }
+
+    private void store(String userId, LabelDictionary dictionary) {
+        synchronized (dictionaries) {
+            dictionaries.put(userId, new CachedDictionary(dictionary, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    private record CachedDictionary(LabelDictionary dictionary, long expiresAt) {
+    }
+}
@@ -27,6 +27,7 @@ public class LabelService {
     private final UserSettingRepository userSettingRepository;
     private final EventRepository eventRepository;
     private final TaskRepository taskRepository;
+    private final LabelDictionaryCache labelDictionaryCache;
 
     public LabelResponse createLabel(String userId, LabelRequest request) {
         UserSetting userSetting = userSettingRepository.findByUserId(userId)
@@ -36,6 +37,7 @@ public class LabelService {
         userSettingRepository.save(userSetting.toBuilder()
                 .labels(newLabels)
                 .build());
+        labelDictionaryCache.put(userId, newLabels);
 
         Label newLabel = findLabelByTitle(newLabels, request.title().trim());
         return LabelResponse.builder()
@@ -120,6 +122,7 @@ public class LabelService {
         userSettingRepository.save(userSetting.toBuilder()
                 .labels(newLabels)
                 .build());
+        labelDictionaryCache.put(userId, newLabels);
     }
 
     @Transactional
@@ -141,5 +144,6 @@ public class LabelService {
         userSettingRepository.save(userSetting.toBuilder()
                         .labels(newLabels)
                         .build());
+        labelDictionaryCache.put(userId, newLabels);
     }
 }
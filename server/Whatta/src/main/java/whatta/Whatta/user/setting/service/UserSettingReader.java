@@ -0,0 +1,77 @@
+package whatta.Whatta.user.setting.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import whatta.Whatta.user.setting.entity.ScheduleSummaryNoti;
+import whatta.Whatta.user.setting.repository.UserSettingRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+//읽기 전용 경로에서 UserSetting의 필요한 필드만 조회
+//- 같은 요청 안에서는 한 번 읽은 값을 요청 속성에 보관해 재사용 (요청 밖의 스케줄러/비동기 스레드는 매번 조회)
+//- 수정 경로(읽고 저장)는 항상 최신 문서가 필요하므로 여기를 거치지 않고 findByUserId 사용
+//- 라벨은 요청을 넘어 캐시하는 LabelDictionaryCache 사용
+@Component
+@RequiredArgsConstructor
+public class UserSettingReader {
+
+    private static final String MEMO_ATTRIBUTE = UserSettingReader.class.getName() + ".memo";
+
+    private final UserSettingRepository userSettingRepository;
+
+    //UserSetting이 없으면 빈 값, cityCode 필드가 없는 문서는 빈 문자열 (기본값 처리는 호출하는 쪽에서)
+    public Optional<String> findCityCode(String userId) {
+        return memoize("cityCode:" + userId, () -> userSettingRepository.findCityCodeByUserId(userId)
+                .map(slim -> slim.getCityCode() != null ? slim.getCityCode() : ""));
+    }
+
+    //UserSetting이 없으면 빈 값, 요약 알림 설정이 없는 예전 문서는 기본값
+    public Optional<ScheduleSummaryNoti> findScheduleSummaryNoti(String userId) {
+        return memoize("scheduleSummaryNoti:" + userId, () -> userSettingRepository.findScheduleSummaryNotiByUserId(userId)
+                .map(slim -> slim.getScheduleSummaryNoti() != null
+                        ? slim.getScheduleSummaryNoti()
+                        : ScheduleSummaryNoti.builder().build()));
+    }
+
+    //같은 요청에서 이후에 읽는 값은 다시 조회 (설정을 저장한 뒤 호출)
+    public void forget(String userId) {
+        Map<String, Optional<?>> memo = currentMemo(false);
+        if (memo != null) {
+            memo.keySet().removeIf(key -> key.endsWith(":" + userId));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> memoize(String key, Supplier<Optional<T>> loader) {
+        Map<String, Optional<?>> memo = currentMemo(true);
+        if (memo == null) {
+            return loader.get();
+        }
+        Optional<?> cached = memo.get(key);
+        if (cached != null) {
+            return (Optional<T>) cached;
+        }
+        Optional<T> loaded = loader.get();
+        memo.put(key, loaded);
+        return loaded;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Optional<?>> currentMemo(boolean create) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object memo = attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null && create) {
+            memo = new HashMap<String, Optional<?>>();
+            attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<String, Optional<?>>) memo;
+    }
+}
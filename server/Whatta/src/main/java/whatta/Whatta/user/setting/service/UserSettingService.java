@@ -29,6 +29,7 @@ import java.util.stream.Collectors;
 public class UserSettingService {
 
     private final UserSettingRepository userSettingRepository;
+    private final UserSettingReader userSettingReader;
 
     public void updateCityCode(String userId, UserCityCodeRequest request) {
         UserSetting userSetting = userSettingRepository.findByUserId(userId)
@@ -37,14 +38,15 @@ public class UserSettingService {
         userSettingRepository.save(userSetting.toBuilder()
                 .cityCode(resolveCityCode(request.cityCode()))
                 .build());
+        userSettingReader.forget(userId);
     }
 
     public UserCityCodeResponse getCityCode(String userId) {
-        UserSetting userSetting = userSettingRepository.findByUserId(userId)
+        String cityCode = userSettingReader.findCityCode(userId)
                 .orElseThrow(() -> new RestApiException(ErrorCode.USER_NOT_EXIST));
 
         return UserCityCodeResponse.builder()
-                .cityCode(resolveCityCode(userSetting.getCityCode()))
+                .cityCode(resolveCityCode(cityCode))
                 .build();
     }
 
@@ -178,16 +180,17 @@ public class UserSettingService {
         userSettingRepository.save(userSetting.toBuilder()
                 .scheduleSummaryNoti(builder.build())
                 .build());
+        userSettingReader.forget(userId);
     }
 
     public ScheduleSummaryNotiResponse getSummaryNoti(String userId) {
-        UserSetting userSetting = userSettingRepository.findByUserId(userId)
+        ScheduleSummaryNoti summaryNoti = userSettingReader.findScheduleSummaryNoti(userId)
                 .orElseThrow(() -> new RestApiException(ErrorCode.USER_NOT_EXIST));
 
         return ScheduleSummaryNotiResponse.builder()
-                .enabled(userSetting.getScheduleSummaryNoti().isEnabled())
-                .notifyDay(userSetting.getScheduleSummaryNoti().getNotifyDay())
-                .time(LocalDateTimeUtil.localTimeToString(userSetting.getScheduleSummaryNoti().getTime()))
+                .enabled(summaryNoti.isEnabled())
+                .notifyDay(summaryNoti.getNotifyDay())
+                .time(LocalDateTimeUtil.localTimeToString(summaryNoti.getTime()))
                 .build();
     }
 
@@ -0,0 +1,75 @@
+package whatta.Whatta.agent.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import whatta.Whatta.agent.enums.AiWorkType;
+import whatta.Whatta.global.exception.ErrorCode;
+import whatta.Whatta.global.exception.RetryableRestApiException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AiAdmissionQueueTest {
+
+    private final AiAdmissionQueue queue = new AiAdmissionQueue();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(queue, "maxConcurrent", 1);
+        ReflectionTestUtils.setField(queue, "perUserMaxInFlight", 2);
+        ReflectionTestUtils.setField(queue, "queueCapacity", 10);
+        ReflectionTestUtils.setField(queue, "maxWaitMs", 60_000L);
+        ReflectionTestUtils.setField(queue, "initialServiceMs", 3_000L);
+    }
+
+    @Test
+    void 사용자별_진행중_한도를_넘으면_Retry_After와_함께_거절한다() {
+        queue.admit("user-a", AiWorkType.IMAGE);
+        queue.admit("user-a", AiWorkType.IMAGE);
+
+        RetryableRestApiException rejected = assertThrows(RetryableRestApiException.class,
+                () -> queue.admit("user-a", AiWorkType.IMAGE));
+
+        assertEquals(ErrorCode.AI_REQUEST_REJECTED, rejected.getErrorCode());
+        assertTrue(rejected.getRetryAfterSeconds() >= 1);
+        assertDoesNotThrow(() -> queue.admit("user-b", AiWorkType.TEXT));
+    }
+
+    @Test
+    void 대기열은_요청이_몰린_사용자보다_다른_사용자를_먼저_꺼낸다() {
+        List<String> started = new ArrayList<>();
+        CompletableFuture<String> firstWork = new CompletableFuture<>();
+
+        queue.admit("user-a", AiWorkType.IMAGE).run(() -> {
+            started.add("a1");
+            return firstWork;
+        });
+        queue.admit("user-a", AiWorkType.IMAGE).run(() -> {
+            started.add("a2");
+            return new CompletableFuture<String>();
+        });
+        queue.admit("user-b", AiWorkType.TEXT).run(() -> {
+            started.add("b1");
+            return new CompletableFuture<String>();
+        });
+        assertEquals(List.of("a1"), started);
+
+        firstWork.complete("done");
+
+        assertEquals(List.of("a1", "b1"), started);
+    }
+
+    @Test
+    void 바로_자리가_없으면_추측_실행용_티켓은_발급하지_않는다() {
+        AiAdmissionQueue.Ticket running = queue.tryAdmitNow("user-a", AiWorkType.TEXT).orElseThrow();
+
+        assertTrue(queue.tryAdmitNow("user-b", AiWorkType.TEXT).isEmpty());
+
+        running.release();
+        assertTrue(queue.tryAdmitNow("user-b", AiWorkType.TEXT).isPresent());
+    }
+}
@@ -0,0 +1,52 @@
+package whatta.Whatta.agent.service;
+
+import org.junit.jupiter.api.Test;
+import whatta.Whatta.agent.entity.AiExtractionJob;
+import whatta.Whatta.agent.enums.AiJobStatus;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AiExtractionJobServiceTest {
+
+    private static final long STALE_AFTER_SECONDS = 300;
+    private static final long TTL_HOURS = 24;
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 3, 2, 12, 0);
+
+    @Test
+    void 제한_시간이_지난_RUNNING_작업은_중단_대상이다() {
+        AiExtractionJob job = AiExtractionJob.builder()
+                .status(AiJobStatus.RUNNING)
+                .createdAt(now.minusSeconds(STALE_AFTER_SECONDS + 1))
+                .build();
+
+        assertTrue(AiExtractionJobService.isStale(job, now, STALE_AFTER_SECONDS, TTL_HOURS));
+    }
+
+    @Test
+    void 제한_시간_안의_작업과_끝난_작업은_그대로_둔다() {
+        AiExtractionJob running = AiExtractionJob.builder()
+                .status(AiJobStatus.RUNNING)
+                .createdAt(now.minusSeconds(10))
+                .build();
+        AiExtractionJob finished = AiExtractionJob.builder()
+                .status(AiJobStatus.SUCCEEDED)
+                .createdAt(now.minusHours(1))
+                .build();
+
+        assertFalse(AiExtractionJobService.isStale(running, now, STALE_AFTER_SECONDS, TTL_HOURS));
+        assertFalse(AiExtractionJobService.isStale(finished, now, STALE_AFTER_SECONDS, TTL_HOURS));
+    }
+
+    @Test
+    void createdAt_없이_저장된_이전_작업은_expiresAt으로_판단한다() {
+        AiExtractionJob legacy = AiExtractionJob.builder()
+                .status(AiJobStatus.RUNNING)
+                .expiresAt(now.minusMinutes(10).plusHours(TTL_HOURS))
+                .build();
+
+        assertTrue(AiExtractionJobService.isStale(legacy, now, STALE_AFTER_SECONDS, TTL_HOURS));
+    }
+}
@@ -1,6 +1,7 @@
 package whatta.Whatta.agent.service;
 
 import org.junit.jupiter.api.Test;
+import whatta.Whatta.agent.enums.RuleConfidence;
 import whatta.Whatta.agent.payload.dto.NormalizedSchedule;
 import whatta.Whatta.agent.payload.dto.RuleBasedExtractionResult;
 import whatta.Whatta.agent.payload.dto.ScheduleCandidate;
@@ -10,6 +11,8 @@ import whatta.Whatta.agent.service.extractor.RuleBasedExtractor;
 import whatta.Whatta.agent.service.normalizer.AgentPostNormalizer;
 import whatta.Whatta.agent.service.normalizer.AgentPreNormalizer;
 import whatta.Whatta.agent.util.ScheduleTypeRules;
+import whatta.Whatta.event.enums.RepeatUnit;
+import whatta.Whatta.event.payload.response.RepeatResponse;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -360,6 +363,67 @@ class HybridAiParsingTest {
         assertTrue(parsed.hasRepeatExpression());
     }
 
+    @Test
+    void 룰기반추출기는_매주_요일_반복을_repeat_on_토큰으로_해석한다() {
+        RuleBasedExtractionResult parsed = ruleBasedExtractor.extract("매주 월수 9시 수업", "매주 월수 9시 수업");
+
+        assertNotNull(parsed.repeatCandidate());
+        assertEquals(RepeatUnit.WEEK, parsed.repeatCandidate().unit());
+        assertEquals(List.of("MON", "WED"), parsed.repeatCandidate().on());
+        assertFalse(parsed.hasMultipleItems());
+        assertEquals("수업", parsed.titleHint());
+
+        ScheduleCandidate candidate = scheduleCandidateResolver.resolve(parsed);
+
+        assertNotNull(candidate);
+        assertEquals(LocalDate.of(2026, 3, 16), candidate.startDate());
+        assertEquals(LocalTime.of(9, 0), candidate.startTime());
+        assertEquals(parsed.repeatCandidate(), candidate.repeat());
+        assertTrue(scheduleValidationService.isValidRuleBasedCandidate(candidate));
+    }
+
+    @Test
+    void 룰기반추출기는_격주와_매달_반복을_해석한다() {
+        RuleBasedExtractionResult biweekly = ruleBasedExtractor.extract("격주 금요일마다 스터디", "격주 금요일마다 스터디");
+        RuleBasedExtractionResult monthlyLast = ruleBasedExtractor.extract("매달 마지막주 금요일 7시 회식", "매달 마지막주 금요일 7시 회식");
+        RuleBasedExtractionResult monthlyDay = ruleBasedExtractor.extract("매달 25일 월세 이체", "매달 25일 월세 이체");
+
+        assertEquals(2, biweekly.repeatCandidate().interval());
+        assertEquals(List.of("FRI"), biweekly.repeatCandidate().on());
+        assertEquals(List.of("LASTFRI"), monthlyLast.repeatCandidate().on());
+        assertEquals(LocalDate.of(2026, 3, 27), scheduleCandidateResolver.resolve(monthlyLast).startDate());
+        assertEquals(List.of("D25"), monthlyDay.repeatCandidate().on());
+        assertTrue(monthlyDay.dateCandidates().isEmpty());
+    }
+
+    @Test
+    void 요일이_아닌_글자는_반복_요일로_해석하지_않는다() {
+        RuleBasedExtractionResult parsed = ruleBasedExtractor.extract("매주 수업 복습", "매주 수업 복습");
+
+        assertTrue(parsed.hasRepeatExpression());
+        assertNull(parsed.repeatCandidate());
+    }
+
+    @Test
+    void 검증기는_repeat_패턴에_맞지_않는_반복을_거부한다() {
+        RepeatResponse invalid = RepeatResponse.builder()
+                .interval(1)
+                .unit(RepeatUnit.MONTH)
+                .on(List.of("D32"))
+                .exceptionDates(List.of())
+                .build();
+
+        assertFalse(scheduleValidationService.isValidRepeat(invalid));
+    }
+
+    @Test
+    void 여러_줄_목록은_목록기호를_뗀_항목으로_나눈다() {
+        String normalized = agentPreNormalizer.normalize("- 내일 7시 회의\n- 금요일 과제 제출");
+
+        assertEquals(List.of("내일 7시 회의", "금요일 과제 제출"), ruleBasedExtractor.splitListItems(normalized));
+        assertTrue(ruleBasedExtractor.splitListItems("내일 12시에\n캡디 회의 추가해줘").isEmpty());
+    }
+
     @Test
     void 날짜_언급이_없고_시간만_있으면_event를_rule_path로_확정하지_않는다() {
         RuleBasedExtractionResult parsed = ruleBasedExtractor.extract("오후 1시에 프론트랑 회의", "오후 1시에 프론트랑 회의");
@@ -543,4 +607,25 @@ class HybridAiParsingTest {
         assertEquals("새로운 작업", ScheduleTypeRules.normalizeTaskTitle("할 일", true));
         assertEquals("정리", ScheduleTypeRules.normalizeTaskTitle("정리 작업", true));
     }
+
+    @Test
+    void 룰기반_확신도는_목록과_반복은_중간_모호한_표현은_낮음으로_추정한다() {
+        assertEquals(RuleConfidence.HIGH, ruleBasedExtractor.estimateConfidence("내일 7시 캡디 회의"));
+        assertEquals(RuleConfidence.HIGH, ruleBasedExtractor.estimateConfidence("할 일 추가해줘"));
+        assertEquals(RuleConfidence.MEDIUM, ruleBasedExtractor.estimateConfidence("매주 월수 9시 수업"));
+        assertEquals(RuleConfidence.MEDIUM, ruleBasedExtractor.estimateConfidence("내일 7시 회의\n금요일 과제 제출"));
+        assertEquals(RuleConfidence.LOW, ruleBasedExtractor.estimateConfidence("내일 저녁에 친구 만나기"));
+        assertEquals(RuleConfidence.LOW, ruleBasedExtractor.estimateConfidence("오늘 오후 3시, 내일 오전 10시 회의"));
+        assertEquals(RuleConfidence.LOW, ruleBasedExtractor.estimateConfidence("팀 회고"));
+    }
+
+    @Test
+    void 추측_실행_구간은_설정값으로_고르고_비우면_끈다() {
+        ExtractionSpeculationPolicy policy = new ExtractionSpeculationPolicy("medium, LOW");
+
+        assertTrue(policy.shouldSpeculate(RuleConfidence.MEDIUM));
+        assertTrue(policy.shouldSpeculate(RuleConfidence.LOW));
+        assertFalse(policy.shouldSpeculate(RuleConfidence.HIGH));
+        assertFalse(new ExtractionSpeculationPolicy("").shouldSpeculate(RuleConfidence.MEDIUM));
+    }
 }
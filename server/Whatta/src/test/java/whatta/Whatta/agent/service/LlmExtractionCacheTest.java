@@ -0,0 +1,69 @@
+package whatta.Whatta.agent.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import whatta.Whatta.agent.payload.response.OpenAIScheduleResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LlmExtractionCacheTest {
+
+    private static final LocalDate SATURDAY = LocalDate.of(2026, 3, 14);
+
+    private final LlmExtractionCache cache = new LlmExtractionCache();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxEntries", 10);
+        ReflectionTestUtils.setField(cache, "ttlMinutes", 60L);
+        ReflectionTestUtils.setField(cache, "model", "test-model");
+    }
+
+    @Test
+    void 상대날짜_결과는_새_기준일로_다시_계산된다() {
+        cache.save("내일 3시 회의 추가해줘", SATURDAY, response("2026-03-15", "2026-03-15 15:00:00"));
+
+        Optional<OpenAIScheduleResponse> cached = cache.find("내일 3시 회의", SATURDAY.plusDays(5));
+
+        assertTrue(cached.isPresent());
+        OpenAIScheduleResponse.ScheduleItem item = cached.get().items().get(0);
+        assertEquals("2026-03-20", item.start_date());
+        assertEquals("2026-03-20 15:00:00", item.due_date_time());
+        assertEquals("15:00:00", item.start_time());
+    }
+
+    @Test
+    void 요일_표현은_기준일_요일이_같을때만_재사용한다() {
+        cache.save("다음주 수요일 회의", SATURDAY, response("2026-03-18", null));
+
+        assertTrue(cache.find("다음주 수요일 회의", SATURDAY.plusDays(1)).isEmpty());
+        assertEquals("2026-03-25", cache.find("다음주 수요일 회의", SATURDAY.plusWeeks(1))
+                .orElseThrow().items().get(0).start_date());
+    }
+
+    @Test
+    void 월일_표현은_같은_기준일에서만_재사용한다() {
+        cache.save("3월 20일 회의", SATURDAY, response("2026-03-20", null));
+
+        assertTrue(cache.find("3월 20일 회의", SATURDAY).isPresent());
+        assertTrue(cache.find("3월 20일 회의", SATURDAY.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    void 현재시각_기준_표현은_캐시하지_않는다() {
+        cache.save("30분 뒤 회의", SATURDAY, response("2026-03-14", null));
+
+        assertTrue(cache.find("30분 뒤 회의", SATURDAY).isEmpty());
+    }
+
+    private static OpenAIScheduleResponse response(String startDate, String dueDateTime) {
+        return new OpenAIScheduleResponse(List.of(new OpenAIScheduleResponse.ScheduleItem(
+                true, "회의", startDate, startDate, "15:00:00", "16:00:00", dueDateTime, null)));
+    }
+}
@@ -0,0 +1,60 @@
+package whatta.Whatta.agent.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenAIResponseReaderTest {
+
+    private static final String ITEMS_JSON =
+            "{\"items\":[{\"is_schedule\":true,\"title\":\"회의\",\"start_date\":\"2026-03-15\",\"end_date\":null,"
+                    + "\"start_time\":\"15:00:00\",\"end_time\":null,\"due_date_time\":null,\"repeat_rule\":null}]}";
+
+    private final OpenAIResponseReader reader = new OpenAIResponseReader(new ObjectMapper());
+
+    @Test
+    void output_content_텍스트와_usage를_읽고_나머지_필드는_건너뛴다() {
+        String body = "{\"id\":\"resp_1\",\"object\":\"response\",\"status\":\"completed\","
+                + "\"instructions\":\"긴 지시문\",\"text\":{\"format\":{\"type\":\"json_schema\",\"schema\":{\"type\":\"object\"}}},"
+                + "\"output\":[{\"type\":\"reasoning\",\"summary\":[]},"
+                + "{\"type\":\"message\",\"content\":[{\"type\":\"output_text\",\"text\":" + quote(ITEMS_JSON) + ",\"annotations\":[]}]}],"
+                + "\"model\":\"gpt-test\","
+                + "\"usage\":{\"input_tokens\":1200,\"input_tokens_details\":{\"cached_tokens\":1024},"
+                + "\"output_tokens\":80,\"output_tokens_details\":{\"reasoning_tokens\":30},\"total_tokens\":1280}}";
+
+        OpenAIResponseReader.ParsedResponse parsed = reader.read(body.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("resp_1", parsed.id());
+        assertEquals("completed", parsed.status());
+        assertEquals("gpt-test", parsed.model());
+        assertEquals(new OpenAIClient.Usage(1200, 80, 1280, 1024, 30), parsed.usage());
+        assertEquals("회의", parsed.output().items().get(0).title());
+        assertEquals("2026-03-15", parsed.output().items().get(0).start_date());
+    }
+
+    @Test
+    void output_parsed가_있으면_우선한다() {
+        String body = "{\"output_text\":\"{\\\"items\\\":[]}\",\"output_parsed\":" + ITEMS_JSON + "}";
+
+        OpenAIResponseReader.ParsedResponse parsed = reader.read(body.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(1, parsed.output().items().size());
+        assertNull(parsed.id());
+        assertEquals(new OpenAIClient.Usage(-1, -1, -1, -1, -1), parsed.usage());
+    }
+
+    @Test
+    void 출력이_없으면_null을_반환한다() {
+        String body = "{\"id\":\"resp_2\",\"status\":\"incomplete\",\"output\":[{\"type\":\"reasoning\",\"content\":[]}]}";
+
+        assertNull(reader.read(body.getBytes(StandardCharsets.UTF_8)).output());
+        assertThrows(IllegalStateException.class, () -> reader.read(new byte[0]));
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
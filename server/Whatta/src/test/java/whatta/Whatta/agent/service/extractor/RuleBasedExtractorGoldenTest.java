@@ -0,0 +1,164 @@
+package whatta.Whatta.agent.service.extractor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import whatta.Whatta.agent.payload.dto.RuleBasedExtractionResult;
+import whatta.Whatta.agent.spec.ScheduleExtractionSpec;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.regex.MatchResult;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+//토크나이저 도입 전 순차 정규식 구현의 결과를 고정해 두고 같은 결과가 나오는지 확인 (입력은 HybridAiParsingTest 기준)
+class RuleBasedExtractorGoldenTest {
+
+    private static final Clock FIXED_CLOCK =
+            Clock.fixed(Instant.parse("2026-03-14T15:00:00Z"), ScheduleExtractionSpec.KST_ZONE_ID);
+
+    private final RuleBasedExtractor ruleBasedExtractor = new RuleBasedExtractor(FIXED_CLOCK);
+
+    static Stream<Arguments> goldenCases() {
+        return Stream.of(
+                Arguments.of("내일 7시 캡디 회의",
+                        "dates=[2026-03-16] times=[07:00] deadline=null title=캡디 회의 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("내일 12시에\n캡디 회의 추가해줘",
+                        "dates=[2026-03-16] times=[12:00] deadline=null title=캡디 회의 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("내일 7시 회의\n금요일 과제 제출",
+                        "dates=[2026-03-16, 2026-03-20] times=[07:00] deadline=null title=회의 과제 제출 warnings={} task=false repeat=false ambiguous=false/false multiple=true"),
+                Arguments.of("금요일까지 보고서 제출",
+                        "dates=[2026-03-20] times=[] deadline=2026-03-20 title=보고서 제출 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("내일 9시에 할 일 추가해줘",
+                        "dates=[2026-03-16] times=[09:00] deadline=null title=새로운 작업 warnings={} task=true repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("내일 9시에 할일 추가해줘",
+                        "dates=[2026-03-16] times=[09:00] deadline=null title=새로운 작업 warnings={} task=true repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("내일 9시에 청소 할 일 추가해줘",
+                        "dates=[2026-03-16] times=[09:00] deadline=null title=청소 warnings={} task=true repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("내일 9시에 청소 작업 추가해줘",
+                        "dates=[2026-03-16] times=[09:00] deadline=null title=청소 warnings={} task=true repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("할 일 추가해줘",
+                        "dates=[] times=[] deadline=null title=새로운 작업 warnings={} task=true repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("내일 오후6시에 왓타회의 추가",
+                        "dates=[2026-03-16] times=[18:00] deadline=null title=왓타회의 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("수요일 7시에 왓타회의 추가해줘",
+                        "dates=[2026-03-18] times=[07:00] deadline=null title=왓타회의 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("내일 11시 캡디 회의 추가해줘.",
+                        "dates=[2026-03-16] times=[11:00] deadline=null title=캡디 회의 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("11월 12일에 언니생일 추가",
+                        "dates=[2026-11-12] times=[] deadline=null title=언니생일 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("일주일뒤에 7시에 캡디 과제 제출",
+                        "dates=[2026-03-22] times=[07:00] deadline=null title=캡디 과제 제출 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("이틀뒤 회의",
+                        "dates=[2026-03-17] times=[] deadline=null title=회의 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("사흘뒤 회의",
+                        "dates=[2026-03-18] times=[] deadline=null title=회의 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("5일뒤 일정",
+                        "dates=[2026-03-20] times=[] deadline=null title=일정 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("2주뒤 일정",
+                        "dates=[2026-03-29] times=[] deadline=null title=일정 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("3일 후 회의",
+                        "dates=[] times=[] deadline=null title=3일 후 회의 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("2일간 집중 공부",
+                        "dates=[] times=[] deadline=null title=2일간 집중 공부 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("5일째 여행",
+                        "dates=[] times=[] deadline=null title=5일째 여행 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("1일치 보고서 정리",
+                        "dates=[] times=[] deadline=null title=1일치 보고서 정리 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("3일짜리 워크숍",
+                        "dates=[] times=[] deadline=null title=3일짜리 워크숍 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("이번주 월요일 회의",
+                        "dates=[2026-03-09] times=[] deadline=null title=회의 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("다음주 월요일 회의",
+                        "dates=[2026-03-16] times=[] deadline=null title=회의 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("내일 11시 전까지 브랜드전략 과제 제출",
+                        "dates=[2026-03-16] times=[11:00] deadline=2026-03-16 title=브랜드전략 과제 제출 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("3월33일 22시까지 알고리즘 풀기 추가",
+                        "dates=[] times=[22:00] deadline=null title=알고리즘 풀기 warnings={startDate=[3월33일]} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("다음주에 7시 캡디 회의 추가",
+                        "dates=[] times=[07:00] deadline=null title=캡디 회의 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("매주 수요일마다 회의",
+                        "dates=[] times=[] deadline=null title=회의 warnings={} task=false repeat=true ambiguous=false/false multiple=false"),
+                Arguments.of("매주 월수 9시 수업",
+                        "dates=[] times=[09:00] deadline=null title=수업 warnings={} task=false repeat=true ambiguous=false/false multiple=false"),
+                Arguments.of("격주 금요일마다 스터디",
+                        "dates=[] times=[] deadline=null title=스터디 warnings={} task=false repeat=true ambiguous=false/false multiple=false"),
+                Arguments.of("매달 마지막주 금요일 7시 회식",
+                        "dates=[] times=[07:00] deadline=null title=회식 warnings={} task=false repeat=true ambiguous=false/false multiple=false"),
+                Arguments.of("매달 25일 월세 이체",
+                        "dates=[] times=[] deadline=null title=월세 이체 warnings={} task=false repeat=true ambiguous=false/false multiple=false"),
+                Arguments.of("매주 수업 복습",
+                        "dates=[] times=[] deadline=null title=수업 복습 warnings={} task=false repeat=true ambiguous=false/false multiple=false"),
+                Arguments.of("오후 1시에 프론트랑 회의",
+                        "dates=[] times=[13:00] deadline=null title=프론트랑 회의 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("2026-13-40 25시 회의",
+                        "dates=[] times=[] deadline=null title=회의 warnings={startDate=[2026-13-40], startTime=[25시]} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("3/33 캡디 회의 추가",
+                        "dates=[] times=[] deadline=null title=캡디 회의 warnings={startDate=[3/33]} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("3/33 7시 캡디 회의 추가",
+                        "dates=[] times=[07:00] deadline=null title=캡디 회의 warnings={startDate=[3/33]} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("25일 23시까지 알고리즘 풀기 추가",
+                        "dates=[2026-03-25] times=[23:00] deadline=2026-03-25 title=알고리즘 풀기 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("33일 25시까지 알고리즘 풀기",
+                        "dates=[] times=[] deadline=null title=알고리즘 풀기 warnings={startDate=[33일], startTime=[25시]} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("3월 5일 오후 3시 30분 팀 회의",
+                        "dates=[2027-03-05] times=[15:30] deadline=null title=팀 회의 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("10월\n5일 회의",
+                        "dates=[2026-10-05] times=[] deadline=null title=회의 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("2026-03-20 15:30 발표 준비",
+                        "dates=[2026-03-20] times=[15:30] deadline=null title=발표 준비 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("다음주금요일까지 보고서 제출",
+                        "dates=[2026-03-20] times=[] deadline=2026-03-20 title=보고서 제출 warnings={} task=false repeat=false ambiguous=false/false multiple=false"),
+                Arguments.of("오늘까지 월 회의",
+                        "dates=[2026-03-15, 2026-03-16] times=[] deadline=2026-03-15 title=회의 warnings={} task=false repeat=false ambiguous=false/false multiple=true"),
+                Arguments.of("오늘 오후 3시, 내일 오전 10시 회의",
+                        "dates=[2026-03-15, 2026-03-16] times=[15:00, 10:00] deadline=null title=, 회의 warnings={} task=false repeat=false ambiguous=false/false multiple=true"),
+                Arguments.of("- 내일 7시 회의\n- 금요일 과제 제출",
+                        "dates=[2026-03-16, 2026-03-20] times=[07:00] deadline=null title=- 회의 - 과제 제출 warnings={} task=false repeat=false ambiguous=false/false multiple=true"),
+                Arguments.of("12/1 \"발표\" 리허설 등록해줘",
+                        "dates=[2026-12-01] times=[] deadline=null title=발표 리허설 등록해줘 warnings={} task=false repeat=false ambiguous=false/false multiple=false")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("goldenCases")
+    void 토크나이저_기반_추출_결과는_기존_정규식_순차_추출과_같다(String input, String expected) {
+        RuleBasedExtractionResult parsed = ruleBasedExtractor.extract(input, input);
+
+        assertEquals(expected, describe(parsed));
+    }
+
+    @Test
+    void 토크나이저는_패턴별로_겹치지_않는_토큰을_앞에서부터_모은다() {
+        RuleBasedTokenizer.Tokens tokens = RuleBasedTokenizer.tokenize("3월 5일 오후 3시, 12일 15:30 금요일까지");
+
+        assertEquals(List.of("3월 5일"), texts(tokens.of(RuleBasedTokenizer.Kind.KOREAN_MONTH_DAY)));
+        assertEquals(List.of("5일", "12일"), texts(tokens.of(RuleBasedTokenizer.Kind.DAY_ONLY)));
+        assertEquals(List.of("오후 3시"), texts(tokens.of(RuleBasedTokenizer.Kind.MERIDIEM_TIME)));
+        assertEquals(List.of("3시"), texts(tokens.of(RuleBasedTokenizer.Kind.HOUR_TIME)));
+        assertEquals(List.of("15:30"), texts(tokens.of(RuleBasedTokenizer.Kind.CLOCK_TIME)));
+        assertEquals(List.of("금요일까지"), texts(tokens.of(RuleBasedTokenizer.Kind.DEADLINE)));
+        assertEquals(List.of("금요일"), texts(tokens.of(RuleBasedTokenizer.Kind.WEEKDAY)));
+        assertTrue(RuleBasedTokenizer.tokenize("캡디 회의").isEmpty());
+    }
+
+    private List<String> texts(List<MatchResult> matches) {
+        return matches.stream().map(MatchResult::group).toList();
+    }
+
+    private String describe(RuleBasedExtractionResult parsed) {
+        return "dates=" + parsed.dateCandidates()
+                + " times=" + parsed.timeCandidates()
+                + " deadline=" + parsed.deadlineCandidate()
+                + " title=" + parsed.titleHint()
+                + " warnings=" + parsed.warnings()
+                + " task=" + parsed.explicitTaskSignal()
+                + " repeat=" + parsed.hasRepeatExpression()
+                + " ambiguous=" + parsed.ambiguousDate() + "/" + parsed.ambiguousTime()
+                + " multiple=" + parsed.hasMultipleItems();
+    }
+}
@@ -0,0 +1,45 @@
+package whatta.Whatta.global.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("whatta-test-secret-key-0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 100);
+
+    @Test
+    void 같은_토큰은_반복_조회해도_같은_사용자로_인증된다() {
+        String token = jwtTokenProvider.createAccessToken("user-1");
+
+        assertEquals("user-1", jwtTokenProvider.getAuthentication(token).getPrincipal());
+        assertEquals("user-1", jwtTokenProvider.getAuthentication(token).getPrincipal());
+        assertTrue(jwtTokenProvider.validateToken(token));
+    }
+
+    @Test
+    void 서명이_다른_토큰은_캐시와_상관없이_거부된다() {
+        String token = jwtTokenProvider.createAccessToken("user-1");
+        jwtTokenProvider.getAuthentication(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtTokenProvider.getAuthentication(tampered));
+        assertFalse(jwtTokenProvider.validateToken(tampered));
+    }
+
+    @Test
+    void 만료된_토큰은_ExpiredJwtException을_던진다() {
+        String token = jwtTokenProvider.createToken("user-1", -1000L);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtTokenProvider.getAuthentication(token));
+        assertFalse(jwtTokenProvider.validateToken(token));
+    }
+}
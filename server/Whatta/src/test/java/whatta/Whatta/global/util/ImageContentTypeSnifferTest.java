@@ -0,0 +1,41 @@
+package whatta.Whatta.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageContentTypeSnifferTest {
+
+    @Test
+    void 매직_넘버로_이미지_형식을_판별한다() {
+        assertEquals("image/jpeg", sniff(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0}));
+        assertEquals("image/png", sniff(new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D}));
+        assertEquals("image/gif", sniff("GIF89a".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals("image/webp", sniff("RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals("image/heic", sniff("\0\0\0\u0018ftypheic".getBytes(StandardCharsets.US_ASCII)));
+        assertNull(sniff("hello".getBytes(StandardCharsets.US_ASCII)));
+        assertNull(sniff(new byte[0]));
+    }
+
+    @Test
+    void 앞부분만_읽고_스트림_위치를_되돌린다() throws IOException {
+        byte[] body = new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13};
+        InputStream in = new BufferedInputStream(new ByteArrayInputStream(body));
+
+        assertEquals("image/jpeg", ImageContentTypeSniffer.sniff(in));
+        assertArrayEquals(body, in.readAllBytes());
+    }
+
+    private static String sniff(byte[] bytes) {
+        byte[] header = new byte[ImageContentTypeSniffer.HEADER_BYTES];
+        int length = Math.min(bytes.length, header.length);
+        System.arraycopy(bytes, 0, header, 0, length);
+        return ImageContentTypeSniffer.sniff(header, length);
+    }
+}
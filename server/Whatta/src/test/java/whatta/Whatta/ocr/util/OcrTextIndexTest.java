@@ -0,0 +1,61 @@
+package whatta.Whatta.ocr.util;
+
+import org.junit.jupiter.api.Test;
+import whatta.Whatta.ocr.payload.dto.BoundingPoly;
+import whatta.Whatta.ocr.payload.dto.OcrText;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OcrTextIndexTest {
+
+    @Test
+    void findInsideKeepsOcrReadingOrder() {
+        List<OcrText> texts = List.of(
+                text("자료구조", 110, 240),
+                text("A301", 120, 200), //y는 더 위지만 ocr 순서상 뒤
+                text("밖", 400, 220)
+        );
+
+        List<OcrText> inside = new OcrTextIndex(texts).findInside(100, 180, 200, 260);
+
+        assertThat(inside).extracting(OcrText::text).containsExactly("자료구조", "A301");
+    }
+
+    @Test
+    void findInsideMatchesLinearScanIncludingBoundaries() {
+        Random random = new Random(42);
+        List<OcrText> texts = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            texts.add(text("t" + i, random.nextInt(1000), random.nextInt(2000)));
+        }
+        OcrTextIndex index = new OcrTextIndex(texts);
+
+        for (int i = 0; i < 60; i++) {
+            int left = random.nextInt(900), top = random.nextInt(1800);
+            int right = left + random.nextInt(200), bottom = top + random.nextInt(300);
+
+            List<OcrText> expected = texts.stream()
+                    .filter(t -> t.centerX() >= left && t.centerX() <= right
+                            && t.centerY() >= top && t.centerY() <= bottom)
+                    .toList();
+
+            assertThat(index.findInside(left, top, right, bottom)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private static OcrText text(String value, int centerX, int centerY) {
+        return new OcrText(value,
+                vertex(centerX - 10, centerY - 5),
+                vertex(centerX + 10, centerY - 5),
+                vertex(centerX + 10, centerY + 5),
+                vertex(centerX - 10, centerY + 5));
+    }
+
+    private static BoundingPoly.Vertex vertex(int x, int y) {
+        return new BoundingPoly.Vertex(x, y);
+    }
+}
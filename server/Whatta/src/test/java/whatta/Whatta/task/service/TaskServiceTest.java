@@ -0,0 +1,298 @@
+package whatta.Whatta.task.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import whatta.Whatta.global.exception.ErrorCode;
+import whatta.Whatta.global.exception.RestApiException;
+import whatta.Whatta.notification.service.ReminderNotiService;
+import whatta.Whatta.notification.service.TaskDueNotiService;
+import whatta.Whatta.task.entity.Task;
+import whatta.Whatta.task.enums.TaskBulkAction;
+import whatta.Whatta.task.mapper.TaskMapper;
+import whatta.Whatta.task.payload.request.TaskBulkOperation;
+import whatta.Whatta.task.payload.request.TaskBulkRequest;
+import whatta.Whatta.task.payload.request.TaskCreateRequest;
+import whatta.Whatta.task.payload.request.TaskMoveRequest;
+import whatta.Whatta.task.payload.request.TaskUpdateRequest;
+import whatta.Whatta.task.payload.response.TaskBulkResponse;
+import whatta.Whatta.task.payload.response.TaskResponse;
+import whatta.Whatta.task.repository.TaskRepository;
+import whatta.Whatta.task.util.FractionalSortKey;
+import whatta.Whatta.user.setting.service.LabelDictionaryCache;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+//TaskRepository를 메모리 목록으로 흉내 내서 순서 관련 흐름만 확인
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TaskServiceTest {
+
+    private static final String USER_ID = "user-1";
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private LabelDictionaryCache labelDictionaryCache;
+    @Mock
+    private ReminderNotiService reminderNotiService;
+    @Mock
+    private TaskDueNotiService taskDueNotiService;
+    @Mock
+    private TaskSortKeyMigration sortKeyMigration;
+    @Spy
+    private TaskMapper taskMapper = new TaskMapper();
+
+    @InjectMocks
+    private TaskService taskService;
+
+    private final Map<String, Task> tasks = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(taskRepository.findByIdAndUserId(anyString(), eq(USER_ID)))
+                .thenAnswer(inv -> Optional.ofNullable(tasks.get(inv.<String>getArgument(0))));
+        when(taskRepository.countByUserIdAndIdIn(eq(USER_ID), anyCollection()))
+                .thenAnswer(inv -> inv.<Collection<String>>getArgument(1).stream().filter(tasks::containsKey).count());
+        when(taskRepository.save(any(Task.class))).thenAnswer(inv -> {
+            Task task = inv.getArgument(0);
+            if (task.getId() == null) {
+                task = task.toBuilder().id(UUID.randomUUID().toString()).build();
+            }
+            tasks.put(task.getId(), task);
+            return task;
+        });
+
+        when(taskRepository.findTopByUserIdOrderBySortKeyAsc(USER_ID))
+                .thenAnswer(inv -> tasks.values().stream().min(Comparator.comparing(Task::getSortKey)));
+        when(taskRepository.findTopByUserIdOrderBySortNumberAsc(USER_ID))
+                .thenAnswer(inv -> tasks.values().stream().min(Comparator.comparing(Task::getSortNumber)));
+        when(taskRepository.findNextInSortOrder(eq(USER_ID), any(), anyCollection()))
+                .thenAnswer(inv -> adjacent(inv.getArgument(1), inv.getArgument(2), true));
+        when(taskRepository.findPreviousInSortOrder(eq(USER_ID), any(), anyCollection()))
+                .thenAnswer(inv -> adjacent(inv.getArgument(1), inv.getArgument(2), false));
+        when(taskRepository.findNextSortKey(eq(USER_ID), any(), anyCollection()))
+                .thenAnswer(inv -> adjacent(inv.getArgument(1), inv.getArgument(2), true).map(Task::getSortKey));
+        when(taskRepository.findTopByUserIdAndSortNumberLessThanAndIdNotOrderBySortNumberDesc(eq(USER_ID), anyLong(), anyString()))
+                .thenAnswer(inv -> tasks.values().stream()
+                        .filter(task -> !task.getId().equals(inv.getArgument(2)))
+                        .filter(task -> task.getSortNumber() < inv.<Long>getArgument(1))
+                        .max(Comparator.comparing(Task::getSortNumber)));
+        doAnswer(inv -> {
+            List<String> taskIds = inv.getArgument(1);
+            List<String> sortKeys = inv.getArgument(2);
+            List<Long> sortNumbers = inv.getArgument(3);
+            for (int i = 0; i < taskIds.size(); i++) {
+                tasks.put(taskIds.get(i), tasks.get(taskIds.get(i)).toBuilder()
+                        .sortKey(sortKeys.get(i))
+                        .sortNumber(sortNumbers.get(i))
+                        .build());
+            }
+            return null;
+        }).when(taskRepository).updateSortOrder(eq(USER_ID), anyList(), anyList(), anyList());
+
+        when(taskRepository.findByUserIdAndIdIn(eq(USER_ID), anyCollection()))
+                .thenAnswer(inv -> inv.<Collection<String>>getArgument(1).stream()
+                        .filter(tasks::containsKey)
+                        .map(tasks::get)
+                        .toList());
+        //남아 있는 task만 갱신된 것으로 돌려줌 (TaskRepositoryImpl과 같은 규칙)
+        when(taskRepository.applyBulkChanges(eq(USER_ID), anyList(), anyCollection())).thenAnswer(inv -> {
+            List<Task> updatedTasks = inv.getArgument(1);
+            List<Task> applied = updatedTasks.stream().filter(task -> tasks.containsKey(task.getId())).toList();
+            applied.forEach(task -> tasks.put(task.getId(), task));
+            inv.<Collection<String>>getArgument(2).forEach(tasks::remove);
+            return applied;
+        });
+    }
+
+    @Test
+    void 이동_뒤의_이전_앱_sortNumber_수정도_이동한_자리를_기준으로_해석된다() {
+        givenTasks("a", "b", "c", "d");
+
+        //새 앱: d를 a 아래로
+        taskService.moveTasks(USER_ID, new TaskMoveRequest(List.of("d"), "a", null));
+        assertOrder("a", "d", "b", "c");
+
+        //이전 앱: sortNumber 순으로 보이는 a, d 사이에 c를 넣음
+        long between = (tasks.get("a").getSortNumber() + tasks.get("d").getSortNumber()) / 2;
+        taskService.updateTask(USER_ID, "c", sortNumberUpdate(between));
+        assertOrder("a", "c", "d", "b");
+
+        //이전 앱: a를 맨 아래로
+        taskService.updateTask(USER_ID, "a", sortNumberUpdate(tasks.get("b").getSortNumber() + 10000L));
+        assertOrder("c", "d", "b", "a");
+    }
+
+    @Test
+    void 맨_위_추가를_반복해도_sortNumber가_음수가_되지_않고_다른_task를_다시_쓰지_않는다() {
+        givenTasks("a", "b");
+
+        for (int i = 0; i < 30; i++) {
+            taskService.createTask(USER_ID, new TaskCreateRequest("task" + i, null, null, null, null, null, null));
+        }
+
+        assertEquals(32, tasks.size());
+        assertTrue(tasks.values().stream().allMatch(task -> task.getSortNumber() >= 0));
+        verify(taskRepository, never()).updateSortOrder(any(), anyList(), anyList(), anyList());
+        verify(taskRepository, never()).saveAll(anyIterable());
+    }
+
+    @Test
+    void 일괄_처리는_작업을_요청_순서대로_적용한다() {
+        givenTasks("a", "b");
+        LocalDate date = LocalDate.of(2026, 2, 10);
+
+        TaskBulkResponse response = taskService.applyBulkOperations(USER_ID, new TaskBulkRequest(List.of(
+                operation(TaskBulkAction.COMPLETE, "a", "b"),
+                operation(TaskBulkAction.UNCOMPLETE, "b"),
+                new TaskBulkOperation(TaskBulkAction.RESCHEDULE, List.of("b"), date, null, null),
+                new TaskBulkOperation(TaskBulkAction.SET_LABELS, List.of("a"), null, null, List.of(1L, 2L))
+        )));
+
+        Task a = tasks.get("a");
+        Task b = tasks.get("b");
+        assertTrue(a.getCompleted());
+        assertNotNull(a.getCompletedAt());
+        assertEquals(List.of(1L, 2L), a.getLabels());
+        assertFalse(b.getCompleted());
+        assertNull(b.getCompletedAt());
+        assertEquals(date, b.getPlacementDate());
+        assertEquals(List.of("a", "b"), response.updated().stream().map(TaskResponse::id).toList());
+        verify(taskRepository, times(1)).applyBulkChanges(eq(USER_ID), anyList(), anyCollection());
+    }
+
+    @Test
+    void 수정_뒤에_삭제된_task는_갱신_목록에서_빠지고_삭제_뒤_작업은_거절된다() {
+        givenTasks("a", "b");
+
+        TaskBulkResponse response = taskService.applyBulkOperations(USER_ID, new TaskBulkRequest(List.of(
+                operation(TaskBulkAction.COMPLETE, "a", "b"),
+                operation(TaskBulkAction.DELETE, "a")
+        )));
+
+        assertEquals(List.of("b"), response.updated().stream().map(TaskResponse::id).toList());
+        assertEquals(List.of("a"), response.deletedIds());
+        assertFalse(tasks.containsKey("a"));
+
+        givenTasks("c");
+        RestApiException e = assertThrows(RestApiException.class, () -> taskService.applyBulkOperations(USER_ID,
+                new TaskBulkRequest(List.of(
+                        operation(TaskBulkAction.DELETE, "c"),
+                        operation(TaskBulkAction.COMPLETE, "c")
+                ))));
+        assertEquals(ErrorCode.INVALID_TASK_BULK_OPERATION, e.getErrorCode());
+        assertTrue(tasks.containsKey("c"));
+    }
+
+    @Test
+    void 라벨_검증에_실패하면_아무것도_저장하지_않는다() {
+        givenTasks("a");
+        doThrow(new RestApiException(ErrorCode.LABEL_NOT_FOUND))
+                .when(labelDictionaryCache).validateLabels(USER_ID, List.of(99L));
+
+        RestApiException missing = assertThrows(RestApiException.class, () -> taskService.applyBulkOperations(USER_ID,
+                new TaskBulkRequest(List.of(operation(TaskBulkAction.SET_LABELS, "a")))));
+        RestApiException unknown = assertThrows(RestApiException.class, () -> taskService.applyBulkOperations(USER_ID,
+                new TaskBulkRequest(List.of(
+                        operation(TaskBulkAction.COMPLETE, "a"),
+                        new TaskBulkOperation(TaskBulkAction.SET_LABELS, List.of("a"), null, null, List.of(99L))
+                ))));
+
+        assertEquals(ErrorCode.INVALID_TASK_BULK_OPERATION, missing.getErrorCode());
+        assertEquals(ErrorCode.LABEL_NOT_FOUND, unknown.getErrorCode());
+        verify(taskRepository, never()).applyBulkChanges(any(), anyList(), anyCollection());
+        verifyNoInteractions(reminderNotiService, taskDueNotiService);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void 알림은_실제로_갱신된_task와_삭제된_id로_맞춘다() {
+        givenTasks("a", "b", "c");
+        //조회 후 반영 전에 다른 요청이 b를 삭제함
+        when(taskRepository.findByUserIdAndIdIn(eq(USER_ID), anyCollection()))
+                .thenReturn(List.of(tasks.get("a"), tasks.get("b"), tasks.get("c")))
+                .thenThrow(new IllegalStateException("한 번만 조회해야 함"));
+        tasks.remove("b");
+
+        TaskBulkResponse response = taskService.applyBulkOperations(USER_ID, new TaskBulkRequest(List.of(
+                operation(TaskBulkAction.COMPLETE, "a", "b"),
+                operation(TaskBulkAction.DELETE, "c")
+        )));
+
+        ArgumentCaptor<List<Task>> reminderTasks = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Task>> dueTasks = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(taskRepository, reminderNotiService, taskDueNotiService);
+        inOrder.verify(taskRepository).applyBulkChanges(eq(USER_ID), anyList(), eq(Set.of("c")));
+        inOrder.verify(reminderNotiService).reconcileTaskReminders(reminderTasks.capture(), eq(Set.of("c")));
+        inOrder.verify(taskDueNotiService).reconcileDueNotifications(dueTasks.capture(), eq(Set.of("c")));
+
+        assertEquals(List.of("a"), reminderTasks.getValue().stream().map(Task::getId).toList());
+        assertEquals(List.of("a"), dueTasks.getValue().stream().map(Task::getId).toList());
+        assertTrue(reminderTasks.getValue().get(0).getCompleted());
+        assertEquals(List.of("a"), response.updated().stream().map(TaskResponse::id).toList());
+    }
+
+    private void givenTasks(String... ids) {
+        List<String> sortKeys = FractionalSortKey.between(null, null, ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            tasks.put(ids[i], Task.builder()
+                    .id(ids[i])
+                    .userId(USER_ID)
+                    .sortKey(sortKeys.get(i))
+                    .sortNumber(10000L * (i + 1))
+                    .build());
+        }
+    }
+
+    private Optional<Task> adjacent(String sortKey, Collection<String> excludedIds, boolean next) {
+        return tasks.values().stream()
+                .filter(task -> !excludedIds.contains(task.getId()))
+                .filter(task -> sortKey == null || (next
+                        ? task.getSortKey().compareTo(sortKey) > 0
+                        : task.getSortKey().compareTo(sortKey) < 0))
+                .reduce((x, y) -> (x.getSortKey().compareTo(y.getSortKey()) < 0) == next ? x : y);
+    }
+
+    //sortKey 순서와 이전 앱이 보는 sortNumber 순서가 모두 expected와 같아야 함
+    private void assertOrder(String... expected) {
+        List<String> bySortKey = tasks.values().stream()
+                .sorted(Comparator.comparing(Task::getSortKey))
+                .map(Task::getId)
+                .toList();
+        List<String> bySortNumber = tasks.values().stream()
+                .sorted(Comparator.comparing(Task::getSortNumber))
+                .map(Task::getId)
+                .toList();
+        assertEquals(List.of(expected), bySortKey);
+        assertEquals(List.of(expected), bySortNumber);
+    }
+
+    private static TaskBulkOperation operation(TaskBulkAction action, String... taskIds) {
+        return new TaskBulkOperation(action, List.of(taskIds), null, null, null);
+    }
+
+    private static TaskUpdateRequest sortNumberUpdate(long sortNumber) {
+        return new TaskUpdateRequest(null, null, null, null, null, null, null, sortNumber, null, null);
+    }
+}
@@ -0,0 +1,70 @@
+package whatta.Whatta.task.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FractionalSortKeyTest {
+
+    @Test
+    void 앞뒤와_사이에_키를_만든다() {
+        assertEquals("a0", FractionalSortKey.between(null, null));
+        assertEquals("a1", FractionalSortKey.between("a0", null));
+        assertEquals("Zz", FractionalSortKey.between(null, "a0"));
+        assertEquals("a0V", FractionalSortKey.between("a0", "a1"));
+        assertEquals("b00", FractionalSortKey.between("az", null));
+    }
+
+    @Test
+    void 맨_앞_추가를_반복해도_키가_짧게_유지된다() {
+        String first = FractionalSortKey.between(null, null);
+        for (int i = 0; i < 10_000; i++) {
+            String key = FractionalSortKey.between(null, first);
+            assertTrue(key.compareTo(first) < 0);
+            first = key;
+        }
+        assertTrue(first.length() <= 4, first);
+    }
+
+    @Test
+    void 임의_위치에_넣어도_순서가_유지된다() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            int index = random.nextInt(keys.size() + 1);
+            String before = index == 0 ? null : keys.get(index - 1);
+            String after = index == keys.size() ? null : keys.get(index);
+            String key = FractionalSortKey.between(before, after);
+            assertTrue(FractionalSortKey.isValid(key), key);
+            keys.add(index, key);
+        }
+        for (int i = 1; i < keys.size(); i++) {
+            assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0);
+        }
+    }
+
+    @Test
+    void 여러_개를_한_번에_만든다() {
+        List<String> keys = FractionalSortKey.between("a0", "a1", 50);
+
+        assertEquals(50, keys.size());
+        String previous = "a0";
+        for (String key : keys) {
+            assertTrue(previous.compareTo(key) < 0);
+            previous = key;
+        }
+        assertTrue(previous.compareTo("a1") < 0);
+        assertEquals(List.of("a0", "a1", "a2"), FractionalSortKey.between(null, null, 3));
+    }
+
+    @Test
+    void 잘못된_키나_순서는_거부한다() {
+        assertThrows(IllegalArgumentException.class, () -> FractionalSortKey.between("a1", "a0"));
+        assertThrows(IllegalArgumentException.class, () -> FractionalSortKey.between("a00", null));
+        assertFalse(FractionalSortKey.isValid("!"));
+    }
+}
@@ -0,0 +1,32 @@
+package whatta.Whatta.task.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskCursorTest {
+
+    @Test
+    void 정렬_값과_id를_그대로_복원한다() {
+        String cursor = TaskCursor.encode("a0V", "65f0c0ffee0000000000abcd");
+
+        TaskCursor.Position position = TaskCursor.decode(cursor);
+
+        assertEquals("a0V", position.sortValue());
+        assertEquals("65f0c0ffee0000000000abcd", position.id());
+    }
+
+    @Test
+    void 정렬_값이_없는_항목도_복원한다() {
+        TaskCursor.Position position = TaskCursor.decode(TaskCursor.encode(null, "65f0c0ffee0000000000abcd"));
+
+        assertNull(position.sortValue());
+        assertEquals("65f0c0ffee0000000000abcd", position.id());
+    }
+
+    @Test
+    void 잘못된_커서는_거부한다() {
+        assertThrows(IllegalArgumentException.class, () -> TaskCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> TaskCursor.decode(TaskCursor.encode("a0", "")));
+    }
+}
@@ -0,0 +1,48 @@
+package whatta.Whatta.user.setting.service;
+
+import org.junit.jupiter.api.Test;
+import whatta.Whatta.global.exception.ErrorCode;
+import whatta.Whatta.global.exception.RestApiException;
+import whatta.Whatta.global.label.Label;
+import whatta.Whatta.user.setting.payload.dto.UserLabelsSlim;
+import whatta.Whatta.user.setting.repository.UserSettingRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LabelDictionaryCacheTest {
+
+    private static final String USER_ID = "user-1";
+
+    private final UserSettingRepository userSettingRepository = mock(UserSettingRepository.class);
+    private final LabelDictionaryCache cache = new LabelDictionaryCache(userSettingRepository, 100, 60);
+
+    @Test
+    void 다른_인스턴스에서_삭제된_라벨은_캐시에_남아_있어도_거절한다() {
+        cache.put(USER_ID, List.of(label(1L), label(2L)));
+        UserLabelsSlim stored = () -> List.of(label(1L)); //2번 라벨은 다른 인스턴스에서 삭제됨
+        when(userSettingRepository.findLabelsByUserId(USER_ID)).thenReturn(Optional.of(stored));
+
+        cache.validateLabels(USER_ID, List.of(1L));
+        RestApiException e = assertThrows(RestApiException.class, () -> cache.validateLabels(USER_ID, List.of(2L)));
+
+        assertEquals(ErrorCode.LABEL_NOT_FOUND, e.getErrorCode());
+        //응답 팔레트는 ttl 동안 캐시 값을 그대로 사용
+        assertEquals(2, cache.find(USER_ID).orElseThrow().toItems(List.of(1L, 2L)).size());
+    }
+
+    @Test
+    void 검증할_라벨이_없으면_조회하지_않는다() {
+        cache.validateLabels(USER_ID, null);
+        cache.validateLabels(USER_ID, List.of());
+
+        verifyNoInteractions(userSettingRepository);
+    }
+
+    private static Label label(Long id) {
+        return Label.builder().id(id).title("label" + id).build();
+    }
+}